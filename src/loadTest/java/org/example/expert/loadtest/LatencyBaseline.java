@@ -0,0 +1,79 @@
+package org.example.expert.loadtest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * 저장소에 기록된 p99 기준선 (latency-baseline.properties)
+ * 형식: {@code <operation>.p99.ms=<값>}, 허용 오차는 {@code tolerance} (0.5 = 기준선의 150% 까지 허용)
+ */
+public class LatencyBaseline {
+
+    private static final String P99_SUFFIX = ".p99.ms";
+    private static final double DEFAULT_TOLERANCE = 0.5;
+
+    private final Map<String, Double> p99Millis;
+    private final double tolerance;
+
+    private LatencyBaseline(Map<String, Double> p99Millis, double tolerance) {
+        this.p99Millis = p99Millis;
+        this.tolerance = tolerance;
+    }
+
+    public static LatencyBaseline load(Path file) throws IOException {
+        Properties properties = new Properties();
+        if (Files.exists(file)) {
+            try (Reader reader = Files.newBufferedReader(file)) {
+                properties.load(reader);
+            }
+        }
+        Map<String, Double> p99Millis = new TreeMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.endsWith(P99_SUFFIX)) {
+                p99Millis.put(key.substring(0, key.length() - P99_SUFFIX.length()),
+                        Double.parseDouble(properties.getProperty(key)));
+            }
+        }
+        double tolerance = Double.parseDouble(properties.getProperty("tolerance", String.valueOf(DEFAULT_TOLERANCE)));
+        return new LatencyBaseline(p99Millis, tolerance);
+    }
+
+    /**
+     * 기준선 대비 p99 가 허용 범위를 넘은 요청 목록을 반환한다.
+     */
+    public List<String> findRegressions(Map<String, Double> measuredP99Millis) {
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, Double> entry : measuredP99Millis.entrySet()) {
+            Double baseline = p99Millis.get(entry.getKey());
+            if (baseline == null) {
+                continue;
+            }
+            double limit = baseline * (1 + tolerance);
+            if (entry.getValue() > limit) {
+                regressions.add(String.format("%s p99 %.2fms > 허용치 %.2fms (기준선 %.2fms)",
+                        entry.getKey(), entry.getValue(), limit, baseline));
+            }
+        }
+        return regressions;
+    }
+
+    public void write(Path file, Map<String, Double> measuredP99Millis) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            writer.write("# ./gradlew loadTest -Dloadtest.recordBaseline=true 로 갱신\n");
+            writer.write("tolerance=" + tolerance + "\n");
+            for (Map.Entry<String, Double> entry : new TreeMap<>(measuredP99Millis).entrySet()) {
+                writer.write(entry.getKey() + P99_SUFFIX + "=" + String.format(Locale.ROOT, "%.2f", entry.getValue()) + "\n");
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.expert.loadtest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.client.WeatherClientProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 부하 테스트 중에는 외부 날씨 API 를 호출하지 않도록 고정 값을 돌려주는 WeatherClient 로 교체한다.
+ * 일정 생성(TodoService.saveTodo)은 getTodayWeatherAsync 를 쓰므로 동기, 비동기 조회를 모두 덮어쓴다.
+ */
+@TestConfiguration
+public class LoadTestConfig {
+
+    @Bean
+    @Primary
+    public WeatherClient stubWeatherClient(RestTemplateBuilder builder, MeterRegistry meterRegistry) {
+        return new WeatherClient(builder, new WeatherClientProperties(), meterRegistry) {
+            @Override
+            public String getTodayWeather() {
+                return "Sunny";
+            }
+
+            @Override
+            public CompletableFuture<String> getTodayWeatherAsync() {
+                return CompletableFuture.completedFuture("Sunny");
+            }
+        };
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.expert.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 부하 테스트 실행 설정
+ * 모든 값은 -Dloadtest.* 시스템 프로퍼티로 덮어쓸 수 있다.
+ */
+public class LoadTestSettings {
+
+    private final int ratePerSecond;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int workers;
+    private final int users;
+    private final int todosPerUser;
+    private final Path baselineFile;
+    private final Path reportDir;
+    private final boolean recordBaseline;
+
+    private LoadTestSettings() {
+        this.ratePerSecond = Integer.getInteger("loadtest.rate", 50);
+        this.warmup = Duration.ofSeconds(Integer.getInteger("loadtest.warmupSeconds", 5));
+        this.duration = Duration.ofSeconds(Integer.getInteger("loadtest.durationSeconds", 20));
+        this.workers = Integer.getInteger("loadtest.workers", 32);
+        this.users = Integer.getInteger("loadtest.users", 50);
+        this.todosPerUser = Integer.getInteger("loadtest.todosPerUser", 5);
+        this.baselineFile = Path.of(System.getProperty("loadtest.baselineFile", "src/loadTest/resources/latency-baseline.properties"));
+        this.reportDir = Path.of(System.getProperty("loadtest.reportDir", "build/reports/loadtest"));
+        this.recordBaseline = Boolean.getBoolean("loadtest.recordBaseline");
+    }
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings();
+    }
+
+    public int getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public int getTodosPerUser() {
+        return todosPerUser;
+    }
+
+    public Path getBaselineFile() {
+        return baselineFile;
+    }
+
+    public Path getReportDir() {
+        return reportDir;
+    }
+
+    public boolean isRecordBaseline() {
+        return recordBaseline;
+    }
+}
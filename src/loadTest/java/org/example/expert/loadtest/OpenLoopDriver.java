@@ -0,0 +1,50 @@
+package org.example.expert.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongConsumer;
+
+/**
+ * 고정 도착률(open model)로 작업을 발생시키는 드라이버
+ * 응답이 느려져도 발생 간격은 그대로 유지되고, 지연시간은 의도한 시작 시각부터 측정하므로
+ * 서버가 밀릴 때 대기열에서 보낸 시간까지 기록된다 (coordinated omission 보정).
+ */
+public class OpenLoopDriver {
+
+    private final int ratePerSecond;
+    private final int workers;
+
+    public OpenLoopDriver(int ratePerSecond, int workers) {
+        this.ratePerSecond = ratePerSecond;
+        this.workers = workers;
+    }
+
+    /**
+     * @param duration 부하를 주는 시간
+     * @param action   의도한 시작 시각(nanoTime)을 받아 요청 하나를 수행하는 작업
+     */
+    public void run(Duration duration, LongConsumer action) throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long total = duration.toNanos() / intervalNanos;
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            long start = System.nanoTime();
+            for (long i = 0; i < total; i++) {
+                long intendedStart = start + i * intervalNanos;
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                executor.execute(() -> action.accept(intendedStart));
+            }
+        } finally {
+            executor.shutdown();
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                executor.shutdownNow();
+            }
+        }
+    }
+}
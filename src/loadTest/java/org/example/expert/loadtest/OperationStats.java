@@ -0,0 +1,55 @@
+package org.example.expert.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 종류 하나에 대한 지연시간 히스토그램과 실패 횟수
+ */
+public class OperationStats {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final String name;
+    private final Recorder recorder = new Recorder(MAX_TRACKABLE_NANOS, 3);
+    private final LongAdder errors = new LongAdder();
+    private Histogram accumulated = new Histogram(MAX_TRACKABLE_NANOS, 3);
+
+    public OperationStats(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void recordSuccess(long latencyNanos) {
+        recorder.recordValue(Math.min(latencyNanos, MAX_TRACKABLE_NANOS));
+    }
+
+    public void recordFailure(long latencyNanos) {
+        recordSuccess(latencyNanos);
+        errors.increment();
+    }
+
+    /**
+     * 워밍업 구간에서 쌓인 값을 버린다.
+     */
+    public synchronized void reset() {
+        recorder.reset();
+        errors.reset();
+        accumulated = new Histogram(MAX_TRACKABLE_NANOS, 3);
+    }
+
+    public synchronized Histogram snapshot() {
+        accumulated.add(recorder.getIntervalHistogram());
+        return accumulated.copy();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+}
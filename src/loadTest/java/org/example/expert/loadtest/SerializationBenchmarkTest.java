@@ -0,0 +1,137 @@
+package org.example.expert.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * GET /todos 한 페이지(기본 100건)를 JSON / CBOR / Smile 로 직렬화했을 때의 크기와 CPU 시간,
+ * 그리고 각각을 gzip 으로 압축했을 때의 크기와 추가 시간을 비교한다.
+ * ObjectMapper 는 스프링 부트와 같은 방식(Jackson2ObjectMapperBuilder, 날짜는 문자열)으로 만든다.
+ *
+ * 결과는 build/reports/loadtest/serialization.txt 에 남긴다.
+ */
+class SerializationBenchmarkTest {
+
+    private static final int PAGE_SIZE = Integer.getInteger("loadtest.serializationPageSize", 100);
+    private static final int ITERATIONS = Integer.getInteger("loadtest.serializationIterations", 500);
+
+    private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+    @Test
+    void 형식별_페이로드_크기와_직렬화_시간을_비교한다() throws IOException {
+        PagedModel<TodoResponse> page = samplePage();
+
+        Map<String, ObjectMapper> formats = new LinkedHashMap<>();
+        formats.put("json", mapper(null));
+        formats.put("cbor", mapper(new CBORFactory()));
+        formats.put("smile", mapper(new SmileFactory()));
+
+        StringBuilder report = new StringBuilder(String.format(Locale.ROOT, "%-6s %10s %10s %14s %14s  (page size: %d)%n",
+                "format", "bytes", "gzip", "serialize(us)", "+gzip(us)", PAGE_SIZE));
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        for (Map.Entry<String, ObjectMapper> format : formats.entrySet()) {
+            ObjectMapper mapper = format.getValue();
+            byte[] raw = mapper.writeValueAsBytes(page);
+            byte[] compressed = gzip(raw);
+
+            // 워밍업 후 측정
+            measure(() -> mapper.writeValueAsBytes(page), ITERATIONS);
+            double serializeMicros = measure(() -> mapper.writeValueAsBytes(page), ITERATIONS);
+            measure(() -> gzip(raw), ITERATIONS);
+            double gzipMicros = measure(() -> gzip(raw), ITERATIONS);
+
+            sizes.put(format.getKey(), raw.length);
+            report.append(String.format(Locale.ROOT, "%-6s %10d %10d %14.1f %14.1f%n",
+                    format.getKey(), raw.length, compressed.length, serializeMicros, gzipMicros));
+        }
+        Files.createDirectories(settings.getReportDir());
+        Files.writeString(settings.getReportDir().resolve("serialization.txt"), report);
+        System.out.println(report);
+
+        assertTrue(sizes.get("cbor") < sizes.get("json"));
+        assertTrue(sizes.get("smile") < sizes.get("json"));
+    }
+
+    private static ObjectMapper mapper(com.fasterxml.jackson.core.JsonFactory factory) {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (factory != null) {
+            builder.factory(factory);
+        }
+        return builder.build();
+    }
+
+    private static PagedModel<TodoResponse> samplePage() {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        List<TodoResponse> todos = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            // 본문은 50 ~ 1,000 자, 같은 문구 반복으로 압축률이 부풀지 않도록 무작위 단어로 채운다
+            String contents = randomText(random, random.nextInt(50, 1_000));
+            todos.add(new TodoResponse((long) i, "할 일 " + i, contents, "Sunny",
+                    new UserResponse((long) random.nextInt(10_000), "user" + i + "@example.com"),
+                    now.minusMinutes(i), now.minusMinutes(i), (long) random.nextInt(5),
+                    random.nextInt(100), 1 + random.nextInt(3)));
+        }
+        return new PagedModel<>(new PageImpl<>(todos, PageRequest.of(0, PAGE_SIZE), 10_000));
+    }
+
+    private static String randomText(SplittableRandom random, int length) {
+        StringBuilder text = new StringBuilder(length + 16);
+        while (text.length() < length) {
+            int wordLength = random.nextInt(2, 9);
+            for (int i = 0; i < wordLength; i++) {
+                // 한글 음절과 영문 소문자를 섞는다
+                text.append(random.nextInt(3) == 0
+                        ? (char) ('a' + random.nextInt(26))
+                        : (char) (0xAC00 + random.nextInt(11_172)));
+            }
+            text.append(' ');
+        }
+        return text.toString();
+    }
+
+    private static byte[] gzip(byte[] raw) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(raw);
+        }
+        return out.toByteArray();
+    }
+
+    private static double measure(Task task, int iterations) throws IOException {
+        long started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - started) / 1_000.0 / iterations;
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        Object run() throws IOException;
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.expert.loadtest;
+
+import org.example.expert.ExpertApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 스키마 준비 방식별 기동 시간 비교
+ * - flyway+validate : 마이그레이션 적용 후 Hibernate 는 검증만 (기본 설정)
+ * - flyway+none     : 마이그레이션만 적용하고 Hibernate 검증 생략
+ * - hibernate-ddl   : Flyway 없이 Hibernate 가 create-drop 으로 스키마 생성 (이전 방식)
+ *
+ * 결과는 build/reports/loadtest/startup.txt 에 남긴다.
+ */
+class StartupTimeBenchmarkTest {
+
+    private static final int ROUNDS = Integer.getInteger("loadtest.startupRounds", 3);
+
+    private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+    @Test
+    void 스키마_준비_방식별_기동_시간을_측정한다() throws IOException {
+        Map<String, String[]> modes = new LinkedHashMap<>();
+        modes.put("flyway+validate", new String[]{"--spring.jpa.hibernate.ddl-auto=validate"});
+        modes.put("flyway+none", new String[]{"--spring.jpa.hibernate.ddl-auto=none"});
+        modes.put("hibernate-ddl", new String[]{"--spring.flyway.enabled=false", "--spring.jpa.hibernate.ddl-auto=create-drop"});
+
+        Map<String, List<Long>> results = new LinkedHashMap<>();
+        modes.keySet().forEach(mode -> results.put(mode, new ArrayList<>()));
+
+        // JIT/클래스 로딩 영향을 줄이기 위해 첫 기동은 버리고, 방식을 번갈아 가며 측정한다
+        start("warmup", modes.get("flyway+validate"));
+        for (int round = 0; round < ROUNDS; round++) {
+            for (Map.Entry<String, String[]> mode : modes.entrySet()) {
+                results.get(mode.getKey()).add(start(mode.getKey() + "-" + round, mode.getValue()));
+            }
+        }
+
+        StringBuilder report = new StringBuilder(String.format(Locale.ROOT, "%-16s %12s %12s%n", "mode", "median(ms)", "min(ms)"));
+        for (Map.Entry<String, List<Long>> result : results.entrySet()) {
+            List<Long> millis = new ArrayList<>(result.getValue());
+            Collections.sort(millis);
+            report.append(String.format(Locale.ROOT, "%-16s %12d %12d%n",
+                    result.getKey(), millis.get(millis.size() / 2), millis.get(0)));
+        }
+        Files.createDirectories(settings.getReportDir());
+        Files.writeString(settings.getReportDir().resolve("startup.txt"), report);
+        System.out.println(report);
+
+        results.values().forEach(millis -> assertTrue(millis.stream().allMatch(ms -> ms > 0)));
+    }
+
+    private long start(String databaseName, String[] modeArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--spring.datasource.url=jdbc:h2:mem:startup-" + databaseName
+        ));
+        Collections.addAll(args, modeArgs);
+
+        long started = System.nanoTime();
+        try (ConfigurableApplicationContext ignored = SpringApplication.run(ExpertApplication.class, args.toArray(String[]::new))) {
+            return (System.nanoTime() - started) / 1_000_000;
+        }
+    }
+}
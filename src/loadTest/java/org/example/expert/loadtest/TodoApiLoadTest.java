@@ -0,0 +1,243 @@
+package org.example.expert.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * H2 위에서 애플리케이션을 띄우고 실제 HTTP 요청을 섞어 고정 도착률로 보낸 뒤
+ * 요청 종류별 p99 를 저장소의 기준선(latency-baseline.properties)과 비교한다.
+ *
+ * 실행: ./gradlew loadTest
+ * 기준선 갱신: ./gradlew loadTest -Dloadtest.recordBaseline=true
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+@Import(LoadTestConfig.class)
+class TodoApiLoadTest {
+
+    private static final String PASSWORD = "Password1";
+    private static final double MAX_ERROR_RATE = 0.01;
+
+    @LocalServerPort
+    private int port;
+
+    private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<SeededUser> users = new ArrayList<>();
+    private final Map<String, OperationStats> stats = new LinkedHashMap<>();
+    private final List<WeightedOperation> mix = new ArrayList<>();
+    private int totalWeight;
+
+    private ApiClient client;
+
+    @Test
+    void 요청별_p99_지연시간이_기준선을_넘지_않는다() throws Exception {
+        client = new ApiClient(port);
+        seed();
+        defineMix();
+
+        OpenLoopDriver driver = new OpenLoopDriver(settings.getRatePerSecond(), settings.getWorkers());
+
+        // 워밍업 구간의 측정값은 버린다
+        driver.run(settings.getWarmup(), this::fireRandomOperation);
+        stats.values().forEach(OperationStats::reset);
+
+        driver.run(settings.getDuration(), this::fireRandomOperation);
+
+        Map<String, Double> p99Millis = new LinkedHashMap<>();
+        long requests = 0;
+        long errors = 0;
+        for (OperationStats operation : stats.values()) {
+            Histogram histogram = operation.snapshot();
+            p99Millis.put(operation.getName(), histogram.getValueAtPercentile(99.0) / 1_000_000.0);
+            requests += histogram.getTotalCount();
+            errors += operation.getErrors();
+        }
+        writeReport();
+
+        LatencyBaseline baseline = LatencyBaseline.load(settings.getBaselineFile());
+        if (settings.isRecordBaseline()) {
+            baseline.write(settings.getBaselineFile(), p99Millis);
+            return;
+        }
+
+        assertTrue(requests > 0, "요청이 한 건도 수행되지 않았습니다.");
+        double errorRate = (double) errors / requests;
+        assertTrue(errorRate <= MAX_ERROR_RATE,
+                String.format(Locale.ROOT, "실패율 %.2f%% 가 허용치 %.2f%% 를 넘었습니다.", errorRate * 100, MAX_ERROR_RATE * 100));
+
+        List<String> regressions = baseline.findRegressions(p99Millis);
+        assertTrue(regressions.isEmpty(), "p99 회귀 발생: " + regressions);
+    }
+
+    /**
+     * 유저 가입, 유저별 할 일 생성, 인접 유저를 담당자로 등록해 부하 대상 데이터를 만든다.
+     */
+    private void seed() {
+        for (int i = 0; i < settings.getUsers(); i++) {
+            String email = "load-user-" + i + "@example.com";
+            ApiClient.Response response = client.post("/auth/signup", null,
+                    Map.of("email", email, "password", PASSWORD, "userRole", "USER"));
+            String token = requireSuccess(response, "signup").json().get("bearerToken").asText();
+            users.add(new SeededUser(extractUserId(token), email, token));
+        }
+
+        for (SeededUser user : users) {
+            for (int i = 0; i < settings.getTodosPerUser(); i++) {
+                ApiClient.Response response = client.post("/todos", user.token,
+                        Map.of("title", "seed todo " + i, "contents", "seed contents " + i));
+                user.todoIds.add(requireSuccess(response, "seed todo").json().get("id").asLong());
+            }
+        }
+
+        for (int i = 0; i < users.size(); i++) {
+            SeededUser owner = users.get(i);
+            SeededUser manager = users.get((i + 1) % users.size());
+            if (owner == manager) {
+                continue;
+            }
+            requireSuccess(client.post("/todos/" + owner.todoIds.get(0) + "/managers", owner.token,
+                    Map.of("managerUserId", manager.id)), "seed manager");
+        }
+    }
+
+    private void defineMix() {
+        addOperation("signin", 10, user -> client.post("/auth/signin", null,
+                Map.of("email", user.email, "password", PASSWORD)));
+        addOperation("createTodo", 15, user -> client.post("/todos", user.token,
+                Map.of("title", "load todo", "contents", "load contents")));
+        addOperation("listTodos", 35, user -> client.get(
+                "/todos?page=" + (1 + ThreadLocalRandom.current().nextInt(5)) + "&size=10", user.token));
+        addOperation("createComment", 15, user -> client.post("/todos/" + user.randomTodoId() + "/comments", user.token,
+                Map.of("contents", "load comment")));
+        addOperation("listComments", 15, user -> client.get("/todos/" + user.randomTodoId() + "/comments", user.token));
+        addOperation("listManagers", 10, user -> client.get("/todos/" + user.randomTodoId() + "/managers", user.token));
+    }
+
+    private void addOperation(String name, int weight, Function<SeededUser, ApiClient.Response> call) {
+        OperationStats operationStats = new OperationStats(name);
+        stats.put(name, operationStats);
+        totalWeight += weight;
+        mix.add(new WeightedOperation(totalWeight, operationStats, call));
+    }
+
+    private void fireRandomOperation(long intendedStartNanos) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int pick = random.nextInt(totalWeight);
+        WeightedOperation operation = mix.get(0);
+        for (WeightedOperation candidate : mix) {
+            if (pick < candidate.cumulativeWeight) {
+                operation = candidate;
+                break;
+            }
+        }
+        SeededUser user = users.get(random.nextInt(users.size()));
+
+        boolean success;
+        try {
+            success = operation.call.apply(user).isSuccessful();
+        } catch (RuntimeException e) {
+            success = false;
+        }
+        long latency = System.nanoTime() - intendedStartNanos;
+        if (success) {
+            operation.stats.recordSuccess(latency);
+        } else {
+            operation.stats.recordFailure(latency);
+        }
+    }
+
+    private void writeReport() throws IOException {
+        Path reportDir = settings.getReportDir();
+        Files.createDirectories(reportDir);
+        try (PrintStream summary = new PrintStream(Files.newOutputStream(reportDir.resolve("summary.txt")), true, StandardCharsets.UTF_8)) {
+            summary.printf(Locale.ROOT, "rate=%d/s duration=%ds workers=%d%n",
+                    settings.getRatePerSecond(), settings.getDuration().toSeconds(), settings.getWorkers());
+            summary.printf(Locale.ROOT, "%-14s %8s %8s %10s %10s %10s %10s%n",
+                    "operation", "count", "errors", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+            for (OperationStats operation : stats.values()) {
+                Histogram histogram = operation.snapshot();
+                summary.printf(Locale.ROOT, "%-14s %8d %8d %10.2f %10.2f %10.2f %10.2f%n",
+                        operation.getName(), histogram.getTotalCount(), operation.getErrors(),
+                        histogram.getValueAtPercentile(50.0) / 1_000_000.0,
+                        histogram.getValueAtPercentile(90.0) / 1_000_000.0,
+                        histogram.getValueAtPercentile(99.0) / 1_000_000.0,
+                        histogram.getMaxValue() / 1_000_000.0);
+                try (PrintStream hgrm = new PrintStream(Files.newOutputStream(reportDir.resolve(operation.getName() + ".hgrm")), true, StandardCharsets.UTF_8)) {
+                    histogram.outputPercentileDistribution(hgrm, 1_000_000.0);
+                }
+            }
+        }
+        System.out.println(Files.readString(reportDir.resolve("summary.txt")));
+    }
+
+    private ApiClient.Response requireSuccess(ApiClient.Response response, String step) {
+        if (!response.isSuccessful()) {
+            throw new IllegalStateException(step + " 실패: status=" + response.getStatus());
+        }
+        return response;
+    }
+
+    private long extractUserId(String bearerToken) {
+        String payload = bearerToken.substring("Bearer ".length()).split("\\.")[1];
+        try {
+            JsonNode claims = objectMapper.readTree(Base64.getUrlDecoder().decode(payload));
+            return Long.parseLong(claims.get("sub").asText());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class SeededUser {
+
+        private final long id;
+        private final String email;
+        private final String token;
+        private final List<Long> todoIds = new ArrayList<>();
+
+        SeededUser(long id, String email, String token) {
+            this.id = id;
+            this.email = email;
+            this.token = token;
+        }
+
+        long randomTodoId() {
+            return todoIds.get(ThreadLocalRandom.current().nextInt(todoIds.size()));
+        }
+    }
+
+    private static class WeightedOperation {
+
+        private final int cumulativeWeight;
+        private final OperationStats stats;
+        private final Function<SeededUser, ApiClient.Response> call;
+
+        WeightedOperation(int cumulativeWeight, OperationStats stats, Function<SeededUser, ApiClient.Response> call) {
+            this.cumulativeWeight = cumulativeWeight;
+            this.stats = stats;
+            this.call = call;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package org.example.expert.loadtest;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.purge.SoftDeletePurgeJob;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 댓글이 많은 일정(기본 10,000건)을 지울 때 두 방식의 소요 시간 비교
+ * - bulk      : TodoService.deleteTodo, 일정/댓글을 UPDATE 한 번씩으로 소프트 삭제
+ * - row-by-row: 이전 CascadeType.REMOVE 와 같은 방식, 댓글을 모두 로딩한 뒤 한 건씩 삭제
+ * 소프트 삭제된 행을 SoftDeletePurgeJob 이 실제로 지우는 시간(요청 경로 밖)도 함께 남긴다.
+ *
+ * 결과는 build/reports/loadtest/todo-delete.txt 에 남긴다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "purge.pause-between-batches=0")
+@ActiveProfiles("loadtest")
+@Import(LoadTestConfig.class)
+class TodoDeleteBenchmarkTest {
+
+    private static final int COMMENTS = Integer.getInteger("loadtest.deleteComments", 10_000);
+    private static final int ROUNDS = Integer.getInteger("loadtest.deleteRounds", 3);
+
+    private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private SoftDeletePurgeJob purgeJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void 댓글이_많은_일정_삭제는_벌크_DELETE_가_한_건씩_삭제보다_빠르다() throws IOException {
+        long userId = insertUser();
+        AuthUser owner = new AuthUser(userId, "delete-bench@example.com", UserRole.USER);
+
+        List<Long> bulk = new ArrayList<>();
+        List<Long> rowByRow = new ArrayList<>();
+
+        // 첫 회차는 JIT/커넥션 준비용으로 버리고, 방식을 번갈아 가며 측정한다
+        deleteInBulk(owner, insertTodoWithComments(userId));
+        deleteRowByRow(insertTodoWithComments(userId));
+        for (int round = 0; round < ROUNDS; round++) {
+            bulk.add(deleteInBulk(owner, insertTodoWithComments(userId)));
+            rowByRow.add(deleteRowByRow(insertTodoWithComments(userId)));
+        }
+
+        long purgeStarted = System.nanoTime();
+        purgeJob.purge(LocalDateTime.now().plusSeconds(1));
+        long purgeMillis = (System.nanoTime() - purgeStarted) / 1_000_000;
+
+        Collections.sort(bulk);
+        Collections.sort(rowByRow);
+        String report = String.format(Locale.ROOT, "%-12s %12s %12s  (comments per todo: %d)%n", "mode", "median(ms)", "min(ms)", COMMENTS)
+                + String.format(Locale.ROOT, "%-12s %12d %12d%n", "bulk", bulk.get(bulk.size() / 2), bulk.get(0))
+                + String.format(Locale.ROOT, "%-12s %12d %12d%n", "row-by-row", rowByRow.get(rowByRow.size() / 2), rowByRow.get(0))
+                + String.format(Locale.ROOT, "purge of %d soft-deleted todos: %d ms%n", ROUNDS + 1, purgeMillis);
+        Files.createDirectories(settings.getReportDir());
+        Files.writeString(settings.getReportDir().resolve("todo-delete.txt"), report);
+        System.out.println(report);
+
+        assertEquals(0, count("comments"));
+        assertEquals(0, count("managers"));
+        assertEquals(0, count("todos"));
+        assertTrue(bulk.get(bulk.size() / 2) < rowByRow.get(rowByRow.size() / 2));
+    }
+
+    private long deleteInBulk(AuthUser owner, long todoId) {
+        long started = System.nanoTime();
+        todoService.deleteTodo(owner, todoId, null);
+        return (System.nanoTime() - started) / 1_000_000;
+    }
+
+    private long deleteRowByRow(long todoId) {
+        long started = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            Todo todo = entityManager.find(Todo.class, todoId);
+            todo.getComments().forEach(entityManager::remove);
+            todo.getManagers().forEach(entityManager::remove);
+            entityManager.remove(todo);
+        });
+        return (System.nanoTime() - started) / 1_000_000;
+    }
+
+    private long insertUser() {
+        return new SimpleJdbcInsert(jdbcTemplate).withTableName("users").usingGeneratedKeyColumns("id")
+                .executeAndReturnKey(Map.of(
+                        "email", "delete-bench@example.com",
+                        "password", "unused",
+                        "user_role", "USER",
+                        "created_at", Timestamp.valueOf(LocalDateTime.now()),
+                        "modified_at", Timestamp.valueOf(LocalDateTime.now())
+                )).longValue();
+    }
+
+    private long insertTodoWithComments(long userId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long todoId = new SimpleJdbcInsert(jdbcTemplate).withTableName("todos").usingGeneratedKeyColumns("id")
+                .executeAndReturnKey(Map.of(
+                        "title", "delete-bench",
+                        "contents", "delete-bench",
+                        "weather", "Sunny",
+                        "user_id", userId,
+                        "created_at", now,
+                        "modified_at", now,
+                        "version", 0L
+                )).longValue();
+        jdbcTemplate.update("INSERT INTO managers (user_id, todo_id) VALUES (?, ?)", userId, todoId);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO comments (contents, user_id, todo_id, created_at, modified_at, version) VALUES (?, ?, ?, ?, ?, 0)",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setString(1, "comment-" + i);
+                        ps.setLong(2, userId);
+                        ps.setLong(3, todoId);
+                        ps.setTimestamp(4, now);
+                        ps.setTimestamp(5, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return COMMENTS;
+                    }
+                });
+        return todoId;
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
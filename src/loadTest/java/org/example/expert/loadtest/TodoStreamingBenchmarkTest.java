@@ -0,0 +1,138 @@
+package org.example.expert.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.seed.BulkDataSeeder;
+import org.example.expert.seed.SeedProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * GET /todos 응답을 만드는 두 방식 비교 (HTTP 를 빼고 서비스 + 직렬화만 측정)
+ * - buffered : Page<TodoResponse> 를 만든 뒤 PagedModel 로 한 번에 직렬화 (CBOR/Smile 경로)
+ * - streaming: TodoService.writeTodos, 행을 읽는 대로 JsonGenerator 로 바로 쓴다 (JSON 경로)
+ * 첫 바이트까지의 시간, 전체 시간, 요청 스레드가 할당한 바이트를 page size 별로 남긴다.
+ *
+ * 결과는 build/reports/loadtest/todo-streaming.txt 에 남긴다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("loadtest")
+@Import(LoadTestConfig.class)
+class TodoStreamingBenchmarkTest {
+
+    private static final int[] SIZES = {100, 1_000, 10_000};
+    private static final int ROUNDS = Integer.getInteger("loadtest.streamingRounds", 5);
+
+    private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM managers");
+        jdbcTemplate.update("DELETE FROM todos");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void 스트리밍은_첫_바이트가_빠르고_할당량이_size_에_덜_민감하다() throws IOException {
+        SeedProperties properties = new SeedProperties();
+        properties.setUsers(1_000);
+        properties.setTodos(SIZES[SIZES.length - 1]);
+        properties.setComments(0);
+        new BulkDataSeeder(jdbcTemplate, new PasswordEncoder(), properties).seed();
+
+        StringBuilder report = new StringBuilder(String.format(Locale.ROOT, "%-10s %7s %10s %10s %12s%n",
+                "mode", "size", "ttfb(ms)", "total(ms)", "alloc(KB)"));
+        Result bufferedLargest = null;
+        Result streamingLargest = null;
+        for (int size : SIZES) {
+            Result buffered = median(size, true);
+            Result streaming = median(size, false);
+            report.append(buffered.format("buffered", size)).append(streaming.format("streaming", size));
+            bufferedLargest = buffered;
+            streamingLargest = streaming;
+        }
+        Files.createDirectories(settings.getReportDir());
+        Files.writeString(settings.getReportDir().resolve("todo-streaming.txt"), report);
+        System.out.println(report);
+
+        assertTrue(streamingLargest.ttfbMillis < bufferedLargest.ttfbMillis);
+    }
+
+    private Result median(int size, boolean buffered) throws IOException {
+        run(size, buffered);  // 워밍업
+        Result[] results = new Result[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            results[i] = run(size, buffered);
+        }
+        java.util.Arrays.sort(results, java.util.Comparator.comparingDouble(result -> result.totalMillis));
+        return results[ROUNDS / 2];
+    }
+
+    private Result run(int size, boolean buffered) throws IOException {
+        long thread = Thread.currentThread().getId();
+        FirstByteStream out = new FirstByteStream();
+        long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+        long started = System.nanoTime();
+        if (buffered) {
+            objectMapper.writeValue(out, new PagedModel<>(todoService.getTodos(1, size)));
+        } else {
+            todoService.writeTodos(PageRequest.of(0, size), out);
+        }
+        long finished = System.nanoTime();
+        long allocated = threads.getThreadAllocatedBytes(thread) - allocatedBefore;
+        return new Result((out.firstByteAt - started) / 1e6, (finished - started) / 1e6, allocated / 1024);
+    }
+
+    private record Result(double ttfbMillis, double totalMillis, long allocatedKb) {
+        String format(String mode, int size) {
+            return String.format(Locale.ROOT, "%-10s %7d %10.1f %10.1f %12d%n", mode, size, ttfbMillis, totalMillis, allocatedKb);
+        }
+    }
+
+    // 버퍼링 없이 버리되, 첫 바이트가 들어온 시각만 기록한다
+    private static class FirstByteStream extends OutputStream {
+
+        long firstByteAt;
+
+        @Override
+        public void write(int b) {
+            mark();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            mark();
+        }
+
+        private void mark() {
+            if (firstByteAt == 0) {
+                firstByteAt = System.nanoTime();
+            }
+        }
+    }
+}
@@ -1,30 +1,310 @@
 package org.example.expert.client;
 
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.async.methods.AbstractBinResponseConsumer;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.nio.support.AsyncRequestBuilder;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
+/**
+ * 날씨 API 클라이언트
+ * - 커넥션 풀(maxConnections)과 connect/read 타임아웃이 있는 Apache HttpClient 로 호출한다
+ * - 벌크헤드가 동시 호출 수를 제한하고, 서킷 브레이커가 연속 실패 시 호출을 끊는다
+ * - 서킷이 열렸거나 벌크헤드가 가득 차면 호출하지 않고 fallback(마지막으로 받은 오늘 날씨, 없으면 fallbackWeather)을 돌려준다
+ * - 호출이 실패해도 마지막으로 받은 데이터셋에 오늘 날씨가 있으면 그 값으로 응답하고, 없을 때만 ServerException 으로 알린다
+ * - 마지막으로 받은 데이터셋은 WeatherSnapshotStore 로 파일에 남기고 생성 시점(첫 요청 전)에 읽어 둔다
+ * 같은 날짜를 동시에 조회하면 업스트림 요청 하나만 보내고 나머지 호출은 그 결과(예외 포함)를 함께 받는다 (single-flight)
+ * getTodayWeatherAsync 는 non-blocking HTTP 클라이언트로 호출해 호출 스레드를 막지 않고, 응답 본문을 도착하는 대로 디코딩한다
+ */
+@Slf4j
 @Component
-public class WeatherClient {
+public class WeatherClient implements DisposableBean {
 
     private final RestTemplate restTemplate;
+    private final CloseableHttpClient httpClient;
+    private final CloseableHttpAsyncClient asyncClient;
+    private final WeatherClientProperties properties;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Function<String, String> guardedCall;
 
-    public WeatherClient(RestTemplateBuilder builder) {
+    // 날짜별로 진행 중인 업스트림 요청, 요청이 끝나면 바로 지운다 (결과를 캐시하지 않는다)
+    private final ConcurrentMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaderCalls;
+    private final Counter coalescedCalls;
+
+    // 마지막으로 끝까지 받은 날씨 데이터셋(날짜 -> 날씨), fallback 에 쓴다
+    private final WeatherSnapshotStore snapshotStore;
+    private volatile Map<String, String> dataset;
+
+    public WeatherClient(RestTemplateBuilder builder, WeatherClientProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.httpClient = createHttpClient(properties);
         this.restTemplate = builder.build();
+        this.restTemplate.setRequestFactory(new HttpComponentsClientHttpRequestFactory(httpClient));
+        this.asyncClient = createAsyncClient(properties);
+        this.asyncClient.start();
+        this.snapshotStore = new WeatherSnapshotStore(properties.getSnapshotPath());
+        this.dataset = snapshotStore.load();
+
+        this.circuitBreaker = CircuitBreaker.of("weather", circuitBreakerConfig(properties.getCircuitBreaker()));
+        this.circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("날씨 API 서킷 상태 변경: {}", event.getStateTransition()));
+        this.bulkhead = Bulkhead.of("weather", BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.getBulkhead().getMaxConcurrentCalls())
+                .maxWaitDuration(properties.getBulkhead().getMaxWait())
+                .build());
+        // 서킷 브레이커 안쪽에서 벌크헤드를 적용하고, 벌크헤드가 가득 찬 것은 업스트림 실패로 세지 않는다
+        this.guardedCall = CircuitBreaker.decorateFunction(circuitBreaker,
+                Bulkhead.decorateFunction(bulkhead, this::fetchWeather));
+
+        this.leaderCalls = Counter.builder("weather.client.calls")
+                .description("업스트림 요청을 직접 보낸 호출 수")
+                .tag("flight", "leader")
+                .register(meterRegistry);
+        this.coalescedCalls = Counter.builder("weather.client.calls")
+                .description("진행 중인 요청의 결과를 함께 받은 호출 수")
+                .tag("flight", "coalesced")
+                .register(meterRegistry);
     }
 
     public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+        String today = getCurrentDate();
+        CompletableFuture<String> flight = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(today, flight);
+        if (existing != null) {
+            coalescedCalls.increment();
+            return await(existing);
+        }
+
+        leaderCalls.increment();
+        try {
+            String weather = guardedWeather(today);
+            flight.complete(weather);
+            return weather;
+        } catch (Throwable e) {
+            // Error 도 넘겨야 이미 합류해 join() 중인 호출이 영영 기다리지 않는다
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(today, flight);
+        }
+    }
+
+    /**
+     * 호출 스레드를 막지 않는 오늘 날씨 조회
+     * 동기 조회와 같은 single-flight, 서킷 브레이커, 벌크헤드, fallback 을 따르고 실패는 ServerException 으로 끝난다
+     */
+    public CompletableFuture<String> getTodayWeatherAsync() {
+        String today = getCurrentDate();
+        CompletableFuture<String> flight = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(today, flight);
+        if (existing != null) {
+            coalescedCalls.increment();
+            return existing.copy();
+        }
+
+        leaderCalls.increment();
+        guardedWeatherAsync(today).whenComplete((weather, e) -> {
+            inFlight.remove(today, flight);
+            if (e != null) {
+                flight.completeExceptionally(unwrap(e));
+            } else {
+                flight.complete(weather);
+            }
+        });
+        return flight.copy();
+    }
+
+    /**
+     * 날씨 피드를 내려받으며 원소가 완성될 때마다 handler 에 넘긴다, 피드 전체를 메모리에 모으지 않는다
+     * handler 가 false 를 돌려주면 그 자리에서 완료된다
+     * handler 는 HTTP I/O 스레드에서 불리므로 막히는 작업을 하면 안 된다
+     */
+    public CompletableFuture<Void> readWeatherFeed(Predicate<WeatherDto> handler) {
+        return guarded(() -> fetchFeed(handler)).exceptionally(e -> {
+            Throwable cause = unwrap(e);
+            if (cause instanceof CallNotPermittedException || cause instanceof BulkheadFullException) {
+                throw new ServerException("날씨 API 를 잠시 호출할 수 없습니다.");
+            }
+            throw propagate(cause);
+        });
+    }
+
+    /**
+     * getTodayWeatherAsync 의 결과를 기다린다, 실패하면 조회가 던진 예외(ServerException 등)를 그대로 던진다
+     */
+    public static String await(CompletableFuture<String> weather) {
+        try {
+            return weather.join();
+        } catch (CompletionException e) {
+            throw propagate(e);
+        }
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private String guardedWeather(String today) {
+        try {
+            return guardedCall.apply(today);
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            return fallback(today);
+        } catch (WeatherApiException e) {
+            return knownWeather(today, e);
+        }
+    }
+
+    /**
+     * 오늘 원소를 받는 즉시 결과를 완료하고, 데이터셋을 남기기 위해 나머지 본문도 끝까지 디코딩한다
+     */
+    private CompletableFuture<String> guardedWeatherAsync(String today) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        Map<String, String> received = new LinkedHashMap<>();
+        Predicate<WeatherDto> collect = weatherDto -> {
+            if (weatherDto.getDate() != null && weatherDto.getWeather() != null) {
+                received.put(weatherDto.getDate(), weatherDto.getWeather());
+            }
+            if (today.equals(weatherDto.getDate())) {
+                result.complete(weatherDto.getWeather());
+            }
+            return true;
+        };
+        guarded(() -> fetchFeed(collect)).whenComplete((ignored, e) -> {
+            if (e != null) {
+                Throwable cause = unwrap(e);
+                if (cause instanceof CallNotPermittedException || cause instanceof BulkheadFullException) {
+                    result.complete(fallback(today));
+                } else if (cause instanceof WeatherApiException apiException) {
+                    completeWith(result, () -> knownWeather(today, apiException));
+                } else {
+                    result.completeExceptionally(cause);
+                }
+                return;
+            }
+            if (received.isEmpty()) {
+                result.completeExceptionally(new ServerException("날씨 데이터가 없습니다."));
+                return;
+            }
+            remember(received);
+            result.completeExceptionally(new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다."));
+        });
+        return result;
+    }
+
+    private static void completeWith(CompletableFuture<String> result, Supplier<String> weather) {
+        try {
+            result.complete(weather.get());
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private <T> CompletableFuture<T> guarded(Supplier<CompletionStage<T>> call) {
+        return CircuitBreaker.decorateCompletionStage(circuitBreaker,
+                Bulkhead.decorateCompletionStage(bulkhead, call)).get().toCompletableFuture();
+    }
+
+    private CompletableFuture<Void> fetchFeed(Predicate<WeatherDto> handler) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        asyncClient.execute(
+                AsyncRequestBuilder.get(buildWeatherApiUri()).build(),
+                new WeatherFeedConsumer(new WeatherFeedDecoder(handler), done),
+                new FutureCallback<>() {
+                    @Override
+                    public void completed(Void result) {
+                        done.complete(null);
+                    }
+
+                    @Override
+                    public void failed(Exception e) {
+                        // 타임아웃, 연결 실패, 5xx, 잘못된 JSON 등 (서킷 브레이커가 실패로 센다)
+                        done.completeExceptionally(new WeatherApiException("날씨 API 호출에 실패했습니다.", e));
+                    }
+
+                    @Override
+                    public void cancelled() {
+                        done.completeExceptionally(new WeatherApiException("날씨 API 호출이 취소되었습니다.", null));
+                    }
+                });
+        return done;
+    }
+
+    private static RuntimeException propagate(Throwable e) {
+        Throwable cause = unwrap(e);
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return cause instanceof RuntimeException runtime ? runtime : new CompletionException(cause);
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        // 먼저 요청한 호출이 받은 예외를 그대로 돌려준다
+        while (e instanceof CompletionException && e.getCause() != null) {
+            e = e.getCause();
+        }
+        return e;
+    }
+
+    private String fetchWeather(String today) {
+        ResponseEntity<WeatherDto[]> responseEntity;
+        try {
+            responseEntity = restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+        } catch (RestClientException e) {
+            // 타임아웃, 연결 실패, 5xx 등 (서킷 브레이커가 실패로 센다)
+            throw new WeatherApiException("날씨 API 호출에 실패했습니다.", e);
+        }
 
         WeatherDto[] weatherArray = responseEntity.getBody();
         // 상태 코드가 OK가 아니면 즉시 예외를 던짐
@@ -37,7 +317,13 @@ public class WeatherClient {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
 
-        String today = getCurrentDate();
+        Map<String, String> received = new LinkedHashMap<>();
+        for (WeatherDto weatherDto : weatherArray) {
+            if (weatherDto.getDate() != null && weatherDto.getWeather() != null) {
+                received.put(weatherDto.getDate(), weatherDto.getWeather());
+            }
+        }
+        remember(received);
 
         for (WeatherDto weatherDto : weatherArray) {
             if (today.equals(weatherDto.getDate())) {
@@ -48,10 +334,38 @@ public class WeatherClient {
         throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
     }
 
+    private String fallback(String today) {
+        return dataset.getOrDefault(today, properties.getFallbackWeather());
+    }
+
+    /**
+     * 업스트림 호출이 실패했을 때 마지막 데이터셋의 오늘 날씨로 응답한다, 없으면 실패를 그대로 알린다
+     */
+    private String knownWeather(String today, WeatherApiException e) {
+        String known = dataset.get(today);
+        if (known == null) {
+            throw e;
+        }
+        log.warn("날씨 API 호출에 실패해 저장된 날씨로 응답합니다. date={}, cause={}", today, String.valueOf(e.getCause()));
+        return known;
+    }
+
+    /**
+     * 끝까지 받은 데이터셋으로 교체하고, 바뀌었을 때만 파일에 쓴다 (보통 배포 후 첫 호출이나 데이터가 갱신됐을 때)
+     * 비동기 조회는 flight 를 끝낸 뒤 I/O 스레드에서 부르므로 다음 flight 와 겹칠 수 있다, 비교/교체/저장을 한 번에 하나씩 한다
+     */
+    private synchronized void remember(Map<String, String> received) {
+        if (received.isEmpty() || received.equals(dataset)) {
+            return;
+        }
+        dataset = Collections.unmodifiableMap(received);
+        snapshotStore.save(received);
+    }
+
     private URI buildWeatherApiUri() {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
-                .path("/f-api/weather.json")
+                .fromUriString(properties.getBaseUrl())
+                .path(properties.getPath())
                 .encode()
                 .build()
                 .toUri();
@@ -61,4 +375,123 @@ public class WeatherClient {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
         return LocalDate.now().format(formatter);
     }
+
+    @Override
+    public void destroy() throws IOException {
+        httpClient.close();
+        asyncClient.close(CloseMode.GRACEFUL);
+    }
+
+    private static CloseableHttpClient createHttpClient(WeatherClientProperties properties) {
+        Timeout connectTimeout = Timeout.of(properties.getConnectTimeout());
+        Timeout readTimeout = Timeout.of(properties.getReadTimeout());
+        return HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(properties.getMaxConnections())
+                        .setMaxConnPerRoute(properties.getMaxConnections())
+                        .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                .setConnectTimeout(connectTimeout)
+                                .setSocketTimeout(readTimeout)
+                                .build())
+                        .build())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        // 풀에서 커넥션을 기다리는 시간도 제한한다
+                        .setConnectionRequestTimeout(connectTimeout)
+                        .setResponseTimeout(readTimeout)
+                        .build())
+                // 재시도는 서킷 브레이커가 판단한다, 장애 중에 숨은 재시도로 호출을 늘리지 않는다
+                .disableAutomaticRetries()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
+    private static CloseableHttpAsyncClient createAsyncClient(WeatherClientProperties properties) {
+        Timeout connectTimeout = Timeout.of(properties.getConnectTimeout());
+        Timeout readTimeout = Timeout.of(properties.getReadTimeout());
+        return HttpAsyncClients.custom()
+                .setConnectionManager(PoolingAsyncClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(properties.getMaxConnections())
+                        .setMaxConnPerRoute(properties.getMaxConnections())
+                        .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                .setConnectTimeout(connectTimeout)
+                                .setSocketTimeout(readTimeout)
+                                .build())
+                        .build())
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(connectTimeout)
+                        .setResponseTimeout(readTimeout)
+                        .build())
+                .disableAutomaticRetries()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
+    private static CircuitBreakerConfig circuitBreakerConfig(WeatherClientProperties.CircuitBreaker properties) {
+        return CircuitBreakerConfig.custom()
+                .failureRateThreshold(properties.getFailureRateThreshold())
+                .slidingWindowSize(properties.getSlidingWindowSize())
+                .minimumNumberOfCalls(properties.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(properties.getOpenDuration())
+                .permittedNumberOfCallsInHalfOpenState(properties.getPermittedCallsInHalfOpenState())
+                .automaticTransitionFromOpenToHalfOpenEnabled(false)
+                // 업스트림 장애만 실패로 센다 (응답은 왔지만 오늘 날씨가 없는 경우 등은 제외)
+                .recordExceptions(WeatherApiException.class)
+                .build();
+    }
+
+    /**
+     * 응답 본문을 받은 청크 그대로 WeatherFeedDecoder 에 넘긴다
+     * 디코더가 멈추면(원하는 원소를 찾으면) 본문 끝을 기다리지 않고 done 을 완료하고, 남은 바이트는 버린다
+     */
+    @RequiredArgsConstructor
+    private static class WeatherFeedConsumer extends AbstractBinResponseConsumer<Void> {
+
+        private static final int CHUNK_SIZE = 8 * 1024;
+
+        private final WeatherFeedDecoder decoder;
+        private final CompletableFuture<Void> done;
+
+        @Override
+        protected void start(HttpResponse response, ContentType contentType) throws HttpException {
+            if (response.getCode() != HttpStatus.OK.value()) {
+                throw new HttpException("날씨 API 응답 상태 코드: " + response.getCode());
+            }
+        }
+
+        @Override
+        protected int capacityIncrement() {
+            return CHUNK_SIZE;
+        }
+
+        @Override
+        protected void data(ByteBuffer src, boolean endOfStream) throws IOException {
+            decoder.feed(src);
+            if (endOfStream) {
+                decoder.endOfInput();
+            }
+            if (decoder.isStopped()) {
+                done.complete(null);
+            }
+        }
+
+        @Override
+        protected Void buildResult() {
+            return null;
+        }
+
+        @Override
+        public void releaseResources() {
+        }
+    }
+
+    /**
+     * 업스트림 호출 자체가 실패한 경우, 서킷 브레이커가 이 예외만 실패로 센다
+     */
+    static class WeatherApiException extends ServerException {
+
+        WeatherApiException(String message, Throwable cause) {
+            super(message);
+            initCause(cause);
+        }
+    }
 }
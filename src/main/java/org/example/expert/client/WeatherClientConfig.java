@@ -0,0 +1,9 @@
+package org.example.expert.client;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(WeatherClientProperties.class)
+public class WeatherClientConfig {
+}
@@ -0,0 +1,58 @@
+package org.example.expert.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 날씨 API 호출 설정
+ * ex) --weather.read-timeout=1s --weather.circuit-breaker.open-duration=1m
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "weather")
+public class WeatherClientProperties {
+
+    private String baseUrl = "https://f-api.github.io";
+    private String path = "/f-api/weather.json";
+
+    private Duration connectTimeout = Duration.ofSeconds(1);
+    // 응답을 기다리는 최대 시간, 이 시간 동안 POST /todos 요청 스레드가 묶인다
+    private Duration readTimeout = Duration.ofSeconds(2);
+    private int maxConnections = 20;
+
+    // 업스트림을 쓸 수 없을 때(서킷 오픈, 벌크헤드 가득 참) 마지막으로 받은 오늘 날씨가 없으면 쓰는 값
+    private String fallbackWeather = "Unknown";
+
+    // 마지막으로 받은 날씨 데이터셋을 남길 파일, 비우면 저장하지 않는다 (WeatherSnapshotStore)
+    private Path snapshotPath;
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Bulkhead bulkhead = new Bulkhead();
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        // 최근 slidingWindowSize 건 중 실패율이 이 비율(%) 이상이면 연다 (최소 minimumNumberOfCalls 건 이후)
+        private float failureRateThreshold = 50;
+        private int slidingWindowSize = 20;
+        private int minimumNumberOfCalls = 10;
+        // 열린 뒤 이 시간이 지나면 permittedCallsInHalfOpenState 건만 시험 삼아 보낸다
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int permittedCallsInHalfOpenState = 3;
+    }
+
+    @Getter
+    @Setter
+    public static class Bulkhead {
+
+        // 업스트림으로 동시에 나가는 호출 수 상한
+        private int maxConcurrentCalls = 10;
+        // 자리가 날 때까지 기다리는 시간, 0 이면 바로 fallback
+        private Duration maxWait = Duration.ZERO;
+    }
+}
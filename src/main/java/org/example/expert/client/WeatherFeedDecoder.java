@@ -0,0 +1,120 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import org.example.expert.client.dto.WeatherDto;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Predicate;
+
+/**
+ * 날씨 API 의 JSON 배열([{"date": "..", "weather": ".."}, ...])을 도착한 바이트만큼 이어서 디코딩한다
+ * - 원소 하나가 완성될 때마다 handler 에 넘기고, 배열 전체를 메모리에 모으지 않는다
+ * - handler 가 false 를 돌려주면 디코딩을 멈추고 남은 입력은 버린다
+ * 청크 경계가 토큰/UTF-8 문자 중간이어도 된다 (Jackson non-blocking 파서)
+ */
+public class WeatherFeedDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonParser parser;
+    private final ByteBufferFeeder feeder;
+    private final Predicate<WeatherDto> handler;
+
+    // 0: 배열 밖, 1: 배열 안(원소 사이), 2: 원소 객체 안, 3 이상: 원소 안의 중첩 값
+    private int depth;
+    private boolean arrayClosed;
+    private boolean stopped;
+    private String fieldName;
+    private String date;
+    private String weather;
+
+    public WeatherFeedDecoder(Predicate<WeatherDto> handler) {
+        try {
+            this.parser = JSON_FACTORY.createNonBlockingByteBufferParser();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+        this.handler = handler;
+    }
+
+    public void feed(ByteBuffer chunk) throws IOException {
+        if (stopped) {
+            chunk.position(chunk.limit());
+            return;
+        }
+        feeder.feedInput(chunk);
+        drain();
+        // 파서가 청크를 모두 읽었으므로 호출자에게 소비했다고 알린다
+        chunk.position(chunk.limit());
+    }
+
+    public void endOfInput() throws IOException {
+        if (stopped) {
+            return;
+        }
+        feeder.endOfInput();
+        drain();
+        if (!arrayClosed) {
+            throw new IOException("날씨 응답이 중간에 끊겼습니다.");
+        }
+    }
+
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while (!stopped && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            switch (depth) {
+                case 0 -> {
+                    if (token != JsonToken.START_ARRAY || arrayClosed) {
+                        throw new IOException("날씨 응답이 JSON 배열이 아닙니다.");
+                    }
+                    depth = 1;
+                }
+                case 1 -> {
+                    if (token == JsonToken.END_ARRAY) {
+                        depth = 0;
+                        arrayClosed = true;
+                    } else if (token == JsonToken.START_OBJECT) {
+                        depth = 2;
+                        date = null;
+                        weather = null;
+                    } else {
+                        throw new IOException("날씨 응답의 원소가 객체가 아닙니다.");
+                    }
+                }
+                case 2 -> onElementToken(token);
+                default -> {
+                    // 모르는 중첩 값은 건너뛴다
+                    if (token.isStructStart()) {
+                        depth++;
+                    } else if (token.isStructEnd()) {
+                        depth--;
+                    }
+                }
+            }
+        }
+    }
+
+    private void onElementToken(JsonToken token) throws IOException {
+        if (token == JsonToken.FIELD_NAME) {
+            fieldName = parser.currentName();
+        } else if (token == JsonToken.END_OBJECT) {
+            depth = 1;
+            stopped = !handler.test(new WeatherDto(date, weather));
+        } else if (token.isStructStart()) {
+            depth++;
+        } else if ("date".equals(fieldName)) {
+            date = parser.getValueAsString();
+        } else if ("weather".equals(fieldName)) {
+            weather = parser.getValueAsString();
+        }
+    }
+}
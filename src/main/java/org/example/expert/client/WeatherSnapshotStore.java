@@ -0,0 +1,115 @@
+package org.example.expert.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 마지막으로 받은 날씨 데이터셋(날짜 -> 날씨)을 로컬 파일에 저장하고 기동 시 다시 읽는다
+ * 업스트림이 죽은 채로 기동해도 저장된 날씨로 할 일을 만들 수 있게 한다
+ *
+ * 파일 형식 (DataOutputStream, big-endian)
+ * magic(int) version(short) savedAt(long, epoch millis) count(int) [date(UTF) weather(UTF)] * count
+ * 저장할 때마다 따로 만든 임시 파일에 쓴 뒤 rename 하므로 읽는 쪽은 완성된 파일만 보고, 동시에 저장해도 서로의 내용이 섞이지 않는다
+ */
+@Slf4j
+public class WeatherSnapshotStore {
+
+    private static final int MAGIC = 0x57534E50; // "WSNP"
+    private static final short VERSION = 1;
+
+    // null 이면 파일에 저장하지 않는다
+    private final Path path;
+
+    public WeatherSnapshotStore(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * 저장된 데이터셋, 파일이 없거나 읽을 수 없으면 빈 Map
+     */
+    public Map<String, String> load() {
+        if (path == null || !Files.exists(path)) {
+            return Collections.emptyMap();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+                log.warn("날씨 스냅샷 형식이 달라 무시합니다. path={}", path);
+                return Collections.emptyMap();
+            }
+            Instant savedAt = Instant.ofEpochMilli(in.readLong());
+            int count = in.readInt();
+            Map<String, String> dataset = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                dataset.put(in.readUTF(), in.readUTF());
+            }
+            log.info("날씨 스냅샷을 읽었습니다. path={}, entries={}, age={}",
+                    path, count, Duration.between(savedAt, Instant.now()));
+            return Collections.unmodifiableMap(dataset);
+        } catch (IOException e) {
+            log.warn("날씨 스냅샷을 읽지 못해 무시합니다. path={}", path, e);
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * 데이터셋을 저장한다, 실패해도 요청을 실패시키지 않고 경고만 남긴다
+     */
+    public void save(Map<String, String> dataset) {
+        if (path == null) {
+            return;
+        }
+        Path dir = path.toAbsolutePath().getParent();
+        Path tmp = null;
+        try {
+            Files.createDirectories(dir);
+            tmp = Files.createTempFile(dir, path.getFileName() + ".", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeShort(VERSION);
+                out.writeLong(System.currentTimeMillis());
+                out.writeInt(dataset.size());
+                for (Map.Entry<String, String> entry : dataset.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeUTF(entry.getValue());
+                }
+            }
+            move(tmp);
+        } catch (IOException e) {
+            log.warn("날씨 스냅샷을 저장하지 못했습니다. path={}", path, e);
+            deleteQuietly(tmp);
+        }
+    }
+
+    private static void deleteQuietly(Path tmp) {
+        if (tmp == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tmp);
+        } catch (IOException e) {
+            log.debug("날씨 스냅샷 임시 파일을 지우지 못했습니다. path={}", tmp, e);
+        }
+    }
+
+    private void move(Path tmp) throws IOException {
+        try {
+            Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -22,7 +22,8 @@ public class AdminAccessLoggingAspect {
     // Around 대상 메서드에 실행 전과 후 모두에서 로직을 실행할수 있고
     // ProceedingJoinPoint 메서드를 통해 직접 호출 할수 있는 가장 강력한 어드바이스로써 메서드 실행 전후로 로직에 넣을 수 있다.
     @Around("execution(* org.example.expert.domain.comment.controller.CommentAdminController.*(..)) || " +
-            "execution(* org.example.expert.domain.user.controller.UserAdminController.*(..))")
+            "execution(* org.example.expert.domain.user.controller.UserAdminController.*(..)) || " +
+            "execution(* org.example.expert.domain.auth.controller.BulkSignupController.*(..))")
     public Object logAdminAccess(ProceedingJoinPoint joinPoint) throws Throwable {
         // 요청 정보 가지고 오기
         HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest();
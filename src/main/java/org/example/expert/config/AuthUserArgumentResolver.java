@@ -4,7 +4,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
-import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.springframework.core.MethodParameter;
 import org.springframework.lang.Nullable;
 import org.springframework.web.bind.support.WebDataBinderFactory;
@@ -36,11 +36,12 @@ public class AuthUserArgumentResolver implements HandlerMethodArgumentResolver {
     ) {
         HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
 
-        // JwtFilter 에서 set 한 userId, email, userRole 값을 가져옴
-        Long userId = (Long) request.getAttribute("userId");
-        String email = (String) request.getAttribute("email");
-        UserRole userRole = UserRole.of((String) request.getAttribute("role"));
-
-        return new AuthUser(userId, email, userRole);
+        // JwtFilter 에서 set 한 AuthUser 를 그대로 반환
+        AuthUser authUser = AuthUserContext.get(request);
+        // 필터를 거치지 않아 인증 정보가 없는 경우 토큰 누락과 같이 400 으로 처리
+        if (authUser == null) {
+            throw new InvalidRequestException("JWT 토큰이 필요합니다.");
+        }
+        return authUser;
     }
 }
@@ -0,0 +1,24 @@
+package org.example.expert.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.example.expert.domain.common.dto.AuthUser;
+
+/**
+ * JwtFilter 가 인증한 사용자를 요청 범위에 보관하는 홀더
+ * 필터에서 한 번 만든 AuthUser 를 그대로 ArgumentResolver 가 꺼내 쓴다.
+ */
+public final class AuthUserContext {
+
+    public static final String ATTRIBUTE_NAME = AuthUserContext.class.getName();
+
+    private AuthUserContext() {
+    }
+
+    public static void set(HttpServletRequest request, AuthUser authUser) {
+        request.setAttribute(ATTRIBUTE_NAME, authUser);
+    }
+
+    public static AuthUser get(HttpServletRequest request) {
+        return (AuthUser) request.getAttribute(ATTRIBUTE_NAME);
+    }
+}
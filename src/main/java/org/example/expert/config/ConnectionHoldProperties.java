@@ -0,0 +1,21 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 커넥션 점유 시간 로그 설정
+ * ex) --connection-hold.threshold=500ms
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "connection-hold")
+public class ConnectionHoldProperties {
+
+    private boolean enabled = true;
+    // 커넥션을 이보다 오래 잡고 있다가 반납하면 점유한 서비스 메서드와 함께 경고 로그를 남긴다
+    private Duration threshold = Duration.ofSeconds(1);
+}
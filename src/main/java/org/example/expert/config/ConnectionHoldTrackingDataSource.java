@@ -0,0 +1,77 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 커넥션을 빌려간 서비스 메서드와 점유 시간을 기록하는 DataSource
+ * - db.connection.hold 타이머 (owner 태그 = ConnectionOwnerAspect 가 기록한 서비스 메서드)
+ * - threshold 보다 오래 잡았다가 반납하면 경고 로그
+ * HikariCP 의 leak-detection-threshold 는 반납되지 않은 커넥션만 알려주므로, 반납은 했지만 오래 잡은 경우를 여기서 본다
+ */
+@Slf4j
+public class ConnectionHoldTrackingDataSource extends DelegatingDataSource {
+
+    static final String HOLD_METRIC = "db.connection.hold";
+    static final String UNKNOWN_OWNER = "unknown";
+
+    private final ConnectionHoldProperties properties;
+    // DataSource 메트릭 바인딩이 DataSource 를 필요로 하므로 MeterRegistry 는 처음 쓸 때 꺼낸다
+    private final Supplier<MeterRegistry> meterRegistry;
+
+    public ConnectionHoldTrackingDataSource(DataSource target, ConnectionHoldProperties properties, Supplier<MeterRegistry> meterRegistry) {
+        super(target);
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private Connection track(Connection connection) {
+        String owner = ConnectionOwnerAspect.currentOwner() != null ? ConnectionOwnerAspect.currentOwner() : UNKNOWN_OWNER;
+        long acquiredAt = System.nanoTime();
+        boolean[] closed = {false};
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && !closed[0]) {
+                        closed[0] = true;
+                        released(owner, System.nanoTime() - acquiredAt);
+                    }
+                    // 풀 구현체를 꺼내려는 unwrap 도 실제 커넥션으로 넘긴다
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    private void released(String owner, long heldNanos) {
+        Timer.builder(HOLD_METRIC)
+                .tag("owner", owner)
+                .register(meterRegistry.get())
+                .record(heldNanos, TimeUnit.NANOSECONDS);
+        long heldMillis = TimeUnit.NANOSECONDS.toMillis(heldNanos);
+        if (heldMillis >= properties.getThreshold().toMillis()) {
+            log.warn("커넥션을 오래 점유했습니다. owner={}, heldMs={}, thread={}", owner, heldMillis, Thread.currentThread().getName());
+        }
+    }
+}
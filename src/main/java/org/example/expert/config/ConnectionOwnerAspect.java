@@ -0,0 +1,39 @@
+package org.example.expert.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 스레드에서 실행 중인 가장 바깥 서비스 메서드를 기록해 둔다.
+ * ConnectionHoldTrackingDataSource 가 커넥션을 빌려줄 때 이 값을 점유자로 남긴다.
+ * 트랜잭션 시작(커넥션 획득)보다 먼저 기록되도록 @Transactional 프록시보다 바깥에서 실행한다
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ConnectionOwnerAspect {
+
+    private static final ThreadLocal<String> OWNER = new ThreadLocal<>();
+
+    public static String currentOwner() {
+        return OWNER.get();
+    }
+
+    @Around("@within(org.springframework.stereotype.Service)")
+    public Object recordOwner(ProceedingJoinPoint joinPoint) throws Throwable {
+        // 서비스가 다른 서비스를 호출하면 바깥 메서드를 점유자로 둔다
+        if (OWNER.get() != null) {
+            return joinPoint.proceed();
+        }
+        OWNER.set(joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            OWNER.remove();
+        }
+    }
+}
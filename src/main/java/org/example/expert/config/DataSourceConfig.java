@@ -0,0 +1,35 @@
+package org.example.expert.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * HikariCP 풀 크기, 타임아웃, 누수 감지는 application.yml 의 spring.datasource.hikari 에서 설정하고,
+ * 여기서는 풀을 ConnectionHoldTrackingDataSource 로 감싸 커넥션 점유자/점유 시간을 남긴다
+ */
+@Configuration
+@EnableConfigurationProperties(ConnectionHoldProperties.class)
+public class DataSourceConfig {
+
+    // 다른 빈보다 먼저 만들어지는 BeanPostProcessor 라 static 으로 두고 의존 빈은 ObjectProvider 로 늦게 꺼낸다
+    @Bean
+    static BeanPostProcessor connectionHoldTrackingPostProcessor(
+            ObjectProvider<ConnectionHoldProperties> properties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && properties.getObject().isEnabled()) {
+                    return new ConnectionHoldTrackingDataSource(dataSource, properties.getObject(), meterRegistry::getObject);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -2,9 +2,13 @@ package org.example.expert.config;
 
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.PreconditionFailedException;
 import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -26,6 +30,33 @@ public class GlobalExceptionHandler {
         return getErrorResponse(status, ex.getMessage());
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<Map<String, Object>> handlePreconditionFailedException(PreconditionFailedException ex) {
+        HttpStatus status = HttpStatus.PRECONDITION_FAILED;
+        return getErrorResponse(status, ex.getMessage());
+    }
+
+    // If-Match 검사 이후 커밋 시점에 다른 요청이 먼저 갱신한 경우
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        HttpStatus status = HttpStatus.PRECONDITION_FAILED;
+        return getErrorResponse(status, "다른 요청이 먼저 수정했습니다. 최신 버전을 조회한 뒤 다시 시도해 주세요.");
+    }
+
+    // 커넥션 풀이 고갈되어 connection-timeout 안에 커넥션을 얻지 못한 경우
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<Map<String, Object>> handleCannotCreateTransactionException(CannotCreateTransactionException ex) {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        return getErrorResponse(status, "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    // 비동기 처리 대기열 등이 가득 차 요청을 받지 못한 경우
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        return getErrorResponse(status, ex.getMessage());
+    }
+
     @ExceptionHandler(ServerException.class)
     public ResponseEntity<Map<String, Object>> handleServerException(ServerException ex) {
         HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
@@ -39,7 +39,6 @@ public class JwtUtil {
 
     public String createToken(Long userId, String email, UserRole role) {
         Date date = new Date();
-        System.out.println(role);
         return BEARER_PREFIX +
                 Jwts.builder()
                         .setSubject(String.valueOf(userId))
@@ -0,0 +1,29 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Accept 헤더로 고를 수 있는 바이너리 응답 형식 (CBOR, Smile).
+ * Spring MVC 기본 컨버터는 JSON 과 설정(날짜 형식 등)이 다른 ObjectMapper 를 쓰므로,
+ * 스프링 부트가 JSON 에 적용한 Jackson 설정을 그대로 쓰는 컨버터로 교체한다.
+ * 기본 컨버터 자리를 대신하므로 Accept 가 없거나 * / * 이면 여전히 JSON 이 선택된다.
+ */
+@Configuration
+public class SerializationConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
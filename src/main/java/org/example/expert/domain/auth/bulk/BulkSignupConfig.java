@@ -0,0 +1,9 @@
+package org.example.expert.domain.auth.bulk;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(BulkSignupProperties.class)
+public class BulkSignupConfig {
+}
@@ -0,0 +1,22 @@
+package org.example.expert.domain.auth.bulk;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 일괄 가입 설정
+ * ex) --bulk-signup.max-batch-size=500 --bulk-signup.hash-threads=4
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bulk-signup")
+public class BulkSignupProperties {
+
+    // 요청 하나에 담을 수 있는 최대 행 수, IN 쿼리와 INSERT 배치 크기도 이 값을 넘지 않는다
+    private int maxBatchSize = 1_000;
+    // 비밀번호 해시는 CPU 만 쓰므로 코어 절반까지만 써서 다른 요청 스레드 몫을 남긴다
+    private int hashThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    // 대기열이 차면 요청 스레드가 직접 해시해 그만큼 늦게 제출한다
+    private int hashQueueCapacity = 10_000;
+}
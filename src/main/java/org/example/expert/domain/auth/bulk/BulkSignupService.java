@@ -0,0 +1,259 @@
+package org.example.expert.domain.auth.bulk;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.response.BulkSignupResponse;
+import org.example.expert.domain.auth.dto.response.BulkSignupResult;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 명을 한 번에 가입시킨다, 한 건씩 signup 을 부르면 행마다 existsByEmail + INSERT 가 uk_users_email 에서 줄을 선다
+ * 1. 행마다 입력을 검증하고 요청 안에서 겹치는 이메일을 거른다 (users.email 의 대소문자 무시 collation 처럼 대소문자, 앞뒤 공백을 무시한다)
+ * 2. 이미 가입된 이메일을 IN 쿼리 한 번으로 찾는다
+ * 3. 남은 행의 비밀번호를 크기가 정해진 풀에서 병렬로 해시한다 (트랜잭션 밖, 커넥션을 잡지 않는다)
+ * 4. 한 트랜잭션에서 JDBC 배치 INSERT 하고 이메일로 id 를 읽어 토큰을 만든다
+ *    배치가 실패하면 (ex. 2 와 4 사이에 다른 요청이 같은 이메일로 가입) 한 행씩 따로 넣어 실패한 행만 결과에 남긴다
+ * 실패한 행은 요청 전체를 거절하지 않고 행 결과에 이유를 담는다
+ */
+@Slf4j
+@Service
+public class BulkSignupService implements DisposableBean {
+
+    private static final String INSERT_USER =
+            "INSERT INTO users (email, password, user_role, created_at, modified_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtUtil jwtUtil;
+    private final Validator validator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BulkSignupProperties properties;
+    private final ThreadPoolExecutor hashPool;
+
+    public BulkSignupService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtUtil jwtUtil,
+                             Validator validator, JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                             BulkSignupProperties properties) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.jwtUtil = jwtUtil;
+        this.validator = validator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.hashPool = new ThreadPoolExecutor(properties.getHashThreads(), properties.getHashThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getHashQueueCapacity()),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public BulkSignupResponse signupAll(List<SignupRequest> users) {
+        if (users.size() > properties.getMaxBatchSize()) {
+            throw new InvalidRequestException("한 번에 " + properties.getMaxBatchSize() + "명까지 가입할 수 있습니다.");
+        }
+        BulkSignupResult[] results = new BulkSignupResult[users.size()];
+
+        List<PendingUser> pending = validate(users, results);
+        pending = rejectExisting(pending, results);
+        pending = hashPasswords(pending, results);
+
+        if (!pending.isEmpty()) {
+            try {
+                Map<String, Long> ids = insert(pending);
+                for (PendingUser user : pending) {
+                    created(user, ids.get(user.getEmail()), results);
+                }
+            } catch (DataAccessException e) {
+                log.info("일괄 가입 배치 INSERT 에 실패해 한 행씩 다시 넣습니다. rows={}", pending.size(), e);
+                for (PendingUser user : pending) {
+                    insertOne(user, results);
+                }
+            }
+        }
+        return new BulkSignupResponse(Arrays.asList(results));
+    }
+
+    @Override
+    public void destroy() {
+        hashPool.shutdown();
+    }
+
+    private List<PendingUser> validate(List<SignupRequest> users, BulkSignupResult[] results) {
+        List<PendingUser> pending = new ArrayList<>(users.size());
+        Set<String> emails = new HashSet<>();
+        for (int i = 0; i < users.size(); i++) {
+            SignupRequest request = users.get(i);
+            if (request == null) {
+                results[i] = BulkSignupResult.failed(i, null, "가입 정보가 없습니다.");
+                continue;
+            }
+            Set<ConstraintViolation<SignupRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                ConstraintViolation<SignupRequest> violation = violations.iterator().next();
+                results[i] = BulkSignupResult.failed(i, request.getEmail(), violation.getPropertyPath() + ": " + violation.getMessage());
+                continue;
+            }
+            UserRole userRole;
+            try {
+                userRole = UserRole.of(request.getUserRole());
+            } catch (InvalidRequestException e) {
+                results[i] = BulkSignupResult.failed(i, request.getEmail(), e.getMessage());
+                continue;
+            }
+            if (!emails.add(normalize(request.getEmail()))) {
+                results[i] = BulkSignupResult.failed(i, request.getEmail(), "요청 안에서 중복된 이메일입니다.");
+                continue;
+            }
+            pending.add(new PendingUser(i, request.getEmail(), request.getPassword(), userRole));
+        }
+        return pending;
+    }
+
+    private List<PendingUser> rejectExisting(List<PendingUser> pending, BulkSignupResult[] results) {
+        if (pending.isEmpty()) {
+            return pending;
+        }
+        // MySQL 에서는 IN 도 collation 을 따라 대소문자가 다른 이메일을 돌려주므로 같은 기준으로 비교한다
+        Set<String> existing = new HashSet<>();
+        for (String email : userRepository.findEmailsByEmailIn(pending.stream().map(PendingUser::getEmail).toList())) {
+            existing.add(normalize(email));
+        }
+        List<PendingUser> remaining = new ArrayList<>(pending.size());
+        for (PendingUser user : pending) {
+            if (existing.contains(normalize(user.getEmail()))) {
+                results[user.getIndex()] = BulkSignupResult.failed(user.getIndex(), user.getEmail(), "이미 존재하는 이메일입니다.");
+            } else {
+                remaining.add(user);
+            }
+        }
+        return remaining;
+    }
+
+    // 중복이 아닌 행만 해시한다, 해시할 수 없는 비밀번호(ex. 72바이트 초과)는 그 행만 실패로 남긴다
+    private List<PendingUser> hashPasswords(List<PendingUser> pending, BulkSignupResult[] results) {
+        List<CompletableFuture<String>> hashes = new ArrayList<>(pending.size());
+        for (PendingUser user : pending) {
+            hashes.add(CompletableFuture.supplyAsync(() -> passwordEncoder.encode(user.getRawPassword()), hashPool));
+        }
+        List<PendingUser> hashed = new ArrayList<>(pending.size());
+        for (int i = 0; i < pending.size(); i++) {
+            PendingUser user = pending.get(i);
+            try {
+                user.encodedPassword = hashes.get(i).join();
+                hashed.add(user);
+            } catch (CompletionException e) {
+                log.debug("비밀번호를 해시하지 못했습니다. index={}", user.getIndex(), e.getCause());
+                results[user.getIndex()] = BulkSignupResult.failed(user.getIndex(), user.getEmail(), "사용할 수 없는 비밀번호입니다.");
+            }
+        }
+        return hashed;
+    }
+
+    // IDENTITY 키라 배치 INSERT 가 생성 키를 돌려주지 않으므로 같은 트랜잭션에서 이메일로 id 를 한 번에 읽는다
+    private Map<String, Long> insert(List<PendingUser> users) {
+        return transactionTemplate.execute(status -> {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> rows = new ArrayList<>(users.size());
+            for (PendingUser user : users) {
+                rows.add(new Object[]{user.getEmail(), user.getEncodedPassword(), user.getUserRole().name(), now, now});
+            }
+            jdbcTemplate.batchUpdate(INSERT_USER, rows);
+
+            String placeholders = String.join(", ", Collections.nCopies(users.size(), "?"));
+            Map<String, Long> ids = new HashMap<>();
+            jdbcTemplate.query("SELECT email, id FROM users WHERE email IN (" + placeholders + ")",
+                    rs -> {
+                        ids.put(rs.getString(1), rs.getLong(2));
+                    },
+                    users.stream().map(PendingUser::getEmail).toArray());
+            return ids;
+        });
+    }
+
+    // 배치가 실패했을 때 행마다 따로 커밋해 한 행의 실패가 다른 행을 되돌리지 않게 한다
+    private void insertOne(PendingUser user, BulkSignupResult[] results) {
+        try {
+            Long id = transactionTemplate.execute(status -> {
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                KeyHolder keyHolder = new GeneratedKeyHolder();
+                jdbcTemplate.update(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(INSERT_USER, new String[]{"id"});
+                    statement.setString(1, user.getEmail());
+                    statement.setString(2, user.getEncodedPassword());
+                    statement.setString(3, user.getUserRole().name());
+                    statement.setTimestamp(4, now);
+                    statement.setTimestamp(5, now);
+                    return statement;
+                }, keyHolder);
+                return keyHolder.getKey().longValue();
+            });
+            created(user, id, results);
+        } catch (DuplicateKeyException e) {
+            results[user.getIndex()] = BulkSignupResult.failed(user.getIndex(), user.getEmail(), "이미 존재하는 이메일입니다.");
+        } catch (DataAccessException e) {
+            log.warn("일괄 가입 중 한 행을 저장하지 못했습니다. index={}", user.getIndex(), e);
+            results[user.getIndex()] = BulkSignupResult.failed(user.getIndex(), user.getEmail(), "가입하지 못했습니다. 다시 시도해 주세요.");
+        }
+    }
+
+    private void created(PendingUser user, Long id, BulkSignupResult[] results) {
+        String bearerToken = jwtUtil.createToken(id, user.getEmail(), user.getUserRole());
+        results[user.getIndex()] = BulkSignupResult.created(user.getIndex(), user.getEmail(), bearerToken);
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @Getter
+    private static class PendingUser {
+
+        private final int index;
+        private final String email;
+        private final String rawPassword;
+        private final UserRole userRole;
+        private String encodedPassword;
+
+        private PendingUser(int index, String email, String rawPassword, UserRole userRole) {
+            this.index = index;
+            this.email = email;
+            this.rawPassword = rawPassword;
+            this.userRole = userRole;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.expert.domain.auth.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.auth.bulk.BulkSignupService;
+import org.example.expert.domain.auth.dto.request.BulkSignupRequest;
+import org.example.expert.domain.auth.dto.response.BulkSignupResponse;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class BulkSignupController {
+
+    private final BulkSignupService bulkSignupService;
+
+    // 사용자 일괄 등록(이관 등), 일부 행이 실패해도 200 으로 행마다 토큰 또는 실패 이유를 돌려준다
+    @PostMapping("/admin/auth/signups")
+    public BulkSignupResponse signupAll(@Valid @RequestBody BulkSignupRequest bulkSignupRequest) {
+        return bulkSignupService.signupAll(bulkSignupRequest.getUsers());
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.expert.domain.auth.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkSignupRequest {
+
+    // 행마다 따로 검증해 실패한 행만 결과에 담으므로 @Valid 로 전체를 거절하지 않는다
+    @NotEmpty
+    private List<SignupRequest> users;
+}
@@ -0,0 +1,20 @@
+package org.example.expert.domain.auth.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class BulkSignupResponse {
+
+    private final int created;
+    private final int failed;
+    // 요청한 users 순서와 같다
+    private final List<BulkSignupResult> results;
+
+    public BulkSignupResponse(List<BulkSignupResult> results) {
+        this.created = (int) results.stream().filter(result -> result.getError() == null).count();
+        this.failed = results.size() - created;
+        this.results = results;
+    }
+}
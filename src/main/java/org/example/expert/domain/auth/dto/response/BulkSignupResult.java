@@ -0,0 +1,30 @@
+package org.example.expert.domain.auth.dto.response;
+
+import lombok.Getter;
+
+/**
+ * 일괄 가입 한 행의 결과, 가입했으면 bearerToken 이, 실패했으면 error 가 채워진다
+ */
+@Getter
+public class BulkSignupResult {
+
+    private final int index;
+    private final String email;
+    private final String bearerToken;
+    private final String error;
+
+    private BulkSignupResult(int index, String email, String bearerToken, String error) {
+        this.index = index;
+        this.email = email;
+        this.bearerToken = bearerToken;
+        this.error = error;
+    }
+
+    public static BulkSignupResult created(int index, String email, String bearerToken) {
+        return new BulkSignupResult(index, email, bearerToken, null);
+    }
+
+    public static BulkSignupResult failed(int index, String email, String error) {
+        return new BulkSignupResult(index, email, null, error);
+    }
+}
@@ -2,21 +2,34 @@ package org.example.expert.domain.comment.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.CommentField;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.etag.ETags;
+import org.example.expert.domain.common.fields.SparseFields;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequiredArgsConstructor
 public class CommentController {
 
+    private static final String RESPOND_ASYNC = "respond-async";
+    private static final String PREFERENCE_APPLIED = "Preference-Applied";
+
     private final CommentService commentService;
 
     @PostMapping("/todos/{todoId}/comments")
@@ -28,8 +41,68 @@ public class CommentController {
         return ResponseEntity.ok(commentService.saveComment(authUser, todoId, commentSaveRequest));
     }
 
+    /**
+     * Prefer: respond-async 를 보낸 요청은 검증 후 대기열에 넣고 202 와 임시 id 로 바로 응답한다
+     * 비동기 수집이 꺼져 있거나 respond-async 가 아니면 동기 저장과 같다 (Prefer 는 힌트이므로)
+     */
+    @PostMapping(value = "/todos/{todoId}/comments", headers = "Prefer")
+    public ResponseEntity<?> saveCommentPreferAsync(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @RequestHeader("Prefer") String prefer,
+            @Valid @RequestBody CommentSaveRequest commentSaveRequest
+    ) {
+        if (!prefersRespondAsync(prefer) || !commentService.isAsyncIngestEnabled()) {
+            return saveComment(authUser, todoId, commentSaveRequest);
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .header(PREFERENCE_APPLIED, RESPOND_ASYNC)
+                .body(commentService.acceptComment(authUser, todoId, commentSaveRequest));
+    }
+
     @GetMapping("/todos/{todoId}/comments")
     public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
         return ResponseEntity.ok(commentService.getComments(todoId));
     }
+
+    // fields 파라미터가 있을 때만 선택, ex) ?fields=contents,user (id 는 항상 포함)
+    @GetMapping(value = "/todos/{todoId}/comments", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getCommentFields(
+            @PathVariable long todoId,
+            @RequestParam String fields
+    ) {
+        Set<CommentField> selected = SparseFields.parse(fields, CommentField.class, CommentField.ID);
+        return ResponseEntity.ok(commentService.getComments(todoId, selected));
+    }
+
+    /**
+     * 댓글 저장/수정 이벤트 스트림 (comment.created, comment.updated)
+     * 연결 직후 ready 이벤트로 현재 위치를 알려주고, 재연결 시 Last-Event-ID 이후 이벤트를 이어서 보낸다
+     * 이어서 보낼 수 없으면 reset 이벤트를 보내므로 클라이언트는 목록을 다시 조회한다
+     */
+    @GetMapping(value = "/todos/{todoId}/comments/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeComments(
+            @PathVariable long todoId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return commentService.subscribeComments(todoId, lastEventId);
+    }
+
+    @PatchMapping("/comments/{commentId}")
+    public ResponseEntity<CommentSaveResponse> updateComment(
+            @Auth AuthUser authUser,
+            @PathVariable long commentId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody CommentSaveRequest commentSaveRequest
+    ) {
+        CommentSaveResponse response = commentService.updateComment(authUser, commentId, commentSaveRequest, ETags.parseIfMatch(ifMatch));
+        return ETags.ok(response, response.getVersion());
+    }
+
+    // ex) Prefer: respond-async, wait=10
+    private static boolean prefersRespondAsync(String prefer) {
+        return Arrays.stream(prefer.split(","))
+                .map(preference -> preference.split(";")[0].trim())
+                .anyMatch(RESPOND_ASYNC::equalsIgnoreCase);
+    }
 }
@@ -0,0 +1,41 @@
+package org.example.expert.domain.comment.dto;
+
+import jakarta.persistence.Tuple;
+import lombok.Getter;
+import org.example.expert.domain.common.fields.SparseField;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * GET /todos/{todoId}/comments?fields= 로 고를 수 있는 댓글 필드 (JPQL 에서 댓글 별칭은 c, 작성자는 u)
+ */
+@Getter
+public enum CommentField implements SparseField {
+
+    ID("id", "c.id"),
+    CONTENTS("contents", "c.contents"),
+    USER("user", List.of("u.id AS userId", "u.email AS userEmail"),
+            tuple -> new UserResponse(tuple.get("userId", Long.class), tuple.get("userEmail", String.class))),
+    VERSION("version", "c.version");
+
+    private final String fieldName;
+    private final List<String> selections;
+    private final Function<Tuple, Object> reader;
+
+    CommentField(String fieldName, String path) {
+        this(fieldName, List.of(path + " AS " + fieldName), tuple -> tuple.get(fieldName));
+    }
+
+    CommentField(String fieldName, List<String> selections, Function<Tuple, Object> reader) {
+        this.fieldName = fieldName;
+        this.selections = selections;
+        this.reader = reader;
+    }
+
+    @Override
+    public Object read(Tuple tuple) {
+        return reader.apply(tuple);
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+/**
+ * 비동기로 받은 댓글 (202 Accepted), 저장 후 댓글의 ingestId 와 같다
+ */
+@Getter
+@RequiredArgsConstructor
+public class CommentAcceptedResponse {
+
+    private final String provisionalId;
+    private final long todoId;
+    private final String contents;
+    private final UserResponse user;
+}
@@ -9,10 +9,16 @@ public class CommentResponse {
     private final Long id;
     private final String contents;
     private final UserResponse user;
+    private final Long version;
 
     public CommentResponse(Long id, String contents, UserResponse user) {
+        this(id, contents, user, null);
+    }
+
+    public CommentResponse(Long id, String contents, UserResponse user, Long version) {
         this.id = id;
         this.contents = contents;
         this.user = user;
+        this.version = version;
     }
 }
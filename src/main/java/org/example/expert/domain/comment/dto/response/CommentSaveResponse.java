@@ -9,10 +9,16 @@ public class CommentSaveResponse {
     private final Long id;
     private final String contents;
     private final UserResponse user;
+    private final Long version;
 
     public CommentSaveResponse(Long id, String contents, UserResponse user) {
+        this(id, contents, user, null);
+    }
+
+    public CommentSaveResponse(Long id, String contents, UserResponse user, Long version) {
         this.id = id;
         this.contents = contents;
         this.user = user;
+        this.version = version;
     }
 }
@@ -6,17 +6,31 @@ import lombok.NoArgsConstructor;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.LocalDateTime;
 
 @Getter
 @Entity
 @NoArgsConstructor
 @Table(name = "comments")
+// 소프트 삭제된 댓글은 모든 JPA 조회에서 제외된다
+@SQLRestriction("deleted_at IS NULL")
 public class Comment extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private String contents;
 
+    @Version
+    private Long version;
+
+    private LocalDateTime deletedAt;
+
+    // 비동기 수집으로 저장된 댓글의 임시 id (CommentBatchWriter 가 JDBC 로 채운다)
+    @Column(length = 36, updatable = false)
+    private String ingestId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
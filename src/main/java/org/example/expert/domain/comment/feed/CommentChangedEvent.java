@@ -0,0 +1,35 @@
+package org.example.expert.domain.comment.feed;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+
+/**
+ * 댓글이 저장/수정되었다는 이벤트, 트랜잭션이 커밋된 뒤에 CommentFeedHub 가 구독자에게 보낸다
+ */
+@Getter
+@RequiredArgsConstructor
+public class CommentChangedEvent {
+
+    private final Type type;
+    private final long todoId;
+    private final CommentResponse comment;
+
+    public static CommentChangedEvent created(long todoId, CommentResponse comment) {
+        return new CommentChangedEvent(Type.CREATED, todoId, comment);
+    }
+
+    public static CommentChangedEvent updated(long todoId, CommentResponse comment) {
+        return new CommentChangedEvent(Type.UPDATED, todoId, comment);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Type {
+        CREATED("comment.created"),
+        UPDATED("comment.updated");
+
+        // SSE event 필드
+        private final String eventName;
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.expert.domain.comment.feed;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(CommentFeedProperties.class)
+public class CommentFeedConfig {
+}
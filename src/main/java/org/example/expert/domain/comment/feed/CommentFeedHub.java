@@ -0,0 +1,427 @@
+package org.example.expert.domain.comment.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 일정별 댓글 SSE 구독자에게 커밋된 댓글 저장/수정 이벤트를 보내는 허브
+ * - 구독자는 SseEmitter(서블릿 비동기 요청)라 대기 중에는 스레드를 잡지 않는다
+ * - 일정 id 로 고른 dispatch 스레드(lane) 하나가 그 일정의 구독/발행/재전송을 모두 처리하므로
+ *   같은 일정의 이벤트 순서가 지켜지고 lane 안의 상태에는 락이 필요 없다
+ * - lane 은 구독자마다 크기가 정해진 outbox 에 이벤트를 넣기만 하고, 소켓 쓰기는 writer 스레드가 구독자별로 순서대로 한다
+ *   읽지 않는 클라이언트에게 쓰다 막혀도 lane 의 다른 구독자는 계속 받고, outbox 가 maxPendingEvents 를 넘게 밀린 구독자는 끊는다
+ * - 이벤트 id 는 일정마다 1씩 늘어나는 번호이고, 일정마다 최근 replaySize 개를 남겨 Last-Event-ID 로 재연결하면 놓친 이벤트를 다시 보낸다
+ *   남겨둔 범위를 벗어났거나 모르는 id(재시작 전 id 등)면 reset 이벤트를 보내고, 클라이언트는 목록을 다시 조회한다
+ */
+@Slf4j
+@Component
+public class CommentFeedHub implements SmartLifecycle {
+
+    public static final String READY_EVENT = "ready";
+    public static final String RESET_EVENT = "reset";
+
+    private final CommentFeedProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Lane[] lanes;
+    private final ExecutorService writers;
+    private final ScheduledExecutorService heartbeat;
+
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Counter resets;
+    private final Counter dropped;
+    private volatile boolean running;
+
+    public CommentFeedHub(CommentFeedProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.lanes = new Lane[properties.getDispatchThreads()];
+        int bufferedTodosPerLane = Math.max(1, properties.getMaxBufferedTodos() / lanes.length);
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane(Executors.newSingleThreadExecutor(new CustomizableThreadFactory("comment-feed-" + i + "-")),
+                    bufferedTodosPerLane);
+        }
+        this.writers = Executors.newFixedThreadPool(properties.getWriterThreads(), new CustomizableThreadFactory("comment-feed-writer-"));
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("comment-feed-heartbeat-"));
+
+        Gauge.builder("comment.feed.subscribers", subscriberCount, AtomicInteger::get)
+                .description("댓글 SSE 구독자 수")
+                .register(meterRegistry);
+        this.resets = Counter.builder("comment.feed.resets")
+                .description("놓친 이벤트를 다시 보내지 못해 reset 을 보낸 재연결 수")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("comment.feed.dropped")
+                .description("보낼 이벤트가 maxPendingEvents 넘게 밀려 끊은 구독자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param lastEventId 재연결 시 브라우저가 보내는 Last-Event-ID, 없으면 지금부터의 이벤트만 받는다
+     */
+    public SseEmitter subscribe(long todoId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        subscribe(todoId, lastEventId, emitter);
+        return emitter;
+    }
+
+    void subscribe(long todoId, String lastEventId, SseEmitter emitter) {
+        Lane lane = lane(todoId);
+        Subscriber subscriber = new Subscriber(todoId, emitter, lane);
+        emitter.onCompletion(() -> lane.execute(() -> lane.remove(subscriber)));
+        emitter.onTimeout(emitter::complete);
+        // 오류 콜백은 컨테이너가 응답 락을 쥔 채 부른다, 여기서 complete() 하면 같은 emitter 로 보내던 lane 과 서로 락을 기다리므로 lane 에 넘긴다
+        emitter.onError(e -> lane.execute(() -> lane.close(subscriber)));
+        Long lastSeq = parseEventId(lastEventId);
+        if (!lane.execute(() -> lane.add(subscriber, lastSeq))) {
+            emitter.complete();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentChanged(CommentChangedEvent event) {
+        String data;
+        try {
+            // 구독자 수와 관계없이 직렬화는 한 번만 한다
+            data = objectMapper.writeValueAsString(event.getComment());
+        } catch (JsonProcessingException e) {
+            log.error("댓글 이벤트를 직렬화하지 못했습니다. todoId={}", event.getTodoId(), e);
+            return;
+        }
+        Lane lane = lane(event.getTodoId());
+        lane.execute(() -> lane.publish(event.getTodoId(), event.getType().getEventName(), data));
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        long period = properties.getHeartbeat().toMillis();
+        heartbeat.scheduleAtFixedRate(() -> {
+            for (Lane lane : lanes) {
+                lane.execute(lane::heartbeat);
+            }
+        }, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 연결을 모두 닫아 graceful shutdown 이 열린 SSE 요청을 기다리지 않게 한다
+     */
+    @Override
+    public void stop() {
+        running = false;
+        heartbeat.shutdownNow();
+        for (Lane lane : lanes) {
+            lane.execute(lane::completeAll);
+            lane.executor.shutdown();
+        }
+        try {
+            for (Lane lane : lanes) {
+                lane.executor.awaitTermination(5, TimeUnit.SECONDS);
+            }
+            // lane 이 닫은 연결의 complete() 는 writer 에서 한다
+            writers.shutdown();
+            writers.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private Lane lane(long todoId) {
+        return lanes[(int) Math.floorMod(todoId, (long) lanes.length)];
+    }
+
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            // 모르는 형식은 남겨둔 범위 밖으로 취급해 reset 을 보낸다
+            return -1L;
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class FeedEvent {
+
+        private final long seq;
+        private final String name;
+        private final String data;
+    }
+
+    /**
+     * 일정 하나의 이벤트 번호와 최근 이벤트
+     */
+    private static final class TodoEvents {
+
+        // 재시작 전 번호와 겹치지 않도록 시각에서 시작한다
+        private long nextSeq = System.currentTimeMillis() * 1_000;
+        private final Deque<FeedEvent> recent = new ArrayDeque<>();
+
+        private FeedEvent append(String name, String data, int replaySize) {
+            FeedEvent event = new FeedEvent(nextSeq++, name, data);
+            recent.addLast(event);
+            if (recent.size() > replaySize) {
+                recent.removeFirst();
+            }
+            return event;
+        }
+
+        private long lastSeq() {
+            return nextSeq - 1;
+        }
+
+        // lastSeq 다음 이벤트부터 모두 남아 있으면 재전송할 수 있다
+        private boolean canResumeFrom(long seq) {
+            long firstRetained = recent.isEmpty() ? nextSeq : recent.getFirst().getSeq();
+            return seq >= firstRetained - 1 && seq <= lastSeq();
+        }
+    }
+
+    /**
+     * 스레드 하나가 처리하는 일정 묶음, 필드는 모두 이 스레드에서만 읽고 쓴다
+     */
+    private final class Lane {
+
+        private final ExecutorService executor;
+        private final Map<Long, List<Subscriber>> subscribersByTodo = new HashMap<>();
+        private final Map<Long, TodoEvents> eventsByTodo;
+
+        private Lane(ExecutorService executor, int maxBufferedTodos) {
+            this.executor = executor;
+            // 접근 순서 LRU, 오래 안 쓰인 일정의 최근 이벤트부터 버린다
+            this.eventsByTodo = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, TodoEvents> eldest) {
+                    return size() > maxBufferedTodos;
+                }
+            };
+        }
+
+        private boolean execute(Runnable task) {
+            try {
+                executor.execute(task);
+                return true;
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+                return false;
+            }
+        }
+
+        private void add(Subscriber subscriber, Long lastSeq) {
+            TodoEvents events = eventsByTodo.computeIfAbsent(subscriber.getTodoId(), id -> new TodoEvents());
+            if (lastSeq != null && events.canResumeFrom(lastSeq)) {
+                for (FeedEvent event : events.recent) {
+                    if (event.getSeq() > lastSeq && !send(subscriber, event)) {
+                        return;
+                    }
+                }
+            } else {
+                if (lastSeq != null) {
+                    resets.increment();
+                }
+                // 지금 위치를 id 로 알려 두어 이벤트가 오기 전에 끊겨도 이어 받을 수 있게 한다
+                String name = lastSeq == null ? READY_EVENT : RESET_EVENT;
+                if (!send(subscriber, SseEmitter.event().id(Long.toString(events.lastSeq())).name(name).data(""))) {
+                    return;
+                }
+            }
+            subscribersByTodo.computeIfAbsent(subscriber.getTodoId(), id -> new ArrayList<>()).add(subscriber);
+            subscriberCount.incrementAndGet();
+        }
+
+        private void remove(Subscriber subscriber) {
+            List<Subscriber> subscribers = subscribersByTodo.get(subscriber.getTodoId());
+            if (subscribers != null && subscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+                if (subscribers.isEmpty()) {
+                    subscribersByTodo.remove(subscriber.getTodoId());
+                }
+            }
+        }
+
+        private void publish(long todoId, String name, String data) {
+            FeedEvent event = eventsByTodo.computeIfAbsent(todoId, id -> new TodoEvents())
+                    .append(name, data, properties.getReplaySize());
+            List<Subscriber> subscribers = subscribersByTodo.get(todoId);
+            if (subscribers == null) {
+                return;
+            }
+            // 보내다 실패한 구독자는 목록에서 빠지므로 복사본을 돈다
+            for (Subscriber subscriber : List.copyOf(subscribers)) {
+                send(subscriber, event);
+            }
+        }
+
+        private void heartbeat() {
+            for (List<Subscriber> subscribers : List.copyOf(subscribersByTodo.values())) {
+                for (Subscriber subscriber : List.copyOf(subscribers)) {
+                    send(subscriber, SseEmitter.event().comment("keepalive"));
+                }
+            }
+        }
+
+        private void completeAll() {
+            for (List<Subscriber> subscribers : List.copyOf(subscribersByTodo.values())) {
+                for (Subscriber subscriber : List.copyOf(subscribers)) {
+                    close(subscriber);
+                }
+            }
+        }
+
+        private boolean send(Subscriber subscriber, FeedEvent event) {
+            return send(subscriber, SseEmitter.event()
+                    .id(Long.toString(event.getSeq()))
+                    .name(event.getName())
+                    .data(event.getData(), MediaType.APPLICATION_JSON));
+        }
+
+        private boolean send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+            if (subscriber.offer(event)) {
+                return true;
+            }
+            if (!subscriber.closing) {
+                // 읽지 않는 클라이언트, 다시 붙으면 Last-Event-ID 로 이어 받는다
+                dropped.increment();
+                log.info("보낼 이벤트가 {}개 넘게 밀린 SSE 구독자를 끊습니다. todoId={}",
+                        properties.getMaxPendingEvents(), subscriber.getTodoId());
+            }
+            close(subscriber);
+            return false;
+        }
+
+        private void close(Subscriber subscriber) {
+            remove(subscriber);
+            subscriber.close();
+        }
+    }
+
+    /**
+     * 구독자 하나의 연결, emitter 에 쓰고 닫는 일은 모두 writer 스레드에서 한 번에 하나씩 한다
+     */
+    private final class Subscriber {
+
+        @Getter
+        private final long todoId;
+        private final SseEmitter emitter;
+        private final Lane lane;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> outbox;
+        // writer 에 이 구독자의 작업이 올라가 있는지, 하나만 올려 보내는 순서를 지킨다
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closing;
+        private volatile boolean completed;
+
+        private Subscriber(long todoId, SseEmitter emitter, Lane lane) {
+            this.todoId = todoId;
+            this.emitter = emitter;
+            this.lane = lane;
+            this.outbox = new LinkedBlockingQueue<>(properties.getMaxPendingEvents());
+        }
+
+        // lane 스레드에서 부른다, 닫혔거나 outbox 가 가득 차면 false
+        private boolean offer(SseEmitter.SseEventBuilder event) {
+            if (closing || !outbox.offer(event)) {
+                return false;
+            }
+            scheduleDrain();
+            return true;
+        }
+
+        // 밀린 이벤트는 버리고 writer 에서 연결을 닫는다
+        private void close() {
+            closing = true;
+            outbox.clear();
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                writers.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // 종료 중, draining 을 쥔 채 여기서 닫아 writer 와 겹치지 않게 한다
+                closing = true;
+                complete();
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closing && (event = outbox.poll()) != null) {
+                    try {
+                        emitter.send(event);
+                    } catch (IOException | IllegalStateException e) {
+                        // 끊긴 연결
+                        closing = true;
+                        lane.execute(() -> lane.remove(this));
+                    }
+                }
+                if (closing) {
+                    complete();
+                }
+            } finally {
+                draining.set(false);
+            }
+            // 내려놓는 사이에 들어온 이벤트나 close()
+            if (!outbox.isEmpty() || (closing && !completed)) {
+                scheduleDrain();
+            }
+        }
+
+        private void complete() {
+            if (completed) {
+                return;
+            }
+            completed = true;
+            try {
+                emitter.complete();
+            } catch (IllegalStateException e) {
+                // 이미 오류로 끝난 비동기 요청
+                log.debug("이미 끊긴 SSE 연결입니다. todoId={}", todoId, e);
+            }
+        }
+    }
+}
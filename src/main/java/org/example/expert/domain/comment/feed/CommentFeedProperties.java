@@ -0,0 +1,33 @@
+package org.example.expert.domain.comment.feed;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 댓글 SSE 피드 설정
+ * ex) --comment-feed.timeout=1h --comment-feed.replay-size=1000
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "comment-feed")
+public class CommentFeedProperties {
+
+    // 연결을 이 시간 뒤에 닫는다, 클라이언트(EventSource)는 Last-Event-ID 로 다시 붙는다
+    private Duration timeout = Duration.ofMinutes(30);
+    // 프록시가 idle 연결을 끊지 않도록, 끊긴 연결을 찾아내도록 보내는 주석 이벤트 주기
+    private Duration heartbeat = Duration.ofSeconds(15);
+    // 재연결 시 다시 보내 줄 수 있도록 일정마다 남겨두는 최근 이벤트 수
+    private int replaySize = 256;
+    // 최근 이벤트를 남겨두는 일정 수, 넘으면 가장 오래 안 쓰인 일정부터 버린다
+    private int maxBufferedTodos = 10_000;
+    // 이벤트를 보내는 스레드 수, 같은 일정은 항상 같은 스레드가 보내므로 순서가 지켜진다
+    private int dispatchThreads = 2;
+    // 구독자마다 아직 쓰지 못하고 쌓아둘 수 있는 이벤트 수, 넘으면 읽지 않는 클라이언트로 보고 연결을 끊는다
+    // replaySize 보다 크지 않으면 끊긴 클라이언트가 Last-Event-ID 로 다시 붙어 reset 없이 이어 받는다
+    private int maxPendingEvents = 256;
+    // 구독자 연결에 실제로 쓰는 스레드 수, 읽지 않는 연결에 쓰다 막힌 스레드는 컨테이너의 쓰기 timeout 까지 돌아오지 않는다
+    private int writerThreads = 8;
+}
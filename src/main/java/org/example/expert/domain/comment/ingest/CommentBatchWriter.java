@@ -0,0 +1,152 @@
+package org.example.expert.domain.comment.ingest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.feed.CommentChangedEvent;
+import org.example.expert.domain.common.outbox.DomainEventOutbox;
+import org.example.expert.domain.common.outbox.OutboxEventType;
+import org.example.expert.domain.common.outbox.OutboxMessage;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 대기 중인 댓글을 JDBC 배치 INSERT 하고 일정별 comment_count 를 한 번씩만 올린다, 배치 하나가 커밋 하나
+ * IDENTITY 키라 Hibernate 는 INSERT 를 배치로 묶지 못하므로 JdbcTemplate 을 쓴다
+ * (MySQL 에서는 JDBC URL 에 rewriteBatchedStatements=true 를 주어야 배치가 한 문장으로 묶인다)
+ *
+ * 받은 뒤 저장 전에 일정이 삭제됐으면 (이미 댓글 일괄 소프트 삭제가 지나갔으므로) 그 댓글은 넣지 않고 버린다
+ * 배치가 실패하면 한 건씩 다시 쓴다, 이미 저장된 ingest_id 는 건너뛰므로 커밋 결과를 모르는 재시도에도 중복되지 않는다
+ * 저장한 댓글은 동기 저장과 같이 같은 트랜잭션에서 outbox 에 comment.created 를 기록하고, 커밋 후 댓글 이벤트로 구독자에게 보낸다
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CommentBatchWriter {
+
+    // 살아 있는 일정에만 넣는다, MySQL 에서는 INSERT ... SELECT 가 읽은 todos 행을 잠가 동시에 지우는 요청은 커밋을 기다린다
+    private static final String INSERT_COMMENT =
+            "INSERT INTO comments (ingest_id, contents, user_id, todo_id, created_at, modified_at) "
+                    + "SELECT ?, ?, ?, ?, ?, ? FROM todos WHERE id = ? AND deleted_at IS NULL";
+    private static final String ADD_COMMENT_COUNT =
+            "UPDATE todos SET comment_count = comment_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DomainEventOutbox domainEventOutbox;
+
+    /**
+     * 받은 순서대로 저장한다 (같은 일정의 댓글 id 가 요청 순서를 따른다)
+     * @return 저장한 댓글 수, 저장하지 못한 댓글은 로그를 남기고 버린다
+     */
+    public int write(List<PendingComment> batch) {
+        try {
+            return transactionTemplate.execute(status -> insert(batch));
+        } catch (DataAccessException e) {
+            log.warn("댓글 배치 저장에 실패해 한 건씩 다시 저장합니다. size={}", batch.size(), e);
+            return writeOneByOne(batch);
+        }
+    }
+
+    private int writeOneByOne(List<PendingComment> batch) {
+        int written = 0;
+        for (PendingComment comment : batch) {
+            try {
+                written += transactionTemplate.execute(status -> {
+                    // 실패한 배치가 사실은 커밋된 경우 이미 저장된 댓글이다
+                    Integer existing = jdbcTemplate.queryForObject(
+                            "SELECT COUNT(*) FROM comments WHERE ingest_id = ?", Integer.class, comment.getIngestId());
+                    if (existing != null && existing > 0) {
+                        return 1;
+                    }
+                    return insert(List.of(comment));
+                });
+            } catch (DataAccessException e) {
+                log.error("댓글을 저장하지 못해 버립니다. ingestId={}, todoId={}, userId={}",
+                        comment.getIngestId(), comment.getTodoId(), comment.getUserId(), e);
+            }
+        }
+        return written;
+    }
+
+    /**
+     * @return 넣은 댓글 수, 삭제된 일정의 댓글은 로그를 남기고 빼고 센다
+     */
+    private int insert(List<PendingComment> batch) {
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        // 대기열에서 오래 기다린 댓글도 modified_at 은 커밋 직전 시각이어야 변경분 내보내기 cursor 뒤로 숨지 않는다
+        Timestamp writtenAt = Timestamp.valueOf(LocalDateTime.now());
+        for (PendingComment comment : batch) {
+            rows.add(new Object[]{comment.getIngestId(), comment.getContents(), comment.getUserId(),
+                    comment.getTodoId(), Timestamp.valueOf(comment.getAcceptedAt()), writtenAt, comment.getTodoId()});
+        }
+        jdbcTemplate.batchUpdate(INSERT_COMMENT, rows);
+
+        // rewriteBatchedStatements 에서는 배치 결과 행 수를 믿을 수 없으므로 실제로 들어간 댓글을 ingest_id 로 읽는다
+        Map<String, Long> idsByIngestId = findIds(batch);
+        List<PendingComment> inserted = new ArrayList<>(idsByIngestId.size());
+        Map<Long, Integer> countsByTodo = new LinkedHashMap<>();
+        for (PendingComment comment : batch) {
+            if (idsByIngestId.containsKey(comment.getIngestId())) {
+                inserted.add(comment);
+                countsByTodo.merge(comment.getTodoId(), 1, Integer::sum);
+            } else {
+                log.info("저장 전에 일정이 삭제되어 댓글을 버립니다. ingestId={}, todoId={}, userId={}",
+                        comment.getIngestId(), comment.getTodoId(), comment.getUserId());
+            }
+        }
+        if (inserted.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> counts = new ArrayList<>(countsByTodo.size());
+        countsByTodo.forEach((todoId, count) -> counts.add(new Object[]{count, todoId}));
+        jdbcTemplate.batchUpdate(ADD_COMMENT_COUNT, counts);
+
+        recordCreated(inserted, idsByIngestId);
+        return inserted.size();
+    }
+
+    // 배치 INSERT 는 생성 키를 돌려주지 않으므로 ingest_id 로 댓글 id 를 한 번에 읽는다
+    private Map<String, Long> findIds(List<PendingComment> batch) {
+        String placeholders = String.join(", ", Collections.nCopies(batch.size(), "?"));
+        Map<String, Long> idsByIngestId = new HashMap<>();
+        jdbcTemplate.query("SELECT ingest_id, id FROM comments WHERE ingest_id IN (" + placeholders + ")",
+                rs -> {
+                    idsByIngestId.put(rs.getString(1), rs.getLong(2));
+                },
+                batch.stream().map(PendingComment::getIngestId).toArray());
+        return idsByIngestId;
+    }
+
+    private void recordCreated(List<PendingComment> inserted, Map<String, Long> idsByIngestId) {
+        List<OutboxMessage> messages = new ArrayList<>(inserted.size());
+        for (PendingComment comment : inserted) {
+            Long commentId = idsByIngestId.get(comment.getIngestId());
+            messages.add(new OutboxMessage(OutboxEventType.COMMENT_CREATED, comment.getTodoId(), DomainEventOutbox.payload(
+                    "commentId", commentId,
+                    "todoId", comment.getTodoId(),
+                    "userId", comment.getUserId()
+            )));
+            eventPublisher.publishEvent(CommentChangedEvent.created(comment.getTodoId(), new CommentResponse(
+                    commentId,
+                    comment.getContents(),
+                    new UserResponse(comment.getUserId(), comment.getUserEmail()),
+                    0L
+            )));
+        }
+        domainEventOutbox.appendAll(messages);
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.expert.domain.comment.ingest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.common.outbox.DomainEventOutbox;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableConfigurationProperties(CommentIngestProperties.class)
+@ConditionalOnProperty(prefix = "comment-ingest", name = "enabled", havingValue = "true")
+public class CommentIngestConfig {
+
+    @Bean
+    public CommentBatchWriter commentBatchWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                                 ApplicationEventPublisher eventPublisher,
+                                                 DomainEventOutbox domainEventOutbox) {
+        return new CommentBatchWriter(jdbcTemplate, transactionTemplate, eventPublisher, domainEventOutbox);
+    }
+
+    @Bean
+    public CommentIngestQueue commentIngestQueue(CommentBatchWriter commentBatchWriter,
+                                                 CommentIngestProperties properties,
+                                                 MeterRegistry meterRegistry) {
+        return new CommentIngestQueue(commentBatchWriter, properties, meterRegistry);
+    }
+}
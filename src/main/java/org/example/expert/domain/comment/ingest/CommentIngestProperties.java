@@ -0,0 +1,25 @@
+package org.example.expert.domain.comment.ingest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 비동기 댓글 수집(write-behind) 설정, 켜져 있을 때만 Prefer: respond-async 요청을 대기열로 받는다
+ * ex) --comment-ingest.enabled=true --comment-ingest.batch-size=500
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "comment-ingest")
+public class CommentIngestProperties {
+
+    private boolean enabled = false;
+    // 대기열이 가득 차면 새 요청은 503 으로 거절한다 (DB 가 따라오지 못하는 신호)
+    private int capacity = 10_000;
+    // 한 트랜잭션(커밋 한 번)으로 쓰는 최대 댓글 수
+    private int batchSize = 200;
+    // 종료 시 남은 대기열을 비우며 기다리는 최대 시간
+    private Duration drainTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,142 @@
+package org.example.expert.domain.comment.ingest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 댓글 수집(write-behind) 대기열
+ * - 요청 스레드는 검증을 마친 댓글을 메모리 대기열에 넣고 바로 응답한다
+ * - writer 스레드 하나가 대기열에서 최대 batchSize 개씩 꺼내 CommentBatchWriter 로 한 번에 커밋한다
+ * - writer 가 하나이고 대기열이 FIFO 라 같은 일정의 댓글은 받은 순서대로 저장된다
+ *
+ * 대기열은 메모리에만 있으므로 프로세스가 비정상 종료되면 아직 쓰지 못한 댓글은 사라진다
+ * 정상 종료 시에는 drainTimeout 동안 남은 댓글을 모두 쓰고 멈춘다
+ */
+@Slf4j
+public class CommentIngestQueue implements SmartLifecycle {
+
+    private static final long POLL_MILLIS = 100;
+
+    private final BlockingQueue<PendingComment> queue;
+    private final CommentBatchWriter writer;
+    private final CommentIngestProperties properties;
+
+    private final Counter accepted;
+    private final Counter rejected;
+    private final Counter written;
+    private final Counter dropped;
+    private final DistributionSummary batchSizes;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public CommentIngestQueue(CommentBatchWriter writer, CommentIngestProperties properties, MeterRegistry meterRegistry) {
+        this.queue = new ArrayBlockingQueue<>(properties.getCapacity());
+        this.writer = writer;
+        this.properties = properties;
+
+        Gauge.builder("comment.ingest.queue.depth", queue, BlockingQueue::size)
+                .description("저장을 기다리는 댓글 수")
+                .register(meterRegistry);
+        this.accepted = counter(meterRegistry, "accepted", "대기열에 넣은 댓글 수");
+        this.rejected = counter(meterRegistry, "rejected", "대기열이 가득 차 거절한 댓글 수");
+        this.written = counter(meterRegistry, "written", "저장한 댓글 수");
+        this.dropped = counter(meterRegistry, "dropped", "저장하지 못하고 버린 댓글 수");
+        this.batchSizes = DistributionSummary.builder("comment.ingest.batch.size")
+                .description("커밋 한 번에 쓴 댓글 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @throws ServiceUnavailableException 대기열이 가득 찬 경우
+     */
+    public void enqueue(PendingComment comment) {
+        if (!running || !queue.offer(comment)) {
+            rejected.increment();
+            throw new ServiceUnavailableException("댓글 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        accepted.increment();
+    }
+
+    public int depth() {
+        return queue.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::drainLoop, "comment-ingest-writer");
+        writerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            writerThread.join(properties.getDrainTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.error("종료 전에 저장하지 못한 댓글이 있습니다. count={}", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drainLoop() {
+        List<PendingComment> batch = new ArrayList<>(properties.getBatchSize());
+        // 멈춘 뒤에도 남은 댓글은 모두 쓴다
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingComment first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // 기다리지 않고 이미 쌓인 만큼만 모은다, 부하가 클수록 배치가 커진다
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingComment> batch) {
+        try {
+            int count = writer.write(batch);
+            written.increment(count);
+            dropped.increment(batch.size() - count);
+            batchSizes.record(batch.size());
+        } catch (RuntimeException e) {
+            // writer 스레드가 죽으면 대기열이 영영 비워지지 않으므로 배치만 버리고 계속한다
+            log.error("댓글 배치를 저장하지 못해 버립니다. size={}", batch.size(), e);
+            dropped.increment(batch.size());
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result, String description) {
+        return Counter.builder("comment.ingest.comments")
+                .description(description)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
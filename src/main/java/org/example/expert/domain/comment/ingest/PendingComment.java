@@ -0,0 +1,23 @@
+package org.example.expert.domain.comment.ingest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검증을 마치고 저장을 기다리는 댓글
+ */
+@Getter
+@RequiredArgsConstructor
+public class PendingComment {
+
+    private final String ingestId;
+    private final long todoId;
+    private final long userId;
+    // 댓글 이벤트에 작성자로 담는다
+    private final String userEmail;
+    private final String contents;
+    // 요청을 받은 시각, created_at 으로 쓴다 (modified_at 은 실제로 저장한 시각)
+    private final LocalDateTime acceptedAt;
+}
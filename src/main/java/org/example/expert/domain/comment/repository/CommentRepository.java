@@ -2,13 +2,38 @@ package org.example.expert.domain.comment.repository;
 
 import org.example.expert.domain.comment.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
 
     @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
     List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    // 관리자 삭제는 행을 지우지 않고 deleted_at 만 채운다 (기존 ETag 가 무효가 되도록 버전도 올린다)
+    // 소프트 삭제도 modified_at 을 옮겨 변경분 내보내기에 삭제로 나타나게 한다
+    @Modifying
+    @Query("UPDATE Comment c SET c.deletedAt = :deletedAt, c.modifiedAt = :deletedAt, c.version = c.version + 1 WHERE c.id = :commentId AND c.deletedAt IS NULL")
+    int softDeleteById(@Param("commentId") Long commentId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 일정 삭제 시 댓글을 한 건씩 조회/삭제하지 않고 한 문장으로 소프트 삭제한다 (softDeleteById 와 같이 버전도 올린다)
+    @Modifying
+    @Query("UPDATE Comment c SET c.deletedAt = :deletedAt, c.modifiedAt = :deletedAt, c.version = c.version + 1 WHERE c.todo.id = :todoId AND c.deletedAt IS NULL")
+    int softDeleteAllByTodoId(@Param("todoId") Long todoId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 아래는 SoftDeletePurgeJob 전용, @SQLRestriction 에 가려지지 않도록 native 쿼리로 둔다
+    @Query(value = "SELECT id FROM comments WHERE deleted_at < :cutoff ORDER BY deleted_at LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsDeletedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM comments WHERE id IN (:ids)", nativeQuery = true)
+    int purgeAllByIdIn(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM comments WHERE todo_id IN (:todoIds)", nativeQuery = true)
+    int purgeAllByTodoIdIn(@Param("todoIds") List<Long> todoIds);
 }
@@ -0,0 +1,15 @@
+package org.example.expert.domain.comment.repository;
+
+import jakarta.persistence.Tuple;
+import org.example.expert.domain.comment.dto.CommentField;
+
+import java.util.List;
+import java.util.Set;
+
+public interface CommentRepositoryCustom {
+
+    /**
+     * findByTodoIdWithUser 와 같은 조건으로, 고른 필드의 컬럼만 조회한다
+     */
+    List<Tuple> findFieldsByTodoId(Long todoId, Set<CommentField> fields);
+}
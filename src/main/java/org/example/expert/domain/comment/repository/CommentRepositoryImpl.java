@@ -0,0 +1,27 @@
+package org.example.expert.domain.comment.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import org.example.expert.domain.comment.dto.CommentField;
+import org.example.expert.domain.common.fields.SparseFields;
+
+import java.util.List;
+import java.util.Set;
+
+public class CommentRepositoryImpl implements CommentRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Tuple> findFieldsByTodoId(Long todoId, Set<CommentField> fields) {
+        // 작성자를 고르지 않으면 users 조인도 하지 않는다
+        String jpql = "SELECT " + SparseFields.selectClause(fields)
+                + " FROM Comment c" + (fields.contains(CommentField.USER) ? " JOIN c.user u" : "")
+                + " WHERE c.todo.id = :todoId";
+        return entityManager.createQuery(jpql, Tuple.class)
+                .setParameter("todoId", todoId)
+                .getResultList();
+    }
+}
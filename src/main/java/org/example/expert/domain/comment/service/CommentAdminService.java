@@ -2,17 +2,28 @@ package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 public class CommentAdminService {
 
     private final CommentRepository commentRepository;
+    private final TodoRepository todoRepository;
 
+    /**
+     * 댓글 삭제, 조회 없이 UPDATE 한 번으로 소프트 삭제하고 실제 삭제는 SoftDeletePurgeJob 에 맡긴다
+     * 이미 삭제되었거나 없는 댓글이면 아무것도 하지 않는다
+     */
     @Transactional
     public void deleteComment(long commentId) {
-        commentRepository.deleteById(commentId);
+        // 먼저 댓글 행을 잠그며 삭제해야 동시에 같은 댓글을 지워도 카운터가 한 번만 줄어든다
+        if (commentRepository.softDeleteById(commentId, LocalDateTime.now()) == 1) {
+            todoRepository.decrementCommentCountByCommentId(commentId);
+        }
     }
 }
@@ -1,22 +1,40 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.CommentField;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentAcceptedResponse;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.feed.CommentChangedEvent;
+import org.example.expert.domain.comment.feed.CommentFeedHub;
+import org.example.expert.domain.comment.ingest.CommentIngestQueue;
+import org.example.expert.domain.comment.ingest.PendingComment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.PreconditionFailedException;
+import org.example.expert.domain.common.fields.SparseFields;
+import org.example.expert.domain.common.outbox.DomainEventOutbox;
+import org.example.expert.domain.common.outbox.OutboxEventType;
+import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +43,12 @@ public class CommentService {
 
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    // comment-ingest.enabled=true 일 때만 있다
+    private final ObjectProvider<CommentIngestQueue> commentIngestQueue;
+    private final CommentFeedHub commentFeedHub;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DomainEventOutbox domainEventOutbox;
 
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
@@ -56,14 +80,84 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        todoRepository.addCommentCount(todo.getId(), 1);
+        domainEventOutbox.append(OutboxEventType.COMMENT_CREATED, todoId, DomainEventOutbox.payload(
+                "commentId", savedComment.getId(),
+                "todoId", todoId,
+                "userId", user.getId()
+        ));
+
+        // 커밋된 뒤에 구독자에게 보낸다 (CommentFeedHub)
+        eventPublisher.publishEvent(CommentChangedEvent.created(todoId, new CommentResponse(
+                savedComment.getId(),
+                savedComment.getContents(),
+                new UserResponse(user.getId(), user.getEmail()),
+                savedComment.getVersion()
+        )));
 
         return new CommentSaveResponse(
                 savedComment.getId(),
                 savedComment.getContents(),
-                new UserResponse(user.getId(), user.getEmail())
+                new UserResponse(user.getId(), user.getEmail()),
+                savedComment.getVersion()
         );
     }
 
+    public boolean isAsyncIngestEnabled() {
+        return commentIngestQueue.getIfAvailable() != null;
+    }
+
+    /**
+     * 동기 저장과 같은 검증만 하고 댓글을 대기열에 넣는다, 실제 INSERT 와 커밋은 CommentIngestQueue 가 배치로 한다
+     * 일정/담당자 확인은 엔티티를 읽지 않고 존재 여부 쿼리 두 번으로 끝낸다
+     */
+    public CommentAcceptedResponse acceptComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
+        CommentIngestQueue queue = commentIngestQueue.getIfAvailable();
+        if (queue == null) {
+            throw new InvalidRequestException("비동기 댓글 저장을 사용하지 않습니다.");
+        }
+        if (!todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        if (!managerRepository.existsByTodoIdAndUserId(todoId, authUser.getId())) {
+            throw new InvalidRequestException("Only the todo manager can add comments");
+        }
+        if (commentSaveRequest.getContents() == null || commentSaveRequest.getContents().trim().isEmpty()) {
+            throw new InvalidRequestException("댓글 내용은 비어있을 수 없습니다.");
+        }
+
+        String provisionalId = UUID.randomUUID().toString();
+        queue.enqueue(new PendingComment(provisionalId, todoId, authUser.getId(), authUser.getEmail(),
+                commentSaveRequest.getContents(), LocalDateTime.now()));
+
+        return new CommentAcceptedResponse(
+                provisionalId,
+                todoId,
+                commentSaveRequest.getContents(),
+                new UserResponse(authUser.getId(), authUser.getEmail())
+        );
+    }
+
+    /**
+     * 일정의 댓글 저장/수정을 SSE 로 받는다
+     * @param lastEventId 재연결 시 Last-Event-ID, 놓친 이벤트를 이어서 보낸다
+     */
+    public SseEmitter subscribeComments(long todoId, String lastEventId) {
+        if (!todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        return commentFeedHub.subscribe(todoId, lastEventId);
+    }
+
+    /**
+     * fields= 로 고른 필드만 조회해서 JSON 키도 그 필드만 담는다
+     */
+    public List<Map<String, Object>> getComments(long todoId, Set<CommentField> fields) {
+        return commentRepository.findFieldsByTodoId(todoId, fields).stream()
+                .map(tuple -> SparseFields.toMap(tuple, fields))
+                .toList();
+    }
+
     public List<CommentResponse> getComments(long todoId) {
         List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
 
@@ -73,7 +167,8 @@ public class CommentService {
             CommentResponse dto = new CommentResponse(
                     comment.getId(),
                     comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
+                    new UserResponse(user.getId(), user.getEmail()),
+                    comment.getVersion()
             );
             dtoList.add(dto);
         }
@@ -82,17 +177,35 @@ public class CommentService {
 
     @Transactional
     public CommentSaveResponse updateComment(AuthUser authUser, long commentId, CommentSaveRequest commentSaveRequest) {
+        return updateComment(authUser, commentId, commentSaveRequest, null);
+    }
+
+    /**
+     * 댓글 수정
+     * @param expectedVersion If-Match 로 전달된 버전, null 이면 버전 비교 없이 수정
+     */
+    @Transactional
+    public CommentSaveResponse updateComment(AuthUser authUser, long commentId, CommentSaveRequest commentSaveRequest, Long expectedVersion) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(()-> new InvalidRequestException("Comment not found"));
         if(!comment.getUser().getId().equals(authUser.getId())) {
             throw new InvalidRequestException("You are not authorized to update this comment");
         }
+        if (expectedVersion != null && !expectedVersion.equals(comment.getVersion())) {
+            throw new PreconditionFailedException("댓글이 이미 다른 요청으로 수정되었습니다.");
+        }
+        // 영속 상태의 엔티티이므로 save 없이 변경 감지로 갱신하고,
+        // 응답에 새 버전을 담기 위해 UPDATE ... WHERE version = ? 를 바로 실행한다
         comment.update(commentSaveRequest.getContents());
-        Comment updateComment = commentRepository.save(comment);
+        commentRepository.flush();
+        UserResponse user = new UserResponse(comment.getUser().getId(), comment.getUser().getEmail());
+        eventPublisher.publishEvent(CommentChangedEvent.updated(comment.getTodo().getId(),
+                new CommentResponse(comment.getId(), comment.getContents(), user, comment.getVersion())));
         return new CommentSaveResponse(
-                updateComment.getId(),
-                updateComment.getContents(),
-                new UserResponse(updateComment.getUser().getId(), updateComment.getUser().getEmail())
+                comment.getId(),
+                comment.getContents(),
+                user,
+                comment.getVersion()
         );
     }
 }
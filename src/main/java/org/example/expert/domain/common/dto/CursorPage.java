@@ -0,0 +1,37 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * keyset 페이지 응답, 다음 페이지는 ?cursor={nextCursor} 로 요청한다
+ * nextCursor 가 null 이면 마지막 페이지
+ */
+@Getter
+public class CursorPage<T> {
+
+    private final List<T> content;
+    private final Long nextCursor;
+
+    public CursorPage(List<T> content, Long nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(content.stream().map(mapper).toList(), nextCursor);
+    }
+
+    /**
+     * size + 1 건을 조회한 결과로 페이지를 만든다, 넘치는 1건은 다음 페이지가 있다는 표시로만 쓰고 버린다
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, Long> key) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> content = rows.subList(0, size);
+        return new CursorPage<>(content, key.apply(content.get(size - 1)));
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.expert.domain.common.etag;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 엔티티 @Version 값을 ETag / If-Match 헤더로 주고받기 위한 유틸
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * If-Match 헤더에서 기대하는 버전을 꺼낸다.
+     * @return 헤더가 없거나 "*" 이면 null (버전 비교 없이 갱신)
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("잘못된 If-Match 헤더입니다.");
+        }
+    }
+
+    public static <T> ResponseEntity<T> ok(T body, Long version) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (version != null) {
+            builder.eTag(of(version));
+        }
+        return builder.body(body);
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.expert.domain.common.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
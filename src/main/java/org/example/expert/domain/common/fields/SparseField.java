@@ -0,0 +1,27 @@
+package org.example.expert.domain.common.fields;
+
+import jakarta.persistence.Tuple;
+
+import java.util.List;
+
+/**
+ * fields= 파라미터로 고를 수 있는 응답 필드.
+ * 필드마다 JPQL select 항목과 JSON 값을 함께 정의해서, 고르지 않은 컬럼은 조회도 직렬화도 하지 않는다.
+ */
+public interface SparseField {
+
+    /**
+     * fields= 에 쓰는 이름이자 JSON 키
+     */
+    String getFieldName();
+
+    /**
+     * JPQL select 항목 (별칭 포함)
+     */
+    List<String> getSelections();
+
+    /**
+     * 조회한 Tuple 에서 JSON 값을 만든다
+     */
+    Object read(Tuple tuple);
+}
@@ -0,0 +1,55 @@
+package org.example.expert.domain.common.fields;
+
+import jakarta.persistence.Tuple;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * fields= 파라미터 파싱과 Tuple -> JSON(Map) 변환 유틸
+ */
+public final class SparseFields {
+
+    private SparseFields() {
+    }
+
+    /**
+     * "title,user" 같은 값을 필드 집합으로 바꾼다. 식별자 필드는 요청하지 않아도 항상 포함한다.
+     */
+    public static <F extends Enum<F> & SparseField> Set<F> parse(String fields, Class<F> type, F idField) {
+        EnumSet<F> selected = EnumSet.of(idField);
+        if (fields == null) {
+            return selected;
+        }
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(Arrays.stream(type.getEnumConstants())
+                    .filter(field -> field.getFieldName().equals(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new InvalidRequestException("지원하지 않는 필드입니다: " + trimmed)));
+        }
+        return selected;
+    }
+
+    public static String selectClause(Set<? extends SparseField> fields) {
+        return fields.stream()
+                .flatMap(field -> field.getSelections().stream())
+                .collect(Collectors.joining(", "));
+    }
+
+    public static Map<String, Object> toMap(Tuple tuple, Set<? extends SparseField> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (SparseField field : fields) {
+            row.put(field.getFieldName(), field.read(tuple));
+        }
+        return row;
+    }
+}
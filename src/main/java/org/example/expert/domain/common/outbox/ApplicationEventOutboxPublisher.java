@@ -0,0 +1,19 @@
+package org.example.expert.domain.common.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 같은 프로세스의 @EventListener(OutboxEvent) 에 이벤트를 넘긴다
+ * 리스너는 relay 스레드에서 차례로 실행되고, 리스너가 예외를 던지면 이벤트는 다시 발행된다
+ */
+@RequiredArgsConstructor
+public class ApplicationEventOutboxPublisher implements OutboxPublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void publish(OutboxEvent event) {
+        eventPublisher.publishEvent(event);
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.expert.domain.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 도메인 이벤트를 outbox_events 에 기록한다
+ * 변경과 같은 트랜잭션에서만 쓸 수 있으므로 변경이 롤백되면 이벤트도 남지 않고, 커밋되면 반드시 남는다
+ * JPA 트랜잭션 안에서도 같은 커넥션을 쓰도록 JdbcTemplate 으로 INSERT 한다
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventOutbox {
+
+    private static final String INSERT_EVENT =
+            "INSERT INTO outbox_events (event_type, aggregate_type, aggregate_id, payload, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    // outbox.relay-enabled=false 면 없다
+    private final ObjectProvider<OutboxRelay> outboxRelay;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType type, long aggregateId, Object payload) {
+        appendAll(List.of(new OutboxMessage(type, aggregateId, payload)));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(List<OutboxMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(messages.size());
+        for (OutboxMessage message : messages) {
+            rows.add(new Object[]{message.getType().getEventName(), message.getType().getAggregateType(),
+                    message.getAggregateId(), serialize(message), now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_EVENT, rows);
+
+        // 다음 poll 주기까지 기다리지 않도록 커밋되면 relay 를 깨운다
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxRelay.ifAvailable(OutboxRelay::wakeUp);
+            }
+        });
+    }
+
+    /**
+     * 키/값을 번갈아 받아 JSON 객체 payload 를 만든다, 순서를 지키고 null 값도 담는다
+     * ex) payload("todoId", 1L, "userId", 2L)
+     */
+    public static Map<String, Object> payload(Object... keyValues) {
+        if (keyValues.length % 2 != 0) {
+            throw new IllegalArgumentException("payload 는 키와 값의 쌍이어야 합니다.");
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            payload.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return payload;
+    }
+
+    private String serialize(OutboxMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message.getPayload());
+        } catch (JsonProcessingException e) {
+            throw new ServerException("도메인 이벤트를 직렬화하지 못했습니다. type=" + message.getType());
+        }
+    }
+}
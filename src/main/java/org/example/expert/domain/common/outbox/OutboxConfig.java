@@ -0,0 +1,30 @@
+package org.example.expert.domain.common.outbox;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxPublisher.class)
+    public OutboxPublisher applicationEventOutboxPublisher(ApplicationEventPublisher eventPublisher) {
+        return new ApplicationEventOutboxPublisher(eventPublisher);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+    public OutboxRelay outboxRelay(JdbcTemplate jdbcTemplate,
+                                   OutboxPublisher outboxPublisher,
+                                   OutboxProperties properties,
+                                   MeterRegistry meterRegistry) {
+        return new OutboxRelay(jdbcTemplate, outboxPublisher, properties, meterRegistry);
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.expert.domain.common.outbox;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * OutboxRelay 가 발행하는 이벤트
+ * 최소 한 번(at-least-once) 전달이므로 같은 id 를 두 번 받을 수 있다, 받는 쪽은 id 로 중복을 걸러낸다
+ */
+@Getter
+@RequiredArgsConstructor
+public class OutboxEvent {
+
+    private final long id;
+    // ex) comment.created
+    private final String eventType;
+    private final String aggregateType;
+    private final long aggregateId;
+    // JSON
+    private final String payload;
+    // 변경이 커밋된 트랜잭션에서 기록한 시각
+    private final LocalDateTime createdAt;
+}
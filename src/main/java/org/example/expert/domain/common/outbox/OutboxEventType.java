@@ -0,0 +1,21 @@
+package org.example.expert.domain.common.outbox;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * outbox 에 기록하는 도메인 이벤트 종류
+ * aggregate 는 이벤트가 속한 루트로, 댓글/담당자 이벤트는 일정(todo) 에 속한다
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OutboxEventType {
+    TODO_CREATED("todo", "todo.created"),
+    COMMENT_CREATED("todo", "comment.created"),
+    MANAGER_ASSIGNED("todo", "manager.assigned"),
+    MANAGER_REMOVED("todo", "manager.removed"),
+    USER_ROLE_CHANGED("user", "user.role-changed");
+
+    private final String aggregateType;
+    private final String eventName;
+}
@@ -0,0 +1,16 @@
+package org.example.expert.domain.common.outbox;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * outbox 에 기록할 이벤트, payload 는 JSON 으로 직렬화된다
+ */
+@Getter
+@RequiredArgsConstructor
+public class OutboxMessage {
+
+    private final OutboxEventType type;
+    private final long aggregateId;
+    private final Object payload;
+}
@@ -0,0 +1,33 @@
+package org.example.expert.domain.common.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 도메인 이벤트 outbox 설정
+ * ex) --outbox.relay-enabled=false (이 인스턴스에서는 기록만 하고 발행하지 않는다) --outbox.batch-size=500
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+
+    // 여러 인스턴스가 모두 relay 를 켜면 같은 이벤트를 중복 발행하므로 한 인스턴스에서만 켠다
+    private boolean relayEnabled = true;
+    // 커밋 알림을 놓쳐도 이 주기마다 미발행 이벤트를 찾는다
+    private Duration pollInterval = Duration.ofMillis(500);
+    // 한 번에 읽어 발행하는 최대 이벤트 수
+    private int batchSize = 100;
+    // 발행에 실패하면 initialBackoff 부터 두 배씩, 최대 maxBackoff 만큼 기다렸다가 같은 이벤트부터 다시 시도한다
+    private Duration initialBackoff = Duration.ofSeconds(1);
+    private Duration maxBackoff = Duration.ofMinutes(1);
+    // 처음 실패한 뒤 이 기간 동안 계속 실패한 이벤트는 건너뛰고 테이블에 남겨둔다 (수동 확인 대상)
+    // 구독자 장애가 이보다 길어지면 그동안 맨 앞 이벤트 하나씩만 건너뛴다
+    private Duration maxRetryDuration = Duration.ofHours(24);
+    // 발행한 이벤트는 이 기간이 지나면 지운다
+    private Duration retention = Duration.ofDays(3);
+    private Duration cleanupInterval = Duration.ofMinutes(10);
+}
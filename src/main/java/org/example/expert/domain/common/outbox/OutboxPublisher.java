@@ -0,0 +1,13 @@
+package org.example.expert.domain.common.outbox;
+
+/**
+ * OutboxRelay 가 이벤트를 내보내는 곳, 기본은 애플리케이션 이벤트(ApplicationEventOutboxPublisher)
+ * 브로커로 보내려면 이 인터페이스의 빈을 등록한다
+ */
+public interface OutboxPublisher {
+
+    /**
+     * 반환하면 발행된 것으로 보고 다시 보내지 않는다, 예외를 던지면 다음 주기에 같은 이벤트부터 다시 보낸다
+     */
+    void publish(OutboxEvent event);
+}
@@ -0,0 +1,275 @@
+package org.example.expert.domain.common.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox_events 의 미발행 이벤트를 id 순서로 batchSize 개씩 읽어 OutboxPublisher 로 내보내는 스레드
+ * - 발행한 뒤에 published_at 을 기록하므로 그 사이에 죽으면 다시 발행한다 (at-least-once)
+ * - 발행에 실패하면 그 이벤트에서 멈추고, 지수 backoff 로 next_attempt_at 까지 기다린 뒤 같은 이벤트부터 다시 시도한다
+ *   구독자 장애 동안에는 뒤 이벤트를 건드리지 않으므로 장애가 끝나면 순서대로 모두 발행된다
+ *   처음 실패한 뒤 maxRetryDuration 이 지나도록 실패한 이벤트만 건너뛰고 테이블에 남겨둔다 (abandoned_at)
+ * - 커밋 직후 DomainEventOutbox 가 깨우고, 알림을 놓쳐도 pollInterval 마다 찾는다
+ * - 발행하고 retention 이 지난 이벤트는 cleanupInterval 마다 지운다
+ *
+ * 여러 인스턴스가 relay 를 켜면 같은 이벤트를 여러 번 발행하므로 한 인스턴스에서만 켠다 (outbox.relay-enabled)
+ */
+@Slf4j
+public class OutboxRelay implements SmartLifecycle {
+
+    private static final String SELECT_PENDING =
+            "SELECT id, event_type, aggregate_type, aggregate_id, payload, created_at, attempts, next_attempt_at, first_failed_at "
+                    + "FROM outbox_events WHERE published_at IS NULL AND abandoned_at IS NULL ORDER BY id LIMIT ?";
+    private static final String SELECT_OLDEST_PENDING =
+            "SELECT MIN(created_at) FROM outbox_events WHERE published_at IS NULL AND abandoned_at IS NULL";
+    private static final String MARK_PUBLISHED = "UPDATE outbox_events SET published_at = ? WHERE id = ?";
+    private static final String SCHEDULE_RETRY =
+            "UPDATE outbox_events SET attempts = ?, first_failed_at = ?, next_attempt_at = ? WHERE id = ?";
+    private static final String ABANDON =
+            "UPDATE outbox_events SET attempts = ?, first_failed_at = ?, abandoned_at = ? WHERE id = ?";
+    private static final String SELECT_PUBLISHED_BEFORE =
+            "SELECT id FROM outbox_events WHERE published_at < ? ORDER BY published_at, id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxPublisher publisher;
+    private final OutboxProperties properties;
+
+    private final Semaphore wakeUps = new Semaphore(0);
+    // 가장 오래 기다린 미발행 이벤트의 나이
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter published;
+    private final Counter failed;
+    private final Counter abandoned;
+    private final Timer delay;
+
+    private volatile boolean running;
+    private Thread relayThread;
+    private long nextCleanupAt;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate, OutboxPublisher publisher, OutboxProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.publisher = publisher;
+        this.properties = properties;
+
+        Gauge.builder("outbox.relay.lag", lagMillis, lag -> lag.get() / 1_000.0)
+                .description("가장 오래 기다린 미발행 이벤트가 기록된 뒤 지난 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.published = counter(meterRegistry, "published", "발행한 이벤트 수");
+        this.failed = counter(meterRegistry, "failed", "발행에 실패해 다시 시도할 이벤트 수");
+        this.abandoned = counter(meterRegistry, "abandoned", "maxRetryDuration 동안 실패해 더 시도하지 않는 이벤트 수");
+        this.delay = Timer.builder("outbox.relay.delay")
+                .description("이벤트가 기록된 뒤 발행되기까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 다음 poll 주기를 기다리지 않고 바로 미발행 이벤트를 찾게 한다
+     */
+    public void wakeUp() {
+        wakeUps.release();
+    }
+
+    /**
+     * 미발행 이벤트를 한 배치 발행한다
+     * @return 발행한 이벤트 수
+     */
+    public int relayPending() {
+        List<PendingEvent> batch = jdbcTemplate.query(SELECT_PENDING, (rs, rowNum) -> new PendingEvent(
+                new OutboxEvent(
+                        rs.getLong("id"),
+                        rs.getString("event_type"),
+                        rs.getString("aggregate_type"),
+                        rs.getLong("aggregate_id"),
+                        rs.getString("payload"),
+                        rs.getTimestamp("created_at").toLocalDateTime()),
+                rs.getInt("attempts"),
+                toLocalDateTime(rs.getTimestamp("next_attempt_at")),
+                toLocalDateTime(rs.getTimestamp("first_failed_at"))
+        ), properties.getBatchSize());
+
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> done = new ArrayList<>(batch.size());
+        for (PendingEvent pending : batch) {
+            // backoff 중인 이벤트를 두고 뒤 이벤트를 먼저 내보내지 않는다
+            if (pending.nextAttemptAt != null && pending.nextAttemptAt.isAfter(now)) {
+                break;
+            }
+            try {
+                publisher.publish(pending.event);
+            } catch (RuntimeException e) {
+                onFailure(pending, e);
+                break;
+            }
+            done.add(pending.event);
+        }
+        markPublished(done);
+        updateLag();
+        return done.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        nextCleanupAt = System.currentTimeMillis() + properties.getCleanupInterval().toMillis();
+        relayThread = new Thread(this::relayLoop, "outbox-relay");
+        relayThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        wakeUp();
+        try {
+            relayThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void relayLoop() {
+        while (running) {
+            try {
+                // 배치가 가득 찼으면 더 남아 있을 수 있으므로 기다리지 않고 이어서 읽는다
+                if (relayPending() < properties.getBatchSize()) {
+                    waitForWakeUp();
+                }
+                if (System.currentTimeMillis() >= nextCleanupAt) {
+                    cleanup();
+                    nextCleanupAt = System.currentTimeMillis() + properties.getCleanupInterval().toMillis();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // DB 장애 등, relay 스레드가 죽으면 이벤트가 영영 발행되지 않으므로 다음 주기에 다시 시도한다
+                log.error("outbox 이벤트를 발행하지 못했습니다.", e);
+                try {
+                    waitForWakeUp();
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void waitForWakeUp() throws InterruptedException {
+        wakeUps.tryAcquire(properties.getPollInterval().toMillis(), TimeUnit.MILLISECONDS);
+        // 기다리는 동안 쌓인 알림은 이번에 한 번 읽는 것으로 충분하다
+        wakeUps.drainPermits();
+    }
+
+    private void onFailure(PendingEvent pending, RuntimeException e) {
+        OutboxEvent event = pending.event;
+        int attempts = pending.attempts + 1;
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime firstFailedAt = pending.firstFailedAt == null ? now : pending.firstFailedAt;
+
+        if (!now.isBefore(firstFailedAt.plus(properties.getMaxRetryDuration()))) {
+            jdbcTemplate.update(ABANDON, attempts, Timestamp.valueOf(firstFailedAt), Timestamp.valueOf(now), event.getId());
+            abandoned.increment();
+            log.error("outbox 이벤트 발행을 {} 동안 {}번 실패해 더 시도하지 않습니다. id={}, type={}",
+                    Duration.between(firstFailedAt, now), attempts, event.getId(), event.getEventType(), e);
+            return;
+        }
+        LocalDateTime nextAttemptAt = now.plus(backoff(attempts));
+        jdbcTemplate.update(SCHEDULE_RETRY, attempts, Timestamp.valueOf(firstFailedAt), Timestamp.valueOf(nextAttemptAt), event.getId());
+        failed.increment();
+        log.warn("outbox 이벤트 발행에 실패해 {} 에 다시 시도합니다. id={}, type={}, attempts={}",
+                nextAttemptAt, event.getId(), event.getEventType(), attempts, e);
+    }
+
+    // initialBackoff * 2^(attempts - 1), maxBackoff 를 넘지 않는다
+    private Duration backoff(int attempts) {
+        Duration backoff = properties.getInitialBackoff();
+        for (int i = 1; i < attempts && backoff.compareTo(properties.getMaxBackoff()) < 0; i++) {
+            backoff = backoff.multipliedBy(2);
+        }
+        return backoff.compareTo(properties.getMaxBackoff()) < 0 ? backoff : properties.getMaxBackoff();
+    }
+
+    private void markPublished(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp publishedAt = Timestamp.valueOf(now);
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            rows.add(new Object[]{publishedAt, event.getId()});
+            delay.record(Duration.between(event.getCreatedAt(), now));
+        }
+        jdbcTemplate.batchUpdate(MARK_PUBLISHED, rows);
+        published.increment(events.size());
+    }
+
+    private void updateLag() {
+        Timestamp oldest = jdbcTemplate.queryForObject(SELECT_OLDEST_PENDING, Timestamp.class);
+        lagMillis.set(oldest == null ? 0 : Math.max(0, System.currentTimeMillis() - oldest.getTime()));
+    }
+
+    private void cleanup() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(properties.getRetention()));
+        int batchSize = properties.getBatchSize();
+        long deleted = 0;
+        while (running) {
+            List<Long> ids = jdbcTemplate.queryForList(SELECT_PUBLISHED_BEFORE, Long.class, cutoff, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+            deleted += jdbcTemplate.update("DELETE FROM outbox_events WHERE id IN (" + placeholders + ")", ids.toArray());
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        if (deleted > 0) {
+            log.info("발행한 outbox 이벤트를 정리했습니다. deleted={}, cutoff={}", deleted, cutoff);
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result, String description) {
+        return Counter.builder("outbox.events")
+                .description(description)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 미발행 이벤트와 재시도 상태
+     */
+    @RequiredArgsConstructor
+    private static class PendingEvent {
+
+        private final OutboxEvent event;
+        private final int attempts;
+        private final LocalDateTime nextAttemptAt;
+        private final LocalDateTime firstFailedAt;
+    }
+}
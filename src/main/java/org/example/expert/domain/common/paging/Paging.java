@@ -0,0 +1,45 @@
+package org.example.expert.domain.common.paging;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * PagingPolicy 가 검증/조정한 page, size
+ * size 를 조정한 경우 clampReason 에 사유가 담기고, 응답 헤더로 알려준다
+ */
+@Getter
+@RequiredArgsConstructor
+public class Paging {
+
+    public static final String APPLIED_SIZE_HEADER = "X-Page-Size-Applied";
+    public static final String CLAMP_REASON_HEADER = "X-Page-Size-Clamped";
+
+    public static final String REASON_MAX_SIZE = "max-size";
+    public static final String REASON_POOL_SATURATED = "pool-saturated";
+
+    // 1부터 시작
+    private final int page;
+    private final int size;
+    // 조정하지 않았으면 null
+    private final String clampReason;
+
+    public boolean isClamped() {
+        return clampReason != null;
+    }
+
+    public Pageable toPageable() {
+        return PageRequest.of(page - 1, size);
+    }
+
+    public HttpHeaders headers() {
+        HttpHeaders headers = new HttpHeaders();
+        if (isClamped()) {
+            headers.set(APPLIED_SIZE_HEADER, String.valueOf(size));
+            headers.set(CLAMP_REASON_HEADER, clampReason);
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.expert.domain.common.paging;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(PagingProperties.class)
+public class PagingConfig {
+}
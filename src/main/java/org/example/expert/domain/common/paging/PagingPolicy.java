@@ -0,0 +1,83 @@
+package org.example.expert.domain.common.paging;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * 목록 조회의 page/size 검증과 조정
+ * - page, size 가 1 미만이면 400
+ * - size 가 maxSize 를 넘으면 maxSize 로 줄인다
+ * - size 를 지정하지 않았고 커넥션 풀이 포화 상태면 기본값을 saturatedDefaultSize 로 줄인다
+ * 조정한 경우 paging.size.clamped 카운터를 reason 태그별로 올린다
+ */
+@Component
+public class PagingPolicy {
+
+    static final String CLAMPED_METRIC = "paging.size.clamped";
+
+    private final PagingProperties properties;
+    private final HikariDataSource hikariDataSource;
+    private final MeterRegistry meterRegistry;
+
+    public PagingPolicy(PagingProperties properties, DataSource dataSource, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.hikariDataSource = unwrapHikari(dataSource);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param size null 이면 기본값 (풀 상태에 따라 달라짐)
+     */
+    public Paging resolve(int page, Integer size) {
+        if (page < 1) {
+            throw new InvalidRequestException("page 는 1 이상이어야 합니다.");
+        }
+        if (size != null && size < 1) {
+            throw new InvalidRequestException("size 는 1 이상이어야 합니다.");
+        }
+
+        if (size == null) {
+            if (isPoolSaturated()) {
+                return clamped(page, Math.min(properties.getSaturatedDefaultSize(), properties.getDefaultSize()), Paging.REASON_POOL_SATURATED);
+            }
+            return new Paging(page, properties.getDefaultSize(), null);
+        }
+        if (size > properties.getMaxSize()) {
+            return clamped(page, properties.getMaxSize(), Paging.REASON_MAX_SIZE);
+        }
+        return new Paging(page, size, null);
+    }
+
+    private Paging clamped(int page, int size, String reason) {
+        meterRegistry.counter(CLAMPED_METRIC, "reason", reason).increment();
+        return new Paging(page, size, reason);
+    }
+
+    boolean isPoolSaturated() {
+        if (hikariDataSource == null) {
+            return false;
+        }
+        // 첫 커넥션을 얻기 전에는 풀이 아직 없다
+        HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return false;
+        }
+        return pool.getThreadsAwaitingConnection() > 0
+                || pool.getActiveConnections() >= hikariDataSource.getMaximumPoolSize() * properties.getSaturationThreshold();
+    }
+
+    // HikariCP 가 아니면(테스트용 DataSource 등) 풀 상태를 보지 않고 항상 기본값을 쓴다
+    private static HikariDataSource unwrapHikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
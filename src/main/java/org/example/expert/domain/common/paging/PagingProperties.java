@@ -0,0 +1,24 @@
+package org.example.expert.domain.common.paging;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 목록 조회 페이지 크기 설정
+ * ex) --paging.max-size=200 --paging.saturated-default-size=3
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "paging")
+public class PagingProperties {
+
+    // size 를 지정하지 않았을 때의 기본값
+    private int defaultSize = 10;
+    // 이보다 큰 size 는 이 값으로 줄여서 조회한다
+    private int maxSize = 100;
+    // DB 커넥션 풀이 포화 상태일 때의 기본값, 명시한 size 에는 적용하지 않는다
+    private int saturatedDefaultSize = 5;
+    // 사용 중인 커넥션이 최대 풀 크기의 이 비율 이상이거나 커넥션을 기다리는 스레드가 있으면 포화로 본다
+    private double saturationThreshold = 0.8;
+}
@@ -1,7 +1,9 @@
 package org.example.expert.domain.manager.repository;
 
 import org.example.expert.domain.manager.entity.Manager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -10,4 +12,18 @@ import java.util.List;
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
     @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
     List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    boolean existsByTodoIdAndUserId(Long todoId, Long userId);
+
+    // 내가 담당자인 일정 id, id 역순 keyset 페이지
+    // managers 는 (user_id, todo_id) 인덱스만 읽고 todos 는 삭제 여부만 PK 로 확인한다
+    // (t 를 WHERE 에서 참조하지 않으면 Hibernate 가 조인과 함께 @SQLRestriction 도 빼버린다)
+    @Query("SELECT DISTINCT m.todo.id AS todoId FROM Manager m JOIN m.todo t " +
+            "WHERE m.user.id = :userId AND m.todo.id < :cursor AND t.deletedAt IS NULL ORDER BY todoId DESC")
+    List<Long> findTodoIdsByUserIdAndTodoIdLessThan(@Param("userId") Long userId, @Param("cursor") Long cursor, Limit limit);
+
+    // 담당자는 소프트 삭제하지 않고 SoftDeletePurgeJob 이 일정과 함께 지운다
+    @Modifying
+    @Query(value = "DELETE FROM managers WHERE todo_id IN (:todoIds)", nativeQuery = true)
+    int purgeAllByTodoIdIn(@Param("todoIds") List<Long> todoIds);
 }
@@ -5,6 +5,8 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.outbox.DomainEventOutbox;
+import org.example.expert.domain.common.outbox.OutboxEventType;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
@@ -31,6 +33,7 @@ public class ManagerService {
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
     private final JwtUtil jwtUtil;
+    private final DomainEventOutbox domainEventOutbox;
 
     @Transactional
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
@@ -59,6 +62,12 @@ public class ManagerService {
 
         Manager newManagerUser = new Manager(managerUser, todo);
         Manager savedManagerUser = managerRepository.save(newManagerUser);
+        todoRepository.addManagerCount(todo.getId(), 1);
+        domainEventOutbox.append(OutboxEventType.MANAGER_ASSIGNED, todoId, DomainEventOutbox.payload(
+                "managerId", savedManagerUser.getId(),
+                "todoId", todoId,
+                "userId", managerUser.getId()
+        ));
 
         return new ManagerSaveResponse(
                 savedManagerUser.getId(),
@@ -89,6 +98,7 @@ public class ManagerService {
      * @param todoId 할 일 ID
      * @param managerId 삭제할 담당자 ID
      */
+    @Transactional
     public void deleteManager(String bearerToken, long todoId, long managerId) {
 
         String token = jwtUtil.substringToken(bearerToken);
@@ -116,6 +126,12 @@ public class ManagerService {
 
         // 담당자 삭제
         managerRepository.delete(manager);
+        todoRepository.addManagerCount(todo.getId(), -1);
+        domainEventOutbox.append(OutboxEventType.MANAGER_REMOVED, todoId, DomainEventOutbox.payload(
+                "managerId", manager.getId(),
+                "todoId", todoId,
+                "userId", manager.getUser().getId()
+        ));
     }
 
     /**
@@ -4,19 +4,35 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorPage;
+import org.example.expert.domain.common.etag.ETags;
+import org.example.expert.domain.common.fields.SparseFields;
+import org.example.expert.domain.common.paging.Paging;
+import org.example.expert.domain.common.paging.PagingPolicy;
+import org.example.expert.domain.todo.dto.TodoField;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final PagingPolicy pagingPolicy;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -26,16 +42,110 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    // size 를 생략하면 PagingPolicy 가 기본값을 정하고, 최대값을 넘으면 줄여서 조회한 뒤 X-Page-Size-* 헤더로 알려준다
     @GetMapping("/todos")
     public ResponseEntity<Page<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(required = false) Integer size
+    ) {
+        Paging paging = pagingPolicy.resolve(page, size);
+        return ResponseEntity.ok()
+                .headers(paging.headers())
+                .body(todoService.getTodos(paging.getPage(), paging.getSize()));
+    }
+
+    // JSON 을 원하는 요청(Accept 가 없거나 */* 포함)은 Page 를 만들지 않고 스트리밍으로 응답한다.
+    // CBOR/Smile 은 위의 getTodos 가 메시지 컨버터로 처리한다
+    @GetMapping(value = "/todos", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTodos(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(required = false) Integer size
     ) {
-        return ResponseEntity.ok(todoService.getTodos(page, size));
+        // 잘못된 page/size 는 스트리밍을 시작하기 전에 요청 스레드에서 거른다
+        Paging paging = pagingPolicy.resolve(page, size);
+        Pageable pageable = paging.toPageable();
+        return ResponseEntity.ok()
+                .headers(paging.headers())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> todoService.writeTodos(pageable, out));
+    }
+
+    // fields 파라미터가 있을 때만 선택, ex) ?fields=title,commentCount (id 는 항상 포함)
+    @GetMapping(value = "/todos", params = "fields")
+    public ResponseEntity<Page<Map<String, Object>>> getTodoFields(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam String fields
+    ) {
+        Paging paging = pagingPolicy.resolve(page, size);
+        Set<TodoField> selected = SparseFields.parse(fields, TodoField.class, TodoField.ID);
+        return ResponseEntity.ok()
+                .headers(paging.headers())
+                .body(todoService.getTodos(paging.getPage(), paging.getSize(), selected));
+    }
+
+    // 조건 검색 ex) /todos/search?weather=Rainy&modifiedFrom=2024-01-01T00:00:00&modifiedTo=2024-02-01T00:00:00
+    @GetMapping("/todos/search")
+    public ResponseEntity<Page<TodoResponse>> searchTodos(
+            @ModelAttribute TodoSearchCondition condition,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(required = false) Integer size
+    ) {
+        Paging paging = pagingPolicy.resolve(page, size);
+        return ResponseEntity.ok()
+                .headers(paging.headers())
+                .body(todoService.searchTodos(condition, paging.getPage(), paging.getSize()));
+    }
+
+    // 내가 작성한 일정, 다음 페이지는 응답의 nextCursor 를 cursor 로 넘긴다
+    @GetMapping("/users/me/todos")
+    public ResponseEntity<CursorPage<TodoResponse>> getMyTodos(
+            @Auth AuthUser authUser,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        Paging paging = pagingPolicy.resolve(1, size);
+        return ResponseEntity.ok()
+                .headers(paging.headers())
+                .body(todoService.getMyTodos(authUser, cursor, paging.getSize()));
+    }
+
+    // 내가 담당자인 일정
+    @GetMapping("/users/me/assigned")
+    public ResponseEntity<CursorPage<TodoResponse>> getAssignedTodos(
+            @Auth AuthUser authUser,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        Paging paging = pagingPolicy.resolve(1, size);
+        return ResponseEntity.ok()
+                .headers(paging.headers())
+                .body(todoService.getAssignedTodos(authUser, cursor, paging.getSize()));
     }
 
     @GetMapping("/todos/{todoId}")
     public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
-        return ResponseEntity.ok(todoService.getTodo(todoId));
+        TodoResponse response = todoService.getTodo(todoId);
+        return ETags.ok(response, response.getVersion());
+    }
+
+    @PatchMapping("/todos/{todoId}")
+    public ResponseEntity<TodoResponse> updateTodo(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody TodoUpdateRequest todoUpdateRequest
+    ) {
+        TodoResponse response = todoService.updateTodo(authUser, todoId, todoUpdateRequest, ETags.parseIfMatch(ifMatch));
+        return ETags.ok(response, response.getVersion());
+    }
+
+    @DeleteMapping("/todos/{todoId}")
+    public void deleteTodo(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        todoService.deleteTodo(authUser, todoId, ETags.parseIfMatch(ifMatch));
     }
 }
@@ -0,0 +1,47 @@
+package org.example.expert.domain.todo.dto;
+
+import jakarta.persistence.Tuple;
+import lombok.Getter;
+import org.example.expert.domain.common.fields.SparseField;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * GET /todos?fields= 로 고를 수 있는 일정 필드 (JPQL 에서 일정 별칭은 t, 작성자는 u)
+ */
+@Getter
+public enum TodoField implements SparseField {
+
+    ID("id", "t.id"),
+    TITLE("title", "t.title"),
+    CONTENTS("contents", "t.contents"),
+    WEATHER("weather", "t.weather"),
+    USER("user", List.of("u.id AS userId", "u.email AS userEmail"),
+            tuple -> new UserResponse(tuple.get("userId", Long.class), tuple.get("userEmail", String.class))),
+    CREATED_AT("createdAt", "t.createdAt"),
+    MODIFIED_AT("modifiedAt", "t.modifiedAt"),
+    VERSION("version", "t.version"),
+    COMMENT_COUNT("commentCount", "t.commentCount"),
+    MANAGER_COUNT("managerCount", "t.managerCount");
+
+    private final String fieldName;
+    private final List<String> selections;
+    private final Function<Tuple, Object> reader;
+
+    TodoField(String fieldName, String path) {
+        this(fieldName, List.of(path + " AS " + fieldName), tuple -> tuple.get(fieldName));
+    }
+
+    TodoField(String fieldName, List<String> selections, Function<Tuple, Object> reader) {
+        this.fieldName = fieldName;
+        this.selections = selections;
+        this.reader = reader;
+    }
+
+    @Override
+    public Object read(Tuple tuple) {
+        return reader.apply(tuple);
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * GET /todos/search 조건, 모두 선택이며 준 조건만 AND 로 묶는다
+ * 기간은 from 이상, to 미만 ex) ?weather=Rainy&modifiedFrom=2024-01-01T00:00:00&modifiedTo=2024-02-01T00:00:00
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoSearchCondition {
+
+    private String weather;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime modifiedFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime modifiedTo;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+
+    // 인덱스가 있는 조건 (weather, modified_at)
+    public boolean hasIndexedPredicate() {
+        return weather != null || modifiedFrom != null || modifiedTo != null;
+    }
+
+    public boolean hasAnyPredicate() {
+        return hasIndexedPredicate() || createdFrom != null || createdTo != null;
+    }
+}
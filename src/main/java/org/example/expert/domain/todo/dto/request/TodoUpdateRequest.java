@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일정 부분 수정 요청, null 인 필드는 기존 값을 유지한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoUpdateRequest {
+
+    private String title;
+    private String contents;
+}
@@ -15,8 +15,20 @@ public class TodoResponse {
     private final UserResponse user;
     private final LocalDateTime createdAt;
     private final LocalDateTime modifiedAt;
+    private final Long version;
+    private final Integer commentCount;
+    private final Integer managerCount;
 
     public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(id, title, contents, weather, user, createdAt, modifiedAt, null);
+    }
+
+    public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt, Long version) {
+        this(id, title, contents, weather, user, createdAt, modifiedAt, version, null, null);
+    }
+
+    public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt,
+                        Long version, Integer commentCount, Integer managerCount) {
         this.id = id;
         this.title = title;
         this.contents = contents;
@@ -24,5 +36,8 @@ public class TodoResponse {
         this.user = user;
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
+        this.version = version;
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
     }
 }
@@ -7,7 +7,9 @@ import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -15,6 +17,8 @@ import java.util.List;
 @Entity
 @NoArgsConstructor
 @Table(name = "todos")
+// 소프트 삭제된 일정은 모든 JPA 조회에서 제외된다
+@SQLRestriction("deleted_at IS NULL")
 public class Todo extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -23,11 +27,25 @@ public class Todo extends Timestamped {
     private String contents;
     private String weather;
 
+    @Version
+    private Long version;
+
+    private LocalDateTime deletedAt;
+
+    // 목록 조회용 비정규화 카운터, TodoRepository 의 UPDATE ... SET x = x + ? 로만 바뀐다.
+    // 변경 감지 UPDATE 가 다른 요청이 올린 값을 덮어쓰지 않도록 updatable = false 로 두고, 버전도 올리지 않는다
+    @Column(nullable = false, updatable = false)
+    private int commentCount;
+
+    @Column(nullable = false, updatable = false)
+    private int managerCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @OneToMany(mappedBy = "todo", cascade = CascadeType.REMOVE)
+    // 댓글은 TodoService.deleteTodo 에서 한 번에 소프트 삭제한다 (CascadeType.REMOVE 는 댓글을 한 건씩 조회/삭제함)
+    @OneToMany(mappedBy = "todo")
     private List<Comment> comments = new ArrayList<>();
 
     @OneToMany(mappedBy = "todo", cascade = CascadeType.PERSIST)
@@ -39,6 +57,7 @@ public class Todo extends Timestamped {
         this.weather = weather;
         this.user = user;
         this.managers.add(new Manager(user, this));
+        this.managerCount = 1;
     }
 
     public void update(String title, String contents) {
@@ -46,7 +65,9 @@ public class Todo extends Timestamped {
         this.contents = contents;
     }
 
+    // 저장 전 일정에만 사용, 저장된 일정의 담당자는 ManagerService 를 통해 추가한다
     public void addManager(User user) {
         this.managers.add(new Manager(user, this));
+        this.managerCount++;
     }
 }
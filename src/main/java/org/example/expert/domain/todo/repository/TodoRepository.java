@@ -1,23 +1,72 @@
 package org.example.expert.domain.todo.repository;
 
 import org.example.expert.domain.todo.entity.Todo;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
-public interface TodoRepository extends JpaRepository<Todo, Long> {
+public interface TodoRepository extends JpaRepository<Todo, Long>, JpaSpecificationExecutor<Todo>, TodoRepositoryCustom {
 
-    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
+    // user 는 not null FK 라 count 에 join 이 필요 없다
+    @Query(value = "SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC",
+            countQuery = "SELECT COUNT(t) FROM Todo t")
     Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
 
+    // GET /todos/search, 작성자는 목록 쿼리에서 함께 읽고 count 쿼리에는 조인하지 않는다
+    @Override
+    @EntityGraph(attributePaths = "user")
+    Page<Todo> findAll(Specification<Todo> spec, Pageable pageable);
+
     @Query("SELECT t FROM Todo t " +
             "LEFT JOIN FETCH t.user " +
             "WHERE t.id = :todoId")
     Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
 
+    // 내가 작성한 일정, id 역순 keyset 페이지 (idx_todos_user_id_deleted_at_id 를 순서대로 읽다가 limit 에서 멈춘다)
+    @Query("SELECT t FROM Todo t JOIN FETCH t.user WHERE t.user.id = :userId AND t.id < :cursor ORDER BY t.id DESC")
+    List<Todo> findByUserIdAndIdLessThan(@Param("userId") Long userId, @Param("cursor") Long cursor, Limit limit);
+
+    @Query("SELECT t FROM Todo t JOIN FETCH t.user WHERE t.id IN :todoIds ORDER BY t.id DESC")
+    List<Todo> findAllWithUserByIdIn(@Param("todoIds") List<Long> todoIds);
+
     int countById(Long todoId);
+
+    // 버전이 일치할 때만 소프트 삭제, 0 이면 그 사이 다른 요청이 수정한 것
+    // modified_at 도 함께 옮겨 변경분 내보내기가 삭제를 놓치지 않게 한다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.deletedAt = :deletedAt, t.modifiedAt = :deletedAt, t.version = t.version + 1 WHERE t.id = :todoId AND t.version = :version")
+    int softDeleteByIdAndVersion(@Param("todoId") Long todoId, @Param("version") Long version, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 댓글/담당자 추가·삭제 시 카운터를 행 단위 원자 연산으로 갱신한다 (버전은 올리지 않음)
+    @Modifying
+    @Query(value = "UPDATE todos SET comment_count = comment_count + :delta WHERE id = :todoId", nativeQuery = true)
+    int addCommentCount(@Param("todoId") Long todoId, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = "UPDATE todos SET manager_count = manager_count + :delta WHERE id = :todoId", nativeQuery = true)
+    int addManagerCount(@Param("todoId") Long todoId, @Param("delta") int delta);
+
+    // 댓글 id 만 아는 관리자 삭제용, 댓글 조회 없이 한 문장으로 처리한다
+    @Modifying
+    @Query(value = "UPDATE todos SET comment_count = comment_count - 1 WHERE id = (SELECT todo_id FROM comments WHERE id = :commentId)", nativeQuery = true)
+    int decrementCommentCountByCommentId(@Param("commentId") Long commentId);
+
+    // 아래는 SoftDeletePurgeJob 전용, @SQLRestriction 에 가려지지 않도록 native 쿼리로 둔다
+    @Query(value = "SELECT id FROM todos WHERE deleted_at < :cutoff ORDER BY deleted_at LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsDeletedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM todos WHERE id IN (:ids)", nativeQuery = true)
+    int purgeAllByIdIn(@Param("ids") List<Long> ids);
 }
@@ -0,0 +1,33 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.Tuple;
+import org.example.expert.domain.todo.dto.TodoField;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+public interface TodoRepositoryCustom {
+
+    /**
+     * findAllByOrderByModifiedAtDesc 와 같은 순서로, 고른 필드의 컬럼만 조회한다
+     */
+    Page<Tuple> findAllFieldsByOrderByModifiedAtDesc(Set<TodoField> fields, Pageable pageable);
+
+    /**
+     * findAllFieldsByOrderByModifiedAtDesc 와 같은 순서로 offset 부터 limit 개, 전체 건수는 세지 않는다
+     */
+    List<Tuple> findAllFields(Set<TodoField> fields, long offset, int limit);
+
+    /**
+     * findAllFields 로 읽은 마지막 행(modifiedAt, id) 다음부터 limit 개 (keyset), 고른 필드에 ID 와 MODIFIED_AT 이 있어야 한다
+     */
+    List<Tuple> findAllFieldsAfter(Set<TodoField> fields, LocalDateTime modifiedAt, long id, int limit);
+
+    /**
+     * 소프트 삭제되지 않은 일정 수
+     */
+    long countAll();
+}
@@ -0,0 +1,65 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.example.expert.domain.common.fields.SparseFields;
+import org.example.expert.domain.todo.dto.TodoField;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+public class TodoRepositoryImpl implements TodoRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Tuple> findAllFieldsByOrderByModifiedAtDesc(Set<TodoField> fields, Pageable pageable) {
+        List<Tuple> content = pagedQuery(fields, pageable).getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, this::countAll);
+    }
+
+    @Override
+    public List<Tuple> findAllFields(Set<TodoField> fields, long offset, int limit) {
+        return entityManager.createQuery(selectFrom(fields) + " ORDER BY t.modifiedAt DESC, t.id DESC", Tuple.class)
+                .setFirstResult((int) offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Tuple> findAllFieldsAfter(Set<TodoField> fields, LocalDateTime modifiedAt, long id, int limit) {
+        // idx_todos_modified_at_id 를 거꾸로 읽어 앞 행을 건너뛰지 않고 바로 다음 행부터 읽는다
+        String jpql = selectFrom(fields)
+                + " WHERE t.modifiedAt < :modifiedAt OR (t.modifiedAt = :modifiedAt AND t.id < :id)"
+                + " ORDER BY t.modifiedAt DESC, t.id DESC";
+        return entityManager.createQuery(jpql, Tuple.class)
+                .setParameter("modifiedAt", modifiedAt)
+                .setParameter("id", id)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long countAll() {
+        return entityManager.createQuery("SELECT COUNT(t) FROM Todo t", Long.class).getSingleResult();
+    }
+
+    private TypedQuery<Tuple> pagedQuery(Set<TodoField> fields, Pageable pageable) {
+        return entityManager.createQuery(selectFrom(fields) + " ORDER BY t.modifiedAt DESC", Tuple.class)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize());
+    }
+
+    private static String selectFrom(Set<TodoField> fields) {
+        // 작성자를 고르지 않으면 users 조인도 하지 않는다
+        return "SELECT " + SparseFields.selectClause(fields)
+                + " FROM Todo t" + (fields.contains(TodoField.USER) ? " JOIN t.user u" : "");
+    }
+}
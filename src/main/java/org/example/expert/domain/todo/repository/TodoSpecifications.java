@@ -0,0 +1,46 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.entity.Todo;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * TodoSearchCondition 의 조건별 Specification, 값이 null 인 조건은 null 을 반환해 and() 에서 빠진다
+ */
+public final class TodoSpecifications {
+
+    private TodoSpecifications() {
+    }
+
+    public static Specification<Todo> of(TodoSearchCondition condition) {
+        return Specification.allOf(
+                weatherEquals(condition.getWeather()),
+                modifiedFrom(condition.getModifiedFrom()),
+                modifiedBefore(condition.getModifiedTo()),
+                createdFrom(condition.getCreatedFrom()),
+                createdBefore(condition.getCreatedTo())
+        );
+    }
+
+    public static Specification<Todo> weatherEquals(String weather) {
+        return weather == null ? null : (root, query, cb) -> cb.equal(root.get("weather"), weather);
+    }
+
+    public static Specification<Todo> modifiedFrom(LocalDateTime from) {
+        return from == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("modifiedAt"), from);
+    }
+
+    public static Specification<Todo> modifiedBefore(LocalDateTime to) {
+        return to == null ? null : (root, query, cb) -> cb.lessThan(root.get("modifiedAt"), to);
+    }
+
+    public static Specification<Todo> createdFrom(LocalDateTime from) {
+        return from == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), from);
+    }
+
+    public static Specification<Todo> createdBefore(LocalDateTime to) {
+        return to == null ? null : (root, query, cb) -> cb.lessThan(root.get("createdAt"), to);
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.expert.domain.todo.search;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(TodoSearchProperties.class)
+public class TodoSearchConfig {
+}
@@ -0,0 +1,68 @@
+package org.example.expert.domain.todo.search;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+
+/**
+ * 인덱스를 못 타는 검색 조건 조합을 큰 테이블에서 거절한다
+ * - weather, modified 범위: idx_todos_deleted_at_weather_modified_at / idx_todos_deleted_at_modified_at
+ * - created 범위: 인덱스 없음, 단독으로 쓰면 modified_at 순서로 테이블 전체를 훑으며 거를 수 있다
+ * 조건이 없으면 GET /todos 와 같은 인덱스 순서 조회라 허용한다
+ */
+@Component
+public class TodoSearchGuard {
+
+    private final TodoRepository todoRepository;
+    private final TodoSearchProperties properties;
+    private final Clock clock;
+
+    private volatile long rowCount;
+    private volatile long countedAt = Long.MIN_VALUE;
+
+    @Autowired
+    public TodoSearchGuard(TodoRepository todoRepository, TodoSearchProperties properties) {
+        this(todoRepository, properties, Clock.systemUTC());
+    }
+
+    public TodoSearchGuard(TodoRepository todoRepository, TodoSearchProperties properties, Clock clock) {
+        this.todoRepository = todoRepository;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    public void check(TodoSearchCondition condition) {
+        validateRange(condition);
+        if (!condition.hasAnyPredicate() || condition.hasIndexedPredicate()) {
+            return;
+        }
+        if (rowCount() >= properties.getLargeTableRows()) {
+            throw new InvalidRequestException("created 기간 조건은 weather 또는 modified 기간 조건과 함께 사용해야 합니다.");
+        }
+    }
+
+    private static void validateRange(TodoSearchCondition condition) {
+        if (condition.getModifiedFrom() != null && condition.getModifiedTo() != null
+                && !condition.getModifiedFrom().isBefore(condition.getModifiedTo())) {
+            throw new InvalidRequestException("modifiedFrom 은 modifiedTo 보다 앞서야 합니다.");
+        }
+        if (condition.getCreatedFrom() != null && condition.getCreatedTo() != null
+                && !condition.getCreatedFrom().isBefore(condition.getCreatedTo())) {
+            throw new InvalidRequestException("createdFrom 은 createdTo 보다 앞서야 합니다.");
+        }
+    }
+
+    // COUNT(*) 는 테이블이 클수록 비싸므로 TTL 동안 재사용한다 (동시에 만료되면 몇 번 더 셀 수 있지만 무해하다)
+    private long rowCount() {
+        long now = clock.millis();
+        if (countedAt == Long.MIN_VALUE || now - countedAt >= properties.getRowCountTtl().toMillis()) {
+            rowCount = todoRepository.countAll();
+            countedAt = now;
+        }
+        return rowCount;
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.expert.domain.todo.search;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * GET /todos/search 설정
+ * ex) --todo-search.large-table-rows=500000
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "todo-search")
+public class TodoSearchProperties {
+
+    // 일정이 이 건수 이상이면 인덱스를 못 타는 조건 조합을 거절한다
+    private long largeTableRows = 100_000;
+    // 일정 건수는 이 주기로만 다시 센다
+    private Duration rowCountTtl = Duration.ofMinutes(5);
+}
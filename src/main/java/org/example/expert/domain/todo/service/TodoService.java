@@ -1,35 +1,79 @@
 package org.example.expert.domain.todo.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.CursorPage;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.PreconditionFailedException;
+import org.example.expert.domain.common.fields.SparseFields;
+import org.example.expert.domain.common.outbox.DomainEventOutbox;
+import org.example.expert.domain.common.outbox.OutboxEventType;
+import org.example.expert.domain.todo.dto.TodoField;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoSpecifications;
+import org.example.expert.domain.todo.search.TodoSearchGuard;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    // 스트리밍 응답에서 트랜잭션 하나로 읽는 행 수
+    private static final int STREAM_CHUNK_SIZE = 500;
+
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final ObjectMapper objectMapper;
+    private final TodoSearchGuard todoSearchGuard;
+    private final DomainEventOutbox domainEventOutbox;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    // 외부 날씨 API 를 기다리는 동안 커넥션을 잡지 않도록 트랜잭션 밖에서 날씨를 조회하고,
+    // 저장과 todo.created 이벤트 기록은 transactionTemplate 의 트랜잭션 하나로 끝낸다
+    // 날씨 조회를 먼저 시작해 두고 작성자/엔티티를 준비하는 동안 응답을 기다린다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
+        CompletableFuture<String> todayWeather = weatherClient.getTodayWeatherAsync();
+
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
+        String weather = WeatherClient.await(todayWeather);
 
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
@@ -37,7 +81,16 @@ public class TodoService {
                 weather,
                 user
         );
-        Todo savedTodo = todoRepository.save(newTodo);
+        Todo savedTodo = transactionTemplate.execute(status -> {
+            Todo todo = todoRepository.save(newTodo);
+            domainEventOutbox.append(OutboxEventType.TODO_CREATED, todo.getId(), DomainEventOutbox.payload(
+                    "todoId", todo.getId(),
+                    "userId", user.getId(),
+                    "title", todo.getTitle(),
+                    "weather", weather
+            ));
+            return todo;
+        });
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -53,23 +106,172 @@ public class TodoService {
 
         Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
 
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        // 댓글/담당자 수는 todos 의 카운터 컬럼에서 읽으므로 페이지당 목록 쿼리 하나로 끝난다
+        return todos.map(this::toTodoResponse);
+    }
+
+    /**
+     * 조건 검색, 최근 수정 순
+     * 인덱스를 못 타는 조건 조합은 TodoSearchGuard 가 큰 테이블에서 거절한다
+     */
+    public Page<TodoResponse> searchTodos(TodoSearchCondition condition, int page, int size) {
+        todoSearchGuard.check(condition);
+        Pageable pageable = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "modifiedAt"));
+
+        return todoRepository.findAll(TodoSpecifications.of(condition), pageable)
+                .map(this::toTodoResponse);
+    }
+
+    /**
+     * fields= 로 고른 필드만 조회해서 JSON 키도 그 필드만 담는다
+     */
+    public Page<Map<String, Object>> getTodos(int page, int size, Set<TodoField> fields) {
+        Pageable pageable = PageRequest.of(page - 1, size);
+
+        return todoRepository.findAllFieldsByOrderByModifiedAtDesc(fields, pageable)
+                .map(tuple -> SparseFields.toMap(tuple, fields));
+    }
+
+    /**
+     * GET /todos 의 스트리밍 버전, 응답 형태는 getTodos 를 VIA_DTO 로 직렬화한 것과 같다.
+     * STREAM_CHUNK_SIZE 행씩 (modifiedAt, id) keyset 으로 짧은 읽기 전용 트랜잭션에서 읽고, 커넥션을 돌려준 뒤에 쓴다.
+     * 느린 클라이언트에게 쓰는 동안 커넥션을 잡지 않고, 메모리 사용량은 size 와 무관하며, 첫 행을 쓰자마자 내보낸다.
+     * 전체 건수는 목록을 다 쓴 뒤 필요할 때만 센다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeTodos(Pageable pageable, OutputStream out) throws IOException {
+        Set<TodoField> fields = EnumSet.allOf(TodoField.class);
+        ObjectWriter rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("content");
+            int written = 0;
+            int firstLimit = Math.min(pageable.getPageSize(), STREAM_CHUNK_SIZE);
+            List<Tuple> chunk = readOnly.execute(status -> todoRepository.findAllFields(fields, pageable.getOffset(), firstLimit));
+            int requested = firstLimit;
+            while (true) {
+                for (Tuple row : chunk) {
+                    rowWriter.writeValue(generator, SparseFields.toMap(row, fields));
+                    if (++written == 1) {
+                        generator.flush();
+                    }
+                }
+                if (chunk.size() < requested || written == pageable.getPageSize()) {
+                    break;
+                }
+                Tuple last = chunk.get(chunk.size() - 1);
+                LocalDateTime lastModifiedAt = last.get(TodoField.MODIFIED_AT.getFieldName(), LocalDateTime.class);
+                long lastId = last.get(TodoField.ID.getFieldName(), Long.class);
+                int limit = Math.min(pageable.getPageSize() - written, STREAM_CHUNK_SIZE);
+                chunk = readOnly.execute(status -> todoRepository.findAllFieldsAfter(fields, lastModifiedAt, lastId, limit));
+                requested = limit;
+            }
+            generator.writeEndArray();
+
+            // PageableExecutionUtils 와 같은 방식으로, 마지막 페이지면 count 쿼리를 생략한다
+            boolean lastPage = written < pageable.getPageSize() && (pageable.getOffset() == 0 || written > 0);
+            long total = lastPage ? pageable.getOffset() + written : readOnly.execute(status -> todoRepository.countAll());
+            generator.writeObjectFieldStart("page");
+            generator.writeNumberField("size", pageable.getPageSize());
+            generator.writeNumberField("number", pageable.getPageNumber());
+            generator.writeNumberField("totalElements", total);
+            generator.writeNumberField("totalPages", (total + pageable.getPageSize() - 1) / pageable.getPageSize());
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * 내가 작성한 일정, 최근 만든 순(id 역순)
+     * @param cursor 이전 페이지의 nextCursor, null 이면 첫 페이지
+     */
+    public CursorPage<TodoResponse> getMyTodos(AuthUser authUser, Long cursor, int size) {
+        List<Todo> todos = todoRepository.findByUserIdAndIdLessThan(authUser.getId(), startOf(cursor), Limit.of(size + 1));
+        return CursorPage.of(todos, size, Todo::getId).map(this::toTodoResponse);
+    }
+
+    /**
+     * 내가 담당자인 일정, 최근 만든 순(id 역순)
+     * 담당자 인덱스에서 일정 id 만 먼저 고른 뒤 그 일정들만 PK 로 읽는다
+     * @param cursor 이전 페이지의 nextCursor, null 이면 첫 페이지
+     */
+    public CursorPage<TodoResponse> getAssignedTodos(AuthUser authUser, Long cursor, int size) {
+        List<Long> todoIds = managerRepository.findTodoIdsByUserIdAndTodoIdLessThan(authUser.getId(), startOf(cursor), Limit.of(size + 1));
+        CursorPage<Long> page = CursorPage.of(todoIds, size, id -> id);
+        List<Todo> todos = page.getContent().isEmpty() ? List.of() : todoRepository.findAllWithUserByIdIn(page.getContent());
+        return new CursorPage<>(todos.stream().map(this::toTodoResponse).toList(), page.getNextCursor());
     }
 
     public TodoResponse getTodo(long todoId) {
         Todo todo = todoRepository.findByIdWithUser(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        User user = todo.getUser();
+        return toTodoResponse(todo);
+    }
+
+    /**
+     * 일정 수정, 작성자만 수정할 수 있다
+     * @param expectedVersion If-Match 로 전달된 버전, null 이면 버전 비교 없이 수정
+     */
+    @Transactional
+    public TodoResponse updateTodo(AuthUser authUser, long todoId, TodoUpdateRequest todoUpdateRequest, Long expectedVersion) {
+        if (todoUpdateRequest.getTitle() == null && todoUpdateRequest.getContents() == null) {
+            throw new InvalidRequestException("수정할 내용이 없습니다.");
+        }
+        if (isBlank(todoUpdateRequest.getTitle()) || isBlank(todoUpdateRequest.getContents())) {
+            throw new InvalidRequestException("일정 제목과 내용은 비어있을 수 없습니다.");
+        }
+
+        Todo todo = todoRepository.findByIdWithUser(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        validateWriter(authUser, todo, expectedVersion);
+
+        todo.update(
+                todoUpdateRequest.getTitle() != null ? todoUpdateRequest.getTitle() : todo.getTitle(),
+                todoUpdateRequest.getContents() != null ? todoUpdateRequest.getContents() : todo.getContents()
+        );
+        // 응답에 새 버전과 수정일을 담기 위해 UPDATE ... WHERE version = ? 를 바로 실행한다
+        todoRepository.flush();
 
+        return toTodoResponse(todo);
+    }
+
+    /**
+     * 일정 삭제, 작성자만 삭제할 수 있다
+     * 일정과 댓글은 엔티티를 로딩하지 않고 UPDATE 한 번씩으로 소프트 삭제하며,
+     * 댓글/담당자 행의 실제 삭제는 SoftDeletePurgeJob 이 배치로 수행한다
+     * @param expectedVersion If-Match 로 전달된 버전, null 이면 버전 비교 없이 삭제
+     */
+    @Transactional
+    public void deleteTodo(AuthUser authUser, long todoId, Long expectedVersion) {
+        Todo todo = todoRepository.findById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        validateWriter(authUser, todo, expectedVersion);
+
+        LocalDateTime deletedAt = LocalDateTime.now();
+        if (todoRepository.softDeleteByIdAndVersion(todoId, todo.getVersion(), deletedAt) == 0) {
+            // 조회 이후 다른 요청이 수정한 경우
+            throw new PreconditionFailedException("일정이 이미 다른 요청으로 수정되었습니다.");
+        }
+        commentRepository.softDeleteAllByTodoId(todoId, deletedAt);
+    }
+
+    private static long startOf(Long cursor) {
+        if (cursor == null) {
+            return Long.MAX_VALUE;
+        }
+        if (cursor < 1) {
+            throw new InvalidRequestException("cursor 는 1 이상이어야 합니다.");
+        }
+        return cursor;
+    }
+
+    private TodoResponse toTodoResponse(Todo todo) {
+        User user = todo.getUser();
         return new TodoResponse(
                 todo.getId(),
                 todo.getTitle(),
@@ -77,7 +279,23 @@ public class TodoService {
                 todo.getWeather(),
                 new UserResponse(user.getId(), user.getEmail()),
                 todo.getCreatedAt(),
-                todo.getModifiedAt()
+                todo.getModifiedAt(),
+                todo.getVersion(),
+                todo.getCommentCount(),
+                todo.getManagerCount()
         );
     }
+
+    private void validateWriter(AuthUser authUser, Todo todo, Long expectedVersion) {
+        if (todo.getUser() == null || !todo.getUser().getId().equals(authUser.getId())) {
+            throw new InvalidRequestException("일정을 만든 유저만 수정/삭제할 수 있습니다.");
+        }
+        if (expectedVersion != null && !expectedVersion.equals(todo.getVersion())) {
+            throw new PreconditionFailedException("일정이 이미 다른 요청으로 수정되었습니다.");
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value != null && value.isBlank();
+    }
 }
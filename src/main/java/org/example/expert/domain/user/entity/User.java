@@ -15,7 +15,6 @@ public class User extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
-    @Column(unique = true)
     private String email;
     private String password;
     @Enumerated(EnumType.STRING)
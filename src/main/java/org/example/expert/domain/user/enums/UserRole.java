@@ -3,18 +3,34 @@ package org.example.expert.domain.user.enums;
 import lombok.Getter;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 @Getter
 public enum UserRole {
     ADMIN, USER;
 
-    public static UserRole of(String role) {
-        System.out.println(role);
-        return Arrays.stream(UserRole.values())
-                .filter(r -> r.name().equalsIgnoreCase(role))
-                .findFirst()
-                .orElseThrow(() -> new InvalidRequestException("유효 하지 않은 UserRole"));
+    // 요청마다 values()를 순회하지 않도록 이름 -> 상수 매핑을 한 번만 만들어 둔다
+    private static final Map<String, UserRole> BY_NAME = new HashMap<>();
 
+    static {
+        for (UserRole role : values()) {
+            BY_NAME.put(role.name(), role);
+        }
+    }
 
+    public static UserRole of(String role) {
+        if (role == null) {
+            throw new InvalidRequestException("유효 하지 않은 UserRole");
+        }
+        UserRole userRole = BY_NAME.get(role);
+        if (userRole == null) {
+            userRole = BY_NAME.get(role.toUpperCase(Locale.ROOT));
+        }
+        if (userRole == null) {
+            throw new InvalidRequestException("유효 하지 않은 UserRole");
+        }
+        return userRole;
     }
 }
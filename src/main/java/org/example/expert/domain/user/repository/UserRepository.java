@@ -2,10 +2,18 @@ package org.example.expert.domain.user.repository;
 
 import org.example.expert.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // 일괄 가입에서 이미 가입된 이메일을 IN 쿼리 한 번으로 찾는다 (uk_users_email 인덱스만 읽는다)
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findEmailsByEmailIn(@Param("emails") Collection<String> emails);
 }
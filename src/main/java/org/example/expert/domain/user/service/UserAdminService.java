@@ -2,6 +2,8 @@ package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.outbox.DomainEventOutbox;
+import org.example.expert.domain.common.outbox.OutboxEventType;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
@@ -14,10 +16,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserAdminService {
 
     private final UserRepository userRepository;
+    private final DomainEventOutbox domainEventOutbox;
 
     @Transactional
     public void changeUserRole(long userId, UserRoleChangeRequest userRoleChangeRequest) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
-        user.updateRole(UserRole.of(userRoleChangeRequest.getRole()));
+        UserRole role = UserRole.of(userRoleChangeRequest.getRole());
+        user.updateRole(role);
+        domainEventOutbox.append(OutboxEventType.USER_ROLE_CHANGED, userId, DomainEventOutbox.payload(
+                "userId", userId,
+                "role", role.name()
+        ));
     }
 }
@@ -0,0 +1,51 @@
+package org.example.expert.export;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * 변경분 내보내기의 위치, (modified_at, id) 순서에서 마지막으로 내보낸 행
+ * 클라이언트에는 테이블 이름을 함께 담은 불투명한 토큰으로만 건넨다
+ */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class ChangeCursor {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    // cursor 없이 요청하면 처음부터, 소프트 삭제되어 아직 정리되지 않은 행까지 모두 내보낸다
+    static final ChangeCursor START = new ChangeCursor(EPOCH, 0L);
+
+    private final LocalDateTime modifiedAt;
+    private final long id;
+
+    public String encode(ExportTable table) {
+        String raw = table.getTableName() + ":" + ChronoUnit.MICROS.between(EPOCH, modifiedAt) + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param token 이전 응답의 X-Next-Cursor, null 이면 처음부터
+     */
+    public static ChangeCursor decode(ExportTable table, String token) {
+        if (token == null) {
+            return START;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":");
+            if (parts.length == 3 && parts[0].equals(table.getTableName())) {
+                return new ChangeCursor(EPOCH.plus(Long.parseLong(parts[1]), ChronoUnit.MICROS), Long.parseLong(parts[2]));
+            }
+        } catch (IllegalArgumentException e) {
+            // 아래에서 같은 메시지로 거절한다
+        }
+        throw new InvalidRequestException("cursor 가 올바르지 않습니다.");
+    }
+}
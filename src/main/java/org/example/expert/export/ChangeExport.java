@@ -0,0 +1,23 @@
+package org.example.expert.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 한 번의 요청으로 내보낼 범위, from 다음 행부터 to 까지 (modified_at, id) 순서
+ * 응답 본문을 쓰기 전에 정해 두므로 다음 cursor 를 헤더로 먼저 보낼 수 있다
+ */
+@Getter
+@RequiredArgsConstructor
+public class ChangeExport {
+
+    private final ExportTable table;
+    private final ChangeCursor from;
+    private final ChangeCursor to;
+    // limit 만큼 채웠으면 to 뒤에 더 있을 수 있다
+    private final boolean hasMore;
+
+    public String getNextCursor() {
+        return to.encode(table);
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.expert.export;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 변경분 내보내기, 응답은 한 줄에 한 행인 NDJSON 이고 다음 요청 위치는 헤더로 준다
+ * X-Next-Cursor: 다음 요청의 ?cursor= 값, 보관해 두었다가 다음 내보내기에 쓴다
+ * X-Has-More: true 면 기다리지 않고 X-Next-Cursor 로 이어서 요청한다
+ */
+@RestController
+@RequiredArgsConstructor
+public class ChangeExportController {
+
+    public static final String NEXT_CURSOR = "X-Next-Cursor";
+    public static final String HAS_MORE = "X-Has-More";
+
+    private final ChangeExportService changeExportService;
+
+    @GetMapping(value = "/admin/exports/todos", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTodos(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return export(ExportTable.TODOS, cursor, limit);
+    }
+
+    @GetMapping(value = "/admin/exports/comments", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportComments(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return export(ExportTable.COMMENTS, cursor, limit);
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(ExportTable table, String cursor, Integer limit) {
+        ChangeExport export = changeExportService.prepare(table, cursor, limit);
+        return ResponseEntity.ok()
+                .header(NEXT_CURSOR, export.getNextCursor())
+                .header(HAS_MORE, Boolean.toString(export.isHasMore()))
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> changeExportService.writeChanges(export, out));
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.expert.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 일정/댓글을 (modified_at, id) keyset 순서로 cursor 이후에 바뀐 행만 NDJSON 으로 내보낸다.
+ * 매일 밤 내보내기가 전체 테이블이 아니라 그 사이 바뀐 행 수만큼만 읽는다.
+ * - 소프트 삭제도 modified_at 을 옮기므로 deletedAt 이 채워진 행으로 나타난다 (받는 쪽은 id 로 덮어쓰면 된다)
+ *   SoftDeletePurgeJob 이 retention 이 지난 행을 지우므로 내보내기 간격은 purge.retention 보다 짧아야 한다
+ * - settleTime 보다 최근에 바뀐 행은 다음 요청으로 미룬다
+ */
+@Service
+@RequiredArgsConstructor
+public class ChangeExportService {
+
+    // 인덱스 (modified_at, id) 의 범위 조회가 되도록 선두 컬럼 조건을 따로 둔다
+    private static final String AFTER = "modified_at >= ? AND (modified_at > ? OR id > ?)";
+    private static final String UNTIL = "modified_at <= ? AND (modified_at < ? OR id <= ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ExportProperties properties;
+
+    /**
+     * 내보낼 범위를 정한다, 잘못된 cursor/limit 는 스트리밍을 시작하기 전에 거른다
+     * @param cursor 이전 응답의 X-Next-Cursor, null 이면 처음부터
+     * @param limit null 이면 defaultLimit, maxLimit 를 넘으면 maxLimit
+     */
+    public ChangeExport prepare(ExportTable table, String cursor, Integer limit) {
+        ChangeCursor from = ChangeCursor.decode(table, cursor);
+        int size = resolveLimit(limit);
+        LocalDateTime settled = LocalDateTime.now().minus(properties.getSettleTime()).truncatedTo(ChronoUnit.MICROS);
+
+        // limit 번째 행의 위치만 인덱스에서 찾는다, 없으면 settled 직전까지 모두 내보낸다
+        List<ChangeCursor> last = jdbcTemplate.query(
+                "SELECT modified_at, id FROM " + table.getTableName() + " WHERE " + AFTER + " AND modified_at < ?"
+                        + " ORDER BY modified_at, id LIMIT 1 OFFSET ?",
+                (rs, rowNum) -> new ChangeCursor(rs.getTimestamp("modified_at").toLocalDateTime(), rs.getLong("id")),
+                after(from, Timestamp.valueOf(settled), size - 1));
+        if (last.isEmpty()) {
+            // id 는 1 부터이므로 (settled, 0) 까지는 modified_at < settled 와 같고, 다음 요청은 settled 부터 읽는다
+            return new ChangeExport(table, from, new ChangeCursor(settled, 0L), false);
+        }
+        return new ChangeExport(table, from, last.get(0), true);
+    }
+
+    /**
+     * 한 줄에 한 행씩 쓴다, 첫 행을 쓰자마자 내보낸다
+     */
+    public void writeChanges(ChangeExport export, OutputStream out) throws IOException {
+        ExportTable table = export.getTable();
+        ChangeCursor to = export.getTo();
+        Timestamp toModifiedAt = Timestamp.valueOf(to.getModifiedAt());
+        String sql = "SELECT " + String.join(", ", table.getColumns()) + " FROM " + table.getTableName()
+                + " WHERE " + AFTER + " AND " + UNTIL + " ORDER BY modified_at, id";
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            int[] written = {0};
+            jdbcTemplate.query(sql, rs -> {
+                try {
+                    writeRow(generator, table, rs);
+                    if (++written[0] == 1) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, after(export.getFrom(), toModifiedAt, toModifiedAt, to.getId()));
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 끊은 경우, 컨테이너가 처리하도록 원래 예외로 던진다
+            throw e.getCause();
+        }
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return properties.getDefaultLimit();
+        }
+        if (limit < 1) {
+            throw new InvalidRequestException("limit 는 1 이상이어야 합니다.");
+        }
+        return Math.min(limit, properties.getMaxLimit());
+    }
+
+    private static void writeRow(JsonGenerator generator, ExportTable table, ResultSet rs) throws IOException, SQLException {
+        String[] fieldNames = table.getFieldNames();
+        generator.writeStartObject();
+        for (int i = 0; i < fieldNames.length; i++) {
+            Object value = rs.getObject(i + 1);
+            if (value instanceof Timestamp timestamp) {
+                value = timestamp.toLocalDateTime();
+            }
+            generator.writeFieldName(fieldNames[i]);
+            generator.writeObject(value);
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private static Object[] after(ChangeCursor from, Object... rest) {
+        Timestamp modifiedAt = Timestamp.valueOf(from.getModifiedAt());
+        Object[] args = new Object[3 + rest.length];
+        args[0] = modifiedAt;
+        args[1] = modifiedAt;
+        args[2] = from.getId();
+        System.arraycopy(rest, 0, args, 3, rest.length);
+        return args;
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.expert.export;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 변경분 내보내기 설정
+ * ex) --export.settle-time=1m --export.max-limit=50000
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "export")
+public class ExportProperties {
+
+    // 이 시간보다 최근에 바뀐 행은 다음 내보내기로 미룬다
+    // modified_at 은 커밋보다 먼저 찍히므로, 아직 커밋되지 않은 앞선 시각의 행을 건너뛰고 cursor 가 지나가지 않게 한다
+    private Duration settleTime = Duration.ofSeconds(30);
+    private int defaultLimit = 1_000;
+    private int maxLimit = 10_000;
+}
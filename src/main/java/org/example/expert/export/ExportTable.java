@@ -0,0 +1,41 @@
+package org.example.expert.export;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * 내보낼 수 있는 테이블과 컬럼
+ * 카운터(comment_count, manager_count)는 댓글/담당자에서 다시 셀 수 있고 modified_at 을 옮기지 않으므로 내보내지 않는다
+ */
+@Getter
+public enum ExportTable {
+
+    TODOS("todos", "id", "user_id", "title", "contents", "weather", "version", "created_at", "modified_at", "deleted_at"),
+    COMMENTS("comments", "id", "todo_id", "user_id", "contents", "version", "created_at", "modified_at", "deleted_at");
+
+    private final String tableName;
+    private final String[] columns;
+    // NDJSON 키, 응답 DTO 와 같은 camelCase
+    private final String[] fieldNames;
+
+    ExportTable(String tableName, String... columns) {
+        this.tableName = tableName;
+        this.columns = columns;
+        this.fieldNames = Arrays.stream(columns).map(ExportTable::toCamelCase).toArray(String[]::new);
+    }
+
+    private static String toCamelCase(String column) {
+        StringBuilder name = new StringBuilder(column.length());
+        boolean upper = false;
+        for (char c : column.toCharArray()) {
+            if (c == '_') {
+                upper = true;
+            } else {
+                name.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return name.toString();
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.expert.purge;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(PurgeProperties.class)
+@ConditionalOnProperty(prefix = "purge", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PurgeConfig {
+}
@@ -0,0 +1,29 @@
+package org.example.expert.purge;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 소프트 삭제된 일정/댓글 정리 설정
+ * ex) --purge.cron="0 0/5 3-4 * * *" --purge.retention=1d --purge.batch-size=500
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "purge")
+public class PurgeProperties {
+
+    private boolean enabled = true;
+    // 새벽 2시~5시 59분 사이 10분마다, 한 번에 maxBatchesPerRun 만큼만 지우고 나머지는 다음 실행으로 넘긴다
+    private String cron = "0 */10 2-5 * * *";
+    // 비어 있으면 서버 기본 시간대
+    private String zone = "";
+    // 삭제 후 이 기간이 지난 행만 실제로 지운다
+    private Duration retention = Duration.ofDays(7);
+    private int batchSize = 1_000;
+    private int maxBatchesPerRun = 100;
+    // 배치 사이에 쉬어 다른 트랜잭션에 락/IO 를 양보한다
+    private Duration pauseBetweenBatches = Duration.ofMillis(200);
+}
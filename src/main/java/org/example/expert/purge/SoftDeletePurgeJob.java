@@ -0,0 +1,92 @@
+package org.example.expert.purge;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 소프트 삭제(deleted_at)된 댓글/일정을 실제로 지우는 배치.
+ * 요청 경로에서는 UPDATE 만 하고, 행 삭제와 그에 따른 IO 는 한가한 시간대에 batchSize 단위로 나눠 처리한다.
+ * 배치마다 트랜잭션을 따로 잡아 락을 오래 쥐지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "purge", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SoftDeletePurgeJob {
+
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final TodoRepository todoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PurgeProperties properties;
+
+    @Scheduled(cron = "${purge.cron:0 */10 2-5 * * *}", zone = "${purge.zone:}")
+    public void run() {
+        purge(LocalDateTime.now().minus(properties.getRetention()));
+    }
+
+    /**
+     * @param cutoff 이 시각 이전에 삭제된 행만 지운다
+     * @return 지운 댓글 + 일정 수
+     */
+    public long purge(LocalDateTime cutoff) {
+        long started = System.nanoTime();
+        // 일정을 지울 때 댓글도 같은 시각으로 소프트 삭제되므로, 댓글을 먼저 지워야 일정 단계의 DELETE 가 작게 유지된다
+        long comments = purgeInBatches(cutoff, commentRepository::findIdsDeletedBefore, commentRepository::purgeAllByIdIn);
+        long todos = purgeInBatches(cutoff, todoRepository::findIdsDeletedBefore, todoIds -> {
+            // 소프트 삭제 이후에 남은 댓글과 담당자를 FK 순서대로 먼저 지운다
+            commentRepository.purgeAllByTodoIdIn(todoIds);
+            managerRepository.purgeAllByTodoIdIn(todoIds);
+            return todoRepository.purgeAllByIdIn(todoIds);
+        });
+        log.info("소프트 삭제 정리 완료: comments={}, todos={}, cutoff={}, {}ms",
+                comments, todos, cutoff, (System.nanoTime() - started) / 1_000_000);
+        return comments + todos;
+    }
+
+    private long purgeInBatches(LocalDateTime cutoff,
+                                IdFinder finder,
+                                Function<List<Long>, Integer> deleter) {
+        int batchSize = properties.getBatchSize();
+        long purged = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            List<Long> ids = finder.find(cutoff, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            Integer deleted = transactionTemplate.execute(status -> deleter.apply(ids));
+            purged += deleted == null ? 0 : deleted;
+            if (ids.size() < batchSize || !pause()) {
+                break;
+            }
+        }
+        return purged;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getPauseBetweenBatches().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            // 종료 중이면 남은 행은 다음 실행으로 넘긴다
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    interface IdFinder {
+        List<Long> find(LocalDateTime cutoff, int limit);
+    }
+}
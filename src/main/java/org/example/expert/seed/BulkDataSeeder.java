@@ -0,0 +1,220 @@
+package org.example.expert.seed;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * seed 프로파일로 기동하면 users / todos / managers / comments 를 JDBC 배치 insert 로 대량 생성한다.
+ * JPA 를 거치지 않고 id 를 직접 채워 넣어 IDENTITY 조회 왕복 없이 배치가 묶이도록 한다.
+ * (MySQL 에서는 JDBC URL 에 rewriteBatchedStatements=true 를 주어야 배치가 한 문장으로 묶인다)
+ */
+@Slf4j
+@Component
+@Profile("seed")
+@RequiredArgsConstructor
+public class BulkDataSeeder implements ApplicationRunner {
+
+    static final String SEED_PASSWORD = "Password1";
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy", "Windy"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final SeedProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        seed();
+    }
+
+    /**
+     * @return 생성한 전체 row 수
+     */
+    public long seed() {
+        int users = properties.getUsers();
+        int todos = properties.getTodos();
+        int managersPerTodo = 1 + properties.getExtraManagersPerTodo();
+        int comments = properties.getComments();
+        if (users < 1 || (managersPerTodo > 1 && users < 2)) {
+            throw new IllegalArgumentException("추가 담당자를 배치하려면 유저가 2명 이상이어야 합니다.");
+        }
+        if (comments > 0 && todos < 1) {
+            throw new IllegalArgumentException("댓글을 생성하려면 일정이 1개 이상이어야 합니다.");
+        }
+
+        SplittableRandom random = new SplittableRandom(properties.getRandomSeed());
+        LocalDateTime now = LocalDateTime.now();
+        long started = System.nanoTime();
+
+        boolean h2 = isH2();
+        if (h2) {
+            // 시드 데이터는 생성 시점에 이미 정합성이 보장되므로 FK 검사를 잠시 끈다
+            jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        }
+        try {
+            return insertAll(users, todos, managersPerTodo, comments, random, now, started, h2);
+        } finally {
+            if (h2) {
+                jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+            }
+        }
+    }
+
+    private long insertAll(int users, int todos, int managersPerTodo, int comments,
+                           SplittableRandom random, LocalDateTime now, long started, boolean h2) {
+        long userBaseId = nextId("users");
+        long todoBaseId = nextId("todos");
+        long managerBaseId = nextId("managers");
+        long commentBaseId = nextId("comments");
+
+        // 모든 시드 유저는 같은 비밀번호를 쓰므로 해시는 한 번만 계산
+        String encodedPassword = passwordEncoder.encode(SEED_PASSWORD);
+        batchInsert("INSERT INTO users (id, email, password, user_role, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)",
+                users, (ps, i) -> {
+                    Timestamp createdAt = randomPast(random, now);
+                    ps.setLong(1, userBaseId + i);
+                    ps.setString(2, "seed-user-" + (userBaseId + i) + "@example.com");
+                    ps.setString(3, encodedPassword);
+                    ps.setString(4, UserRole.USER.name());
+                    ps.setTimestamp(5, createdAt);
+                    ps.setTimestamp(6, createdAt);
+                });
+
+        // 일정의 comment_count 를 insert 시점에 채우기 위해 일정별 댓글 수를 먼저 뽑는다
+        ZipfianGenerator commentGenerator = new ZipfianGenerator(Math.max(todos, 1), properties.getCommentSkew());
+        int[] commentsPerTodo = new int[todos];
+        for (int i = 0; i < comments; i++) {
+            commentsPerTodo[(int) commentGenerator.next(random)]++;
+        }
+
+        ZipfianGenerator ownerGenerator = new ZipfianGenerator(users, properties.getTodoOwnerSkew());
+        int[] todoOwners = new int[todos];
+        batchInsert("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at, comment_count, manager_count)"
+                        + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                todos, (ps, i) -> {
+                    int owner = (int) ownerGenerator.next(random);
+                    todoOwners[(int) i] = owner;
+                    Timestamp createdAt = randomPast(random, now);
+                    ps.setLong(1, todoBaseId + i);
+                    ps.setString(2, "seed todo " + i);
+                    ps.setString(3, "seed contents " + i);
+                    ps.setString(4, WEATHERS[random.nextInt(WEATHERS.length)]);
+                    ps.setLong(5, userBaseId + owner);
+                    ps.setTimestamp(6, createdAt);
+                    ps.setTimestamp(7, modifiedAfter(random, createdAt, now));
+                    ps.setInt(8, commentsPerTodo[(int) i]);
+                    ps.setInt(9, managersPerTodo);
+                });
+
+        // 일정 작성자는 항상 담당자로, 나머지는 작성자를 제외한 유저 중에서 고른다
+        batchInsert("INSERT INTO managers (id, user_id, todo_id) VALUES (?, ?, ?)",
+                (long) todos * managersPerTodo, (ps, i) -> {
+                    int todo = (int) (i / managersPerTodo);
+                    int owner = todoOwners[todo];
+                    int managerUser = i % managersPerTodo == 0
+                            ? owner
+                            : (owner + 1 + random.nextInt(users - 1)) % users;
+                    ps.setLong(1, managerBaseId + i);
+                    ps.setLong(2, userBaseId + managerUser);
+                    ps.setLong(3, todoBaseId + todo);
+                });
+
+        // 댓글은 Zipf 분포로 일부 인기 일정에 몰리게 하고, 작성자는 해당 일정의 담당자(작성자)로 둔다.
+        // 일정별 댓글 수를 먼저 뽑고 todo_id 순서대로 insert 해서 todo_id 인덱스가 뒤에 덧붙는 형태로 쌓이게 한다.
+        int[] cursor = {0, 0};  // {현재 일정, 현재 일정에서 이미 쓴 댓글 수}
+        batchInsert("INSERT INTO comments (id, contents, user_id, todo_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)",
+                comments, (ps, i) -> {
+                    while (cursor[1] == commentsPerTodo[cursor[0]]) {
+                        cursor[0]++;
+                        cursor[1] = 0;
+                    }
+                    int todo = cursor[0];
+                    cursor[1]++;
+                    Timestamp createdAt = randomPast(random, now);
+                    ps.setLong(1, commentBaseId + i);
+                    ps.setString(2, "seed comment " + i);
+                    ps.setLong(3, userBaseId + todoOwners[todo]);
+                    ps.setLong(4, todoBaseId + todo);
+                    ps.setTimestamp(5, createdAt);
+                    ps.setTimestamp(6, createdAt);
+                });
+
+        // id 를 직접 넣었으므로 이후 JPA insert 가 충돌하지 않도록 IDENTITY 시작값을 옮긴다.
+        // MySQL 의 AUTO_INCREMENT 는 명시적으로 넣은 id 를 따라가므로 H2 만 처리한다.
+        if (h2) {
+            restartIdentity("users", userBaseId + users);
+            restartIdentity("todos", todoBaseId + todos);
+            restartIdentity("managers", managerBaseId + (long) todos * managersPerTodo);
+            restartIdentity("comments", commentBaseId + comments);
+        }
+
+        long totalRows = users + todos + (long) todos * managersPerTodo + comments;
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        log.info("Seeded {} rows (users={}, todos={}, managers={}, comments={}) in {}s, {} rows/s",
+                totalRows, users, todos, (long) todos * managersPerTodo, comments,
+                String.format("%.2f", seconds), (long) (totalRows / seconds));
+        return totalRows;
+    }
+
+    private void batchInsert(String sql, long rows, RowWriter writer) {
+        int batchSize = properties.getBatchSize();
+        for (long from = 0; from < rows; from += batchSize) {
+            long offset = from;
+            int size = (int) Math.min(batchSize, rows - from);
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    writer.write(ps, offset + i);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+        }
+    }
+
+    private long nextId(String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return maxId == null ? 1 : maxId + 1;
+    }
+
+    private boolean isH2() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+        return "H2".equals(product);
+    }
+
+    private void restartIdentity(String table, long nextValue) {
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + nextValue);
+    }
+
+    private Timestamp randomPast(SplittableRandom random, LocalDateTime now) {
+        long seconds = random.nextLong(Math.max(1, properties.getSpreadDays() * 86_400L));
+        return Timestamp.valueOf(now.minusSeconds(seconds));
+    }
+
+    private Timestamp modifiedAfter(SplittableRandom random, Timestamp createdAt, LocalDateTime now) {
+        LocalDateTime modifiedAt = createdAt.toLocalDateTime().plusSeconds(random.nextLong(86_400L));
+        return Timestamp.valueOf(modifiedAt.isAfter(now) ? now : modifiedAt);
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(PreparedStatement ps, long index) throws SQLException;
+    }
+}
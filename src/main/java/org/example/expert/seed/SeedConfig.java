@@ -0,0 +1,11 @@
+package org.example.expert.seed;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("seed")
+@EnableConfigurationProperties(SeedProperties.class)
+public class SeedConfig {
+}
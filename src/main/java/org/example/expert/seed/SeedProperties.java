@@ -0,0 +1,28 @@
+package org.example.expert.seed;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 대량 데이터 생성 설정 (seed 프로파일)
+ * ex) java -jar expert.jar --spring.profiles.active=seed --seed.todos=1000000 --seed.comments=5000000
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "seed")
+public class SeedProperties {
+
+    private int users = 10_000;
+    private int todos = 100_000;
+    // 일정 작성자 외에 추가로 배치할 담당자 수
+    private int extraManagersPerTodo = 1;
+    private int comments = 1_000_000;
+    // 0 이면 균등 분포, 0 < s < 1 이면 앞쪽 순위에 몰리는 Zipf 분포
+    private double todoOwnerSkew = 0.0;
+    private double commentSkew = 0.99;
+    private int batchSize = 5_000;
+    private long randomSeed = 42L;
+    // 생성되는 createdAt 이 퍼지는 기간(일)
+    private int spreadDays = 365;
+}
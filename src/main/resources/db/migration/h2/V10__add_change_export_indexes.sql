@@ -0,0 +1,4 @@
+-- 변경분 내보내기(/admin/exports/*)의 (modified_at, id) keyset 범위 조회
+-- 소프트 삭제된 행도 읽어야 하므로 deleted_at 이 선두인 기존 인덱스로는 범위를 좁힐 수 없다
+CREATE INDEX idx_todos_modified_at_id ON todos (modified_at, id);
+CREATE INDEX idx_comments_modified_at_id ON comments (modified_at, id);
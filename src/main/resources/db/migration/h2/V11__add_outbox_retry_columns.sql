@@ -0,0 +1,6 @@
+-- outbox 발행 재시도 backoff
+-- next_attempt_at 전에는 그 이벤트(와 뒤 이벤트)를 다시 발행하지 않는다
+-- first_failed_at 부터 outbox.max-retry-duration 이 지나도록 실패한 이벤트는 abandoned_at 을 기록하고 건너뛴다 (수동 확인 대상)
+ALTER TABLE outbox_events ADD COLUMN next_attempt_at TIMESTAMP(6);
+ALTER TABLE outbox_events ADD COLUMN first_failed_at TIMESTAMP(6);
+ALTER TABLE outbox_events ADD COLUMN abandoned_at TIMESTAMP(6);
@@ -0,0 +1,47 @@
+CREATE TABLE users
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    email       VARCHAR(255),
+    password    VARCHAR(255),
+    user_role   ENUM ('ADMIN', 'USER'),
+    created_at  TIMESTAMP(6),
+    modified_at TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE todos
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    title       VARCHAR(255),
+    contents    VARCHAR(255),
+    weather     VARCHAR(255),
+    user_id     BIGINT NOT NULL,
+    created_at  TIMESTAMP(6),
+    modified_at TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_todos_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE managers
+(
+    id      BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id BIGINT NOT NULL,
+    todo_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_managers_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_managers_todo FOREIGN KEY (todo_id) REFERENCES todos (id)
+);
+
+CREATE TABLE comments
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    contents    VARCHAR(255),
+    user_id     BIGINT NOT NULL,
+    todo_id     BIGINT NOT NULL,
+    created_at  TIMESTAMP(6),
+    modified_at TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comments_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_comments_todo FOREIGN KEY (todo_id) REFERENCES todos (id)
+);
@@ -0,0 +1,6 @@
+-- CommentRepository.findByTodoIdWithUser, ManagerRepository.findByTodoIdWithUser
+CREATE INDEX idx_comments_todo_id ON comments (todo_id);
+CREATE INDEX idx_managers_todo_id ON managers (todo_id);
+
+-- TodoRepository.findAllByOrderByModifiedAtDesc
+CREATE INDEX idx_todos_modified_at ON todos (modified_at DESC);
@@ -0,0 +1,3 @@
+-- Todo, Comment 낙관적 락 (@Version)
+ALTER TABLE todos ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE comments ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
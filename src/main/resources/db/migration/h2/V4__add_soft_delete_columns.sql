@@ -0,0 +1,11 @@
+-- Todo, Comment 소프트 삭제, 실제 삭제는 SoftDeletePurgeJob 이 배치로 수행
+ALTER TABLE todos ADD COLUMN deleted_at TIMESTAMP(6);
+ALTER TABLE comments ADD COLUMN deleted_at TIMESTAMP(6);
+
+-- 목록 조회가 deleted_at IS NULL 로 거른 뒤 modified_at 순으로 읽도록 기존 인덱스를 복합 인덱스로 교체한다
+-- (선두 컬럼이 deleted_at 이라 SoftDeletePurgeJob 의 deleted_at < ? 범위 조회도 이 인덱스를 쓴다)
+DROP INDEX idx_todos_modified_at;
+CREATE INDEX idx_todos_deleted_at_modified_at ON todos (deleted_at, modified_at DESC);
+
+-- SoftDeletePurgeJob 의 deleted_at < ? 범위 조회
+CREATE INDEX idx_comments_deleted_at ON comments (deleted_at);
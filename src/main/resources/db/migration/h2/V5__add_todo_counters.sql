@@ -0,0 +1,8 @@
+-- 목록 조회용 비정규화 카운터 (댓글 수, 담당자 수)
+ALTER TABLE todos ADD COLUMN comment_count INT DEFAULT 0 NOT NULL;
+ALTER TABLE todos ADD COLUMN manager_count INT DEFAULT 0 NOT NULL;
+
+-- 기존 일정의 카운터 채우기 (소프트 삭제된 댓글은 세지 않는다)
+UPDATE todos t
+SET comment_count = (SELECT COUNT(*) FROM comments c WHERE c.todo_id = t.id AND c.deleted_at IS NULL),
+    manager_count = (SELECT COUNT(*) FROM managers m WHERE m.todo_id = t.id);
@@ -0,0 +1,5 @@
+-- GET /users/me/todos: user_id 로 찾고 deleted_at IS NULL 로 거른 뒤 id 역순 keyset 페이지
+CREATE INDEX idx_todos_user_id_deleted_at_id ON todos (user_id, deleted_at, id DESC);
+
+-- GET /users/me/assigned: user_id 로 찾은 todo_id 를 인덱스만 읽어 정렬/페이지하고 todos 는 PK 로 조인한다
+CREATE INDEX idx_managers_user_id_todo_id ON managers (user_id, todo_id DESC);
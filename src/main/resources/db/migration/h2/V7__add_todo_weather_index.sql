@@ -0,0 +1,2 @@
+-- GET /todos/search?weather=: 날씨로 찾고 modified_at 범위/역순 정렬까지 인덱스로 처리한다
+CREATE INDEX idx_todos_deleted_at_weather_modified_at ON todos (deleted_at, weather, modified_at DESC);
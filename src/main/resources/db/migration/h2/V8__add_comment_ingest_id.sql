@@ -0,0 +1,4 @@
+-- 비동기 댓글 수집(CommentIngestQueue)이 응답한 임시 id, 동기 저장된 댓글은 NULL
+-- 같은 댓글을 두 번 쓰지 않도록 유니크 (NULL 은 여러 개 허용)
+ALTER TABLE comments ADD COLUMN ingest_id VARCHAR(36);
+CREATE UNIQUE INDEX uk_comments_ingest_id ON comments (ingest_id);
@@ -0,0 +1,17 @@
+-- 도메인 이벤트 outbox, 변경과 같은 트랜잭션에서 쓰고 OutboxRelay 가 읽어 발행한다
+-- published_at 이 NULL 이면 아직 발행하지 않은 이벤트
+CREATE TABLE outbox_events
+(
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    event_type     VARCHAR(100)  NOT NULL,
+    aggregate_type VARCHAR(50)   NOT NULL,
+    aggregate_id   BIGINT        NOT NULL,
+    payload        VARCHAR(4000) NOT NULL,
+    created_at     TIMESTAMP(6)  NOT NULL,
+    published_at   TIMESTAMP(6),
+    attempts       INT DEFAULT 0 NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- 미발행 이벤트 조회(published_at IS NULL ORDER BY id)와 발행된 이벤트 정리(published_at < ?)
+CREATE INDEX idx_outbox_events_published ON outbox_events (published_at, id);
@@ -0,0 +1,5 @@
+-- 변경분 내보내기(/admin/exports/*)의 (modified_at, id) keyset 범위 조회
+-- 소프트 삭제된 행도 읽어야 하므로 deleted_at 이 선두인 기존 인덱스로는 범위를 좁힐 수 없다
+-- (InnoDB 보조 인덱스에는 PK 가 붙지만 keyset 순서를 드러내려고 id 를 명시한다)
+ALTER TABLE todos ADD INDEX idx_todos_modified_at_id (modified_at, id), ALGORITHM = INPLACE, LOCK = NONE;
+ALTER TABLE comments ADD INDEX idx_comments_modified_at_id (modified_at, id), ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,47 @@
+CREATE TABLE users
+(
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    email       VARCHAR(255),
+    password    VARCHAR(255),
+    user_role   ENUM ('ADMIN', 'USER'),
+    created_at  DATETIME(6),
+    modified_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE todos
+(
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    title       VARCHAR(255),
+    contents    VARCHAR(255),
+    weather     VARCHAR(255),
+    user_id     BIGINT NOT NULL,
+    created_at  DATETIME(6),
+    modified_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_todos_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE managers
+(
+    id      BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    todo_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_managers_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_managers_todo FOREIGN KEY (todo_id) REFERENCES todos (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE comments
+(
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    contents    VARCHAR(255),
+    user_id     BIGINT NOT NULL,
+    todo_id     BIGINT NOT NULL,
+    created_at  DATETIME(6),
+    modified_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comments_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_comments_todo FOREIGN KEY (todo_id) REFERENCES todos (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
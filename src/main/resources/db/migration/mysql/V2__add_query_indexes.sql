@@ -0,0 +1,10 @@
+-- 운영 중인 큰 테이블에도 쓰기를 막지 않도록 online DDL 로 인덱스를 만든다.
+-- INPLACE/NONE 으로 수행할 수 없는 변경이면 테이블을 잠그는 대신 에러로 중단된다.
+-- (FK 때문에 자동 생성된 todo_id 인덱스는 아래 인덱스가 생기면 MySQL 이 대체한다)
+
+-- CommentRepository.findByTodoIdWithUser, ManagerRepository.findByTodoIdWithUser
+ALTER TABLE comments ADD INDEX idx_comments_todo_id (todo_id), ALGORITHM = INPLACE, LOCK = NONE;
+ALTER TABLE managers ADD INDEX idx_managers_todo_id (todo_id), ALGORITHM = INPLACE, LOCK = NONE;
+
+-- TodoRepository.findAllByOrderByModifiedAtDesc
+ALTER TABLE todos ADD INDEX idx_todos_modified_at (modified_at DESC), ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,4 @@
+-- Todo, Comment 낙관적 락 (@Version)
+-- 컬럼 추가는 메타데이터만 바꾸는 INSTANT 로 수행해 테이블 재작성 없이 적용한다
+ALTER TABLE todos ADD COLUMN version BIGINT NOT NULL DEFAULT 0, ALGORITHM = INSTANT;
+ALTER TABLE comments ADD COLUMN version BIGINT NOT NULL DEFAULT 0, ALGORITHM = INSTANT;
@@ -0,0 +1,14 @@
+-- Todo, Comment 소프트 삭제, 실제 삭제는 SoftDeletePurgeJob 이 배치로 수행
+-- nullable 컬럼 추가는 INSTANT, 인덱스는 쓰기를 막지 않는 INPLACE/NONE 으로 수행한다
+ALTER TABLE todos ADD COLUMN deleted_at DATETIME(6) NULL, ALGORITHM = INSTANT;
+ALTER TABLE comments ADD COLUMN deleted_at DATETIME(6) NULL, ALGORITHM = INSTANT;
+
+-- 목록 조회가 deleted_at IS NULL 로 거른 뒤 modified_at 순으로 읽도록 기존 인덱스를 복합 인덱스로 교체한다
+-- (선두 컬럼이 deleted_at 이라 SoftDeletePurgeJob 의 deleted_at < ? 범위 조회도 이 인덱스를 쓴다)
+ALTER TABLE todos
+    ADD INDEX idx_todos_deleted_at_modified_at (deleted_at, modified_at DESC),
+    DROP INDEX idx_todos_modified_at,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- SoftDeletePurgeJob 의 deleted_at < ? 범위 조회
+ALTER TABLE comments ADD INDEX idx_comments_deleted_at (deleted_at), ALGORITHM = INPLACE, LOCK = NONE;
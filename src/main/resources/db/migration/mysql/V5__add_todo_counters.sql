@@ -0,0 +1,13 @@
+-- 목록 조회용 비정규화 카운터 (댓글 수, 담당자 수)
+ALTER TABLE todos
+    ADD COLUMN comment_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN manager_count INT NOT NULL DEFAULT 0,
+    ALGORITHM = INSTANT;
+
+-- 기존 일정의 카운터 채우기 (소프트 삭제된 댓글은 세지 않는다)
+-- todo_id 인덱스로 한 번씩 집계한 뒤 조인해서, 일정마다 상관 서브쿼리를 돌리지 않는다
+UPDATE todos t
+    LEFT JOIN (SELECT todo_id, COUNT(*) AS cnt FROM comments WHERE deleted_at IS NULL GROUP BY todo_id) c ON c.todo_id = t.id
+    LEFT JOIN (SELECT todo_id, COUNT(*) AS cnt FROM managers GROUP BY todo_id) m ON m.todo_id = t.id
+SET t.comment_count = COALESCE(c.cnt, 0),
+    t.manager_count = COALESCE(m.cnt, 0);
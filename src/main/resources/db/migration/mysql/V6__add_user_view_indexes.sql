@@ -0,0 +1,10 @@
+-- GET /users/me/todos: user_id 로 찾고 deleted_at IS NULL 로 거른 뒤 id 역순 keyset 페이지
+-- (InnoDB 보조 인덱스에는 PK 가 붙지만 정렬 방향을 맞추려고 id 를 명시한다)
+ALTER TABLE todos
+    ADD INDEX idx_todos_user_id_deleted_at_id (user_id, deleted_at, id DESC),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- GET /users/me/assigned: user_id 로 찾은 todo_id 를 인덱스만 읽어 정렬/페이지하고 todos 는 PK 로 조인한다
+ALTER TABLE managers
+    ADD INDEX idx_managers_user_id_todo_id (user_id, todo_id DESC),
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,45 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthUserArgumentResolverTest {
+
+    private final AuthUserArgumentResolver resolver = new AuthUserArgumentResolver();
+
+    @Test
+    void 필터가_보관한_AuthUser를_그대로_반환한다() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        AuthUser authUser = new AuthUser(1L, "test@example.com", UserRole.ADMIN);
+        AuthUserContext.set(request, authUser);
+
+        // when
+        Object resolved = resolver.resolveArgument(null, null, new ServletWebRequest(request), null);
+
+        // then
+        assertSame(authUser, resolved);
+    }
+
+    @Test
+    void 인증_정보가_없으면_예외가_발생한다() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        // when & then
+        assertThrows(InvalidRequestException.class, () ->
+                resolver.resolveArgument(null, null, new ServletWebRequest(request), null));
+    }
+
+    @Test
+    void UserRole은_대소문자_구분없이_조회된다() {
+        assertEquals(UserRole.ADMIN, UserRole.of("ADMIN"));
+        assertEquals(UserRole.USER, UserRole.of("user"));
+    }
+}
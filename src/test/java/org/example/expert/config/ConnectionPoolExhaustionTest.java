@@ -0,0 +1,170 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 커넥션 2개짜리 풀로 고갈 상황을 만든다 (connection-timeout 1초)
+ * - 느린 날씨 API 를 기다리는 저장 요청은 커넥션을 잡지 않는다
+ * - 풀이 고갈되면 connection-timeout 안에 503 으로 실패하고 메트릭에 남는다
+ * - 커넥션 점유 로그/메트릭에 점유한 서비스 메서드가 남는다
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.minimum-idle=2",
+        "spring.datasource.hikari.connection-timeout=1000",
+        "connection-hold.threshold=0ms"
+})
+@ExtendWith(OutputCaptureExtension.class)
+class ConnectionPoolExhaustionTest {
+
+    private static final long USER_ID = 900003L;
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @MockBean
+    private WeatherClient weatherClient;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ExecutorService weatherThreads = Executors.newCachedThreadPool();
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role) VALUES (?, 'pool@example.com', 'pw', 'USER')", USER_ID);
+        token = jwtUtil.createToken(USER_ID, "pool@example.com", UserRole.USER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        weatherThreads.shutdownNow();
+        jdbcTemplate.execute("DELETE FROM managers");
+        jdbcTemplate.execute("DELETE FROM todos");
+        jdbcTemplate.execute("DELETE FROM users");
+    }
+
+    @Test
+    void 날씨_API_를_기다리는_저장_요청은_커넥션을_잡지_않는다() throws Exception {
+        // given 풀 크기의 두 배만큼 저장 요청이 날씨 응답을 기다리는 중
+        int saves = 4;
+        CountDownLatch waiting = new CountDownLatch(saves);
+        CountDownLatch release = new CountDownLatch(1);
+        given(weatherClient.getTodayWeatherAsync()).willAnswer(invocation -> CompletableFuture.supplyAsync(() -> {
+            waiting.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "Sunny";
+        }, weatherThreads));
+        List<CompletableFuture<HttpResponse<String>>> pending = new ArrayList<>();
+        for (int i = 0; i < saves; i++) {
+            pending.add(httpClient.sendAsync(request("/todos")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"제목\",\"contents\":\"내용\"}"))
+                    .build(), HttpResponse.BodyHandlers.ofString()));
+        }
+        assertTrue(waiting.await(10, TimeUnit.SECONDS));
+
+        // when 그 사이 들어온 조회
+        HttpResponse<String> read = httpClient.send(request("/users/me/todos").GET().build(), HttpResponse.BodyHandlers.ofString());
+        release.countDown();
+
+        // then
+        assertEquals(200, read.statusCode(), read.body());
+        for (CompletableFuture<HttpResponse<String>> save : pending) {
+            assertEquals(200, save.get(10, TimeUnit.SECONDS).statusCode());
+        }
+        assertEquals(saves, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todos WHERE user_id = ?", Integer.class, USER_ID));
+    }
+
+    @Test
+    void 풀이_고갈되면_connection_timeout_안에_503_으로_실패한다() throws Exception {
+        double timeoutsBefore = meterRegistry.get("hikaricp.connections.timeout").counter().count();
+        List<Connection> held = new ArrayList<>();
+        try {
+            // given 풀의 커넥션을 모두 빌려둔다
+            held.add(dataSource.getConnection());
+            held.add(dataSource.getConnection());
+
+            // when
+            long started = System.nanoTime();
+            HttpResponse<String> response = httpClient.send(request("/users/me/todos").GET().build(), HttpResponse.BodyHandlers.ofString());
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+            // then
+            assertEquals(503, response.statusCode(), response.body());
+            assertTrue(elapsedMillis < 2_000, "connection-timeout(1s) 근처에서 실패해야 합니다: " + elapsedMillis + "ms");
+            assertEquals(timeoutsBefore + 1, meterRegistry.get("hikaricp.connections.timeout").counter().count());
+            assertEquals(2, (int) meterRegistry.get("hikaricp.connections.active").gauge().value());
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+
+        // 반납 후에는 다시 처리된다
+        assertEquals(200, httpClient.send(request("/users/me/todos").GET().build(), HttpResponse.BodyHandlers.ofString()).statusCode());
+    }
+
+    @Test
+    void 커넥션_점유_시간은_점유한_서비스_메서드로_기록된다(CapturedOutput output) throws Exception {
+        // when
+        HttpResponse<String> response = httpClient.send(request("/users/me/assigned").GET().build(), HttpResponse.BodyHandlers.ofString());
+
+        // then
+        assertEquals(200, response.statusCode());
+        Timer hold = meterRegistry.find("db.connection.hold").tag("owner", "TodoService.getAssignedTodos").timer();
+        assertNotNull(hold);
+        assertTrue(hold.count() >= 1);
+        assertEquals(6, hold.takeSnapshot().histogramCounts().length);
+        // 획득 대기 시간은 slo 버킷별 누적 건수로 남는다
+        assertEquals(8, meterRegistry.get("hikaricp.connections.acquire").timer().takeSnapshot().histogramCounts().length);
+        // threshold 0ms 라 모든 반납이 로그로 남는다
+        assertTrue(output.getOut().contains("owner=TodoService.getAssignedTodos"), output.getOut());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", token);
+    }
+}
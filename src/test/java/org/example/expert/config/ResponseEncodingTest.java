@@ -0,0 +1,113 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 실제 서버를 띄워 gzip 압축(크기 기준)과 Accept 기반 CBOR 응답을 확인한다
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ResponseEncodingTest {
+
+    private static final int TODOS = 50;
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private String token;
+    private long firstTodoId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role) VALUES (900001, 'encoding@example.com', 'pw', 'USER')");
+        for (int i = 0; i < TODOS; i++) {
+            jdbcTemplate.update("INSERT INTO todos (title, contents, weather, user_id, created_at, modified_at) "
+                    + "VALUES (?, ?, 'Sunny', 900001, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", "title " + i, "contents ".repeat(20) + i);
+        }
+        firstTodoId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM todos", Long.class);
+        token = jwtUtil.createToken(900001L, "encoding@example.com", UserRole.USER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DELETE FROM todos");
+        jdbcTemplate.execute("DELETE FROM users");
+    }
+
+    @Test
+    void 큰_JSON_응답은_gzip_으로_압축된다() throws Exception {
+        HttpResponse<byte[]> response = get("/todos?size=" + TODOS, "Accept-Encoding", "gzip");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElse(null));
+        byte[] json = gunzip(response.body());
+        assertTrue(response.body().length < json.length / 2, "압축 효과가 없습니다: " + response.body().length + " / " + json.length);
+        assertEquals(TODOS, new ObjectMapper().readTree(json).get("content").size());
+    }
+
+    @Test
+    void 기준_크기보다_작은_응답은_압축하지_않는다() throws Exception {
+        HttpResponse<byte[]> response = get("/todos/" + firstTodoId, "Accept-Encoding", "gzip");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Encoding").isEmpty());
+    }
+
+    @Test
+    void Accept_가_CBOR_이면_CBOR_로_응답하고_JSON_과_같은_값을_담는다() throws Exception {
+        HttpResponse<byte[]> cbor = get("/todos?size=" + TODOS, "Accept", "application/cbor");
+        HttpResponse<byte[]> json = get("/todos?size=" + TODOS, "Accept", "application/json");
+
+        assertEquals("application/cbor", cbor.headers().firstValue("Content-Type").orElse(null));
+        JsonNode fromCbor = new CBORMapper().readTree(cbor.body());
+        JsonNode fromJson = new ObjectMapper().readTree(json.body());
+        assertEquals(fromJson, fromCbor);
+        assertTrue(cbor.body().length < json.body().length);
+    }
+
+    @Test
+    void Accept_가_없으면_JSON_으로_응답한다() throws Exception {
+        HttpResponse<byte[]> response = get("/todos/" + firstTodoId, "Accept", "*/*");
+
+        assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("application/json"));
+    }
+
+    private HttpResponse<byte[]> get(String path, String header, String value) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", token)
+                .header(header, value)
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
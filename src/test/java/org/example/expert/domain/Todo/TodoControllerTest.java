@@ -1,8 +1,15 @@
 package org.example.expert.domain.Todo;
 
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorPage;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.paging.Paging;
+import org.example.expert.domain.common.paging.PagingPolicy;
+import org.example.expert.domain.common.paging.PagingProperties;
 import org.example.expert.domain.todo.controller.TodoController;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.service.TodoService;
@@ -14,10 +21,14 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import javax.sql.DataSource;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -33,6 +44,10 @@ class TodoControllerTest {
     @Mock
     private TodoService todoService;
 
+    // HikariCP 가 아닌 DataSource 라 풀 상태와 무관하게 기본값(10)/최대값(100)을 쓴다
+    @Spy
+    private PagingPolicy pagingPolicy = new PagingPolicy(new PagingProperties(), mock(DataSource.class), new SimpleMeterRegistry());
+
     private AuthUser testUser;
     private UserResponse testUserResponse;
     private LocalDateTime testDateTime;
@@ -108,18 +123,34 @@ class TodoControllerTest {
         // Given
         int invalidPage = 0;
         int size = 10;
-        Page<TodoResponse> emptyPage = new PageImpl<>(Collections.emptyList());
-        when(todoService.getTodos(invalidPage, size)).thenReturn(emptyPage);
+
+        // When & Then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoController.getTodos(invalidPage, size));
+        assertEquals("page 는 1 이상이어야 합니다.", exception.getMessage());
+        verifyNoInteractions(todoService);
+    }
+
+    @Test
+    void 할일_목록_조회_잘못된_페이지_크기() {
+        // When & Then
+        assertThrows(InvalidRequestException.class, () -> todoController.getTodos(1, 0));
+        assertThrows(InvalidRequestException.class, () -> todoController.streamTodos(1, -1));
+        verifyNoInteractions(todoService);
+    }
+
+    @Test
+    void 할일_목록_조회_크기_생략시_기본값() {
+        // Given
+        when(todoService.getTodos(1, 10)).thenReturn(new PageImpl<>(List.of()));
 
         // When
-        ResponseEntity<Page<TodoResponse>> response = todoController.getTodos(invalidPage, size);
+        ResponseEntity<Page<TodoResponse>> response = todoController.getTodos(1, null);
 
         // Then
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertNotNull(response.getBody());
-        assertTrue(response.getBody().getContent().isEmpty());
-        assertEquals(0, response.getBody().getTotalElements());
-        verify(todoService).getTodos(invalidPage, size);
+        assertFalse(response.getHeaders().containsKey(Paging.CLAMP_REASON_HEADER));
+        verify(todoService).getTodos(1, 10);
     }
 
     @Test
@@ -145,6 +176,33 @@ class TodoControllerTest {
         verify(todoService).getTodos(validPage, size);
     }
 
+    @Test
+    void 할일_수정_성공_새_ETag_반환() {
+        // Given
+        long todoId = 1L;
+        TodoUpdateRequest request = new TodoUpdateRequest("수정된 할일", null);
+        TodoResponse expectedResponse = new TodoResponse(todoId, "수정된 할일", "테스트 내용", "맑음", testUserResponse, testDateTime, testDateTime, 4L);
+
+        when(todoService.updateTodo(testUser, todoId, request, 3L)).thenReturn(expectedResponse);
+
+        // When
+        ResponseEntity<TodoResponse> response = todoController.updateTodo(testUser, todoId, "\"3\"", request);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"4\"", response.getHeaders().getFirst(HttpHeaders.ETAG));
+        assertEquals(expectedResponse, response.getBody());
+    }
+
+    @Test
+    void 할일_삭제_If_Match_없이_요청() {
+        // When
+        todoController.deleteTodo(testUser, 1L, null);
+
+        // Then
+        verify(todoService).deleteTodo(testUser, 1L, null);
+    }
+
     @Test
     void 특정_할일_조회_성공() {
         // Given
@@ -242,12 +300,53 @@ class TodoControllerTest {
     void 할일_목록_조회_페이지_크기_최대값_초과() {
         // Given
         int page = 1;
-        int invalidSize = 101; // Assuming 100 is the max allowed size
-        when(todoService.getTodos(page, invalidSize)).thenThrow(new IllegalArgumentException("페이지 크기는 100을 초과할 수 없습니다."));
+        int invalidSize = 101; // 최대값 100
+        Page<TodoResponse> emptyPage = new PageImpl<>(List.of());
+        when(todoService.getTodos(page, 100)).thenReturn(emptyPage);
 
-        // When & Then
-        assertThrows(IllegalArgumentException.class, () -> todoController.getTodos(page, invalidSize));
-        verify(todoService).getTodos(page, invalidSize);
+        // When
+        ResponseEntity<Page<TodoResponse>> response = todoController.getTodos(page, invalidSize);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("100", response.getHeaders().getFirst(Paging.APPLIED_SIZE_HEADER));
+        assertEquals(Paging.REASON_MAX_SIZE, response.getHeaders().getFirst(Paging.CLAMP_REASON_HEADER));
+        verify(todoService).getTodos(page, 100);
+        verify(todoService, never()).getTodos(page, invalidSize);
+    }
+
+    @Test
+    void 내_일정_조회는_크기를_정책에_맞춰_넘긴다() {
+        // Given
+        CursorPage<TodoResponse> expected = new CursorPage<>(List.of(), null);
+        when(todoService.getMyTodos(testUser, 50L, 100)).thenReturn(expected);
+        when(todoService.getAssignedTodos(testUser, null, 10)).thenReturn(expected);
+
+        // When
+        ResponseEntity<CursorPage<TodoResponse>> mine = todoController.getMyTodos(testUser, 50L, 500);
+        ResponseEntity<CursorPage<TodoResponse>> assigned = todoController.getAssignedTodos(testUser, null, null);
+
+        // Then
+        assertEquals(expected, mine.getBody());
+        assertEquals(Paging.REASON_MAX_SIZE, mine.getHeaders().getFirst(Paging.CLAMP_REASON_HEADER));
+        assertEquals(expected, assigned.getBody());
+        assertFalse(assigned.getHeaders().containsKey(Paging.CLAMP_REASON_HEADER));
+    }
+
+    @Test
+    void 할일_조건_검색() {
+        // Given
+        TodoSearchCondition condition = new TodoSearchCondition("Rainy", null, null, null, null);
+        Page<TodoResponse> expectedPage = new PageImpl<>(List.of(
+                new TodoResponse(1L, "할일 1", "내용 1", "Rainy", testUserResponse, testDateTime, testDateTime)));
+        when(todoService.searchTodos(condition, 1, 10)).thenReturn(expectedPage);
+
+        // When
+        ResponseEntity<Page<TodoResponse>> response = todoController.searchTodos(condition, 1, null);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expectedPage, response.getBody());
     }
 
     @Test
@@ -267,4 +366,10 @@ class TodoControllerTest {
         verify(todoService).saveTodo(testUser, request);
     }
 
-}
\ No newline at end of file
+    @Test
+    void 할일_목록_필드_선택_지원하지_않는_필드() {
+        // When & Then
+        assertThrows(InvalidRequestException.class, () -> todoController.getTodoFields(1, 10, "title,password"));
+        verifyNoInteractions(todoService);
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.expert.domain.Todo;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class TodoCounterTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 새_일정은_작성자를_담당자로_세어_저장된다() {
+        // given
+        User user = userRepository.save(new User("counter@example.com", "password", UserRole.USER));
+
+        // when
+        Todo todo = todoRepository.saveAndFlush(new Todo("제목", "내용", "Sunny", user));
+
+        // then
+        assertEquals(0, column(todo.getId(), "comment_count"));
+        assertEquals(1, column(todo.getId(), "manager_count"));
+    }
+
+    @Test
+    void 카운터_갱신은_버전을_올리지_않고_일정_수정이_덮어쓰지_않는다() {
+        // given
+        User user = userRepository.save(new User("counter@example.com", "password", UserRole.USER));
+        Todo todo = todoRepository.saveAndFlush(new Todo("제목", "내용", "Sunny", user));
+        Long version = todo.getVersion();
+
+        // when 영속성 컨텍스트의 일정은 카운터 갱신 전 값을 들고 있는 상태로 수정된다
+        todoRepository.addCommentCount(todo.getId(), 1);
+        todoRepository.addCommentCount(todo.getId(), 1);
+        todo.update("새 제목", "내용");
+        todoRepository.flush();
+        entityManager.clear();
+
+        // then
+        Todo reloaded = todoRepository.findById(todo.getId()).orElseThrow();
+        assertEquals(2, reloaded.getCommentCount());
+        assertEquals("새 제목", reloaded.getTitle());
+        assertEquals(version + 1, reloaded.getVersion());
+    }
+
+    private int column(long todoId, String column) {
+        return jdbcTemplate.queryForObject("SELECT " + column + " FROM todos WHERE id = ?", Integer.class, todoId);
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.expert.domain.Todo;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.search.TodoSearchGuard;
+import org.example.expert.domain.todo.search.TodoSearchProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+class TodoSearchGuardTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 0, 0);
+
+    private final TodoRepository todoRepository = mock(TodoRepository.class);
+    private final TodoSearchProperties properties = new TodoSearchProperties();
+    private final MutableClock clock = new MutableClock();
+    private TodoSearchGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        properties.setLargeTableRows(1_000);
+        guard = new TodoSearchGuard(todoRepository, properties, clock);
+    }
+
+    @Test
+    void 작은_테이블은_작성일_기간만으로_검색할_수_있다() {
+        given(todoRepository.countAll()).willReturn(999L);
+
+        assertDoesNotThrow(() -> guard.check(createdOnly()));
+    }
+
+    @Test
+    void 큰_테이블에서_작성일_기간만으로_검색하면_예외() {
+        given(todoRepository.countAll()).willReturn(1_000L);
+
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> guard.check(createdOnly()));
+        assertEquals("created 기간 조건은 weather 또는 modified 기간 조건과 함께 사용해야 합니다.", exception.getMessage());
+    }
+
+    @Test
+    void 인덱스_조건이_있거나_조건이_없으면_건수를_세지_않는다() {
+        guard.check(new TodoSearchCondition());
+        guard.check(new TodoSearchCondition("Rainy", null, null, NOW.minusDays(1), null));
+        guard.check(new TodoSearchCondition(null, NOW.minusDays(1), null, null, NOW));
+
+        verifyNoInteractions(todoRepository);
+    }
+
+    @Test
+    void 건수는_TTL_동안_재사용한다() {
+        given(todoRepository.countAll()).willReturn(10L);
+
+        guard.check(createdOnly());
+        clock.advance(properties.getRowCountTtl().minusSeconds(1));
+        guard.check(createdOnly());
+        verify(todoRepository, times(1)).countAll();
+
+        clock.advance(Duration.ofSeconds(1));
+        guard.check(createdOnly());
+        verify(todoRepository, times(2)).countAll();
+    }
+
+    @Test
+    void 기간의_시작이_끝보다_늦으면_예외() {
+        assertThrows(InvalidRequestException.class,
+                () -> guard.check(new TodoSearchCondition(null, NOW, NOW, null, null)));
+        assertThrows(InvalidRequestException.class,
+                () -> guard.check(new TodoSearchCondition(null, null, null, NOW, NOW.minusDays(1))));
+    }
+
+    private TodoSearchCondition createdOnly() {
+        return new TodoSearchCondition(null, null, null, NOW.minusDays(7), NOW);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2024-06-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
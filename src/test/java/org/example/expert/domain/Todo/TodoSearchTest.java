@@ -0,0 +1,93 @@
+package org.example.expert.domain.Todo;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoSpecifications;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GET /todos/search 의 Specification 조합
+ */
+@DataJpaTest
+class TodoSearchTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(new User("search@example.com", "password", UserRole.USER));
+        // i 일째 만들고 i + 1 일째 수정한 일정, 짝수 날은 비
+        for (int i = 0; i < 10; i++) {
+            Todo todo = todoRepository.saveAndFlush(new Todo("제목 " + i, "내용", i % 2 == 0 ? "Rainy" : "Sunny", user));
+            jdbcTemplate.update("UPDATE todos SET created_at = ?, modified_at = ? WHERE id = ?",
+                    BASE.plusDays(i), BASE.plusDays(i + 1), todo.getId());
+        }
+        entityManager.clear();
+    }
+
+    @Test
+    void 조건이_없으면_전체를_최근_수정_순으로_조회한다() {
+        assertEquals(List.of("제목 9", "제목 8", "제목 7"), titles(search(new TodoSearchCondition(), 3)));
+        assertEquals(10, search(new TodoSearchCondition(), 3).getTotalElements());
+    }
+
+    @Test
+    void 날씨와_수정일_기간을_함께_거른다() {
+        // 수정일 1/4 이상 1/9 미만 = 3~7 번째 일정 중 비 오는 날
+        TodoSearchCondition condition = new TodoSearchCondition("Rainy", BASE.plusDays(4), BASE.plusDays(9), null, null);
+
+        Page<Todo> result = search(condition, 10);
+
+        assertEquals(List.of("제목 6", "제목 4"), titles(result));
+        assertEquals("search@example.com", result.getContent().get(0).getUser().getEmail());
+    }
+
+    @Test
+    void 작성일_기간만으로도_거를_수_있다() {
+        TodoSearchCondition condition = new TodoSearchCondition(null, null, null, BASE.plusDays(8), null);
+
+        assertEquals(List.of("제목 9", "제목 8"), titles(search(condition, 10)));
+    }
+
+    @Test
+    void 삭제된_일정은_검색되지_않는다() {
+        jdbcTemplate.update("UPDATE todos SET deleted_at = ? WHERE title = '제목 8'", LocalDateTime.now());
+
+        assertEquals(List.of("제목 6", "제목 4"), titles(search(new TodoSearchCondition("Rainy", BASE.plusDays(4), null, null, null), 2)));
+    }
+
+    private Page<Todo> search(TodoSearchCondition condition, int size) {
+        return todoRepository.findAll(TodoSpecifications.of(condition),
+                PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "modifiedAt")));
+    }
+
+    private List<String> titles(Page<Todo> page) {
+        return page.getContent().stream().map(Todo::getTitle).toList();
+    }
+}
@@ -1,35 +1,53 @@
 package org.example.expert.domain.Todo;
 
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorPage;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.PreconditionFailedException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.search.TodoSearchGuard;
 import org.example.expert.domain.todo.service.TodoService;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.example.expert.domain.common.outbox.DomainEventOutbox;
+import org.example.expert.domain.common.outbox.OutboxEventType;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,6 +62,21 @@ class TodoServiceTest {
     @Mock
     private WeatherClient weatherClient;
 
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private ManagerRepository managerRepository;
+
+    @Mock
+    private TodoSearchGuard todoSearchGuard;
+
+    @Mock
+    private DomainEventOutbox domainEventOutbox;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @Test
     void 할일저장_성공() {
         // Given
@@ -52,13 +85,16 @@ class TodoServiceTest {
         TodoSaveRequest request = new TodoSaveRequest("제목", "내용");
         String weather = "맑음";
         Todo savedTodo = new Todo("제목", "내용", weather, user);
+        ReflectionTestUtils.setField(savedTodo, "id", 1L);
 
         // Timestamped 필드 설정
         LocalDateTime now = LocalDateTime.now();
         setTimestampedFields(savedTodo, now, now);
 
-        when(weatherClient.getTodayWeather()).thenReturn(weather);
+        when(weatherClient.getTodayWeatherAsync()).thenReturn(CompletableFuture.completedFuture(weather));
         when(todoRepository.save(any(Todo.class))).thenReturn(savedTodo);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
 
         // When
         TodoSaveResponse response = todoService.saveTodo(authUser, request);
@@ -74,8 +110,9 @@ class TodoServiceTest {
         assertNotNull(savedTodo.getCreatedAt());
         assertNotNull(savedTodo.getModifiedAt());
 
-        verify(weatherClient).getTodayWeather();
+        verify(weatherClient).getTodayWeatherAsync();
         verify(todoRepository).save(any(Todo.class));
+        verify(domainEventOutbox).append(eq(OutboxEventType.TODO_CREATED), eq(1L), any());
     }
 
     @Test
@@ -84,11 +121,11 @@ class TodoServiceTest {
         AuthUser authUser = new AuthUser(1L, "test@example.com", UserRole.USER);
         TodoSaveRequest request = new TodoSaveRequest("제목", "내용");
 
-        when(weatherClient.getTodayWeather()).thenThrow(new RuntimeException("날씨 조회 실패"));
+        when(weatherClient.getTodayWeatherAsync()).thenReturn(CompletableFuture.failedFuture(new RuntimeException("날씨 조회 실패")));
 
         // When & Then
         assertThrows(RuntimeException.class, () -> todoService.saveTodo(authUser, request));
-        verify(weatherClient).getTodayWeather();
+        verify(weatherClient).getTodayWeatherAsync();
         verify(todoRepository, never()).save(any(Todo.class));
     }
 
@@ -102,6 +139,7 @@ class TodoServiceTest {
                 createTodoWithTimestamp("제목1", "내용1", "맑음", user),
                 createTodoWithTimestamp("제목2", "내용2", "흐림", user)
         );
+        ReflectionTestUtils.setField(todoList.get(0), "commentCount", 7);
         Page<Todo> todoPage = new PageImpl<>(todoList, PageRequest.of(page - 1, size), todoList.size());
 
         when(todoRepository.findAllByOrderByModifiedAtDesc(any(Pageable.class))).thenReturn(todoPage);
@@ -116,8 +154,13 @@ class TodoServiceTest {
         assertEquals("제목2", result.getContent().get(1).getTitle());
         assertNotNull(result.getContent().get(0).getCreatedAt());
         assertNotNull(result.getContent().get(0).getModifiedAt());
+        // 댓글/담당자 수는 카운터 컬럼에서 바로 채워져 추가 조회가 없다
+        assertEquals(7, result.getContent().get(0).getCommentCount());
+        assertEquals(1, result.getContent().get(0).getManagerCount());
 
         verify(todoRepository).findAllByOrderByModifiedAtDesc(any(Pageable.class));
+        verifyNoMoreInteractions(todoRepository);
+        verifyNoInteractions(commentRepository);
     }
 
     @Test
@@ -176,6 +219,213 @@ class TodoServiceTest {
         verify(todoRepository).findByIdWithUser(todoId);
     }
 
+    @Test
+    void 할일수정_성공_제목만_변경() {
+        // Given
+        AuthUser authUser = new AuthUser(1L, "test@example.com", UserRole.USER);
+        Todo todo = createTodoWithTimestamp("제목", "내용", "맑음", User.fromAuthUser(authUser));
+        ReflectionTestUtils.setField(todo, "version", 3L);
+        when(todoRepository.findByIdWithUser(1L)).thenReturn(Optional.of(todo));
+
+        // When
+        TodoResponse result = todoService.updateTodo(authUser, 1L, new TodoUpdateRequest("새 제목", null), 3L);
+
+        // Then
+        assertEquals("새 제목", result.getTitle());
+        assertEquals("내용", result.getContents());
+        verify(todoRepository).flush();
+        verify(todoRepository, never()).save(any());
+    }
+
+    @Test
+    void 할일수정_실패_작성자가_아님() {
+        // Given
+        User writer = User.fromAuthUser(new AuthUser(1L, "writer@example.com", UserRole.USER));
+        AuthUser other = new AuthUser(2L, "other@example.com", UserRole.USER);
+        Todo todo = createTodoWithTimestamp("제목", "내용", "맑음", writer);
+        when(todoRepository.findByIdWithUser(1L)).thenReturn(Optional.of(todo));
+
+        // When & Then
+        assertThrows(InvalidRequestException.class,
+                () -> todoService.updateTodo(other, 1L, new TodoUpdateRequest("새 제목", null), null));
+        assertEquals("제목", todo.getTitle());
+    }
+
+    @Test
+    void 할일수정_실패_버전_불일치() {
+        // Given
+        AuthUser authUser = new AuthUser(1L, "test@example.com", UserRole.USER);
+        Todo todo = createTodoWithTimestamp("제목", "내용", "맑음", User.fromAuthUser(authUser));
+        ReflectionTestUtils.setField(todo, "version", 4L);
+        when(todoRepository.findByIdWithUser(1L)).thenReturn(Optional.of(todo));
+
+        // When & Then
+        assertThrows(PreconditionFailedException.class,
+                () -> todoService.updateTodo(authUser, 1L, new TodoUpdateRequest("새 제목", null), 3L));
+        verify(todoRepository, never()).flush();
+    }
+
+    @Test
+    void 할일수정_실패_수정할_내용_없음() {
+        AuthUser authUser = new AuthUser(1L, "test@example.com", UserRole.USER);
+
+        assertThrows(InvalidRequestException.class,
+                () -> todoService.updateTodo(authUser, 1L, new TodoUpdateRequest(null, null), null));
+        verifyNoInteractions(todoRepository);
+    }
+
+    @Test
+    void 할일삭제_성공_일정과_댓글은_벌크_소프트삭제() {
+        // Given
+        AuthUser authUser = new AuthUser(1L, "test@example.com", UserRole.USER);
+        Todo todo = createTodoWithTimestamp("제목", "내용", "맑음", User.fromAuthUser(authUser));
+        ReflectionTestUtils.setField(todo, "version", 0L);
+        when(todoRepository.findById(1L)).thenReturn(Optional.of(todo));
+        when(todoRepository.softDeleteByIdAndVersion(eq(1L), eq(0L), any(LocalDateTime.class))).thenReturn(1);
+
+        // When
+        todoService.deleteTodo(authUser, 1L, null);
+
+        // Then
+        verify(commentRepository).softDeleteAllByTodoId(eq(1L), any(LocalDateTime.class));
+        verify(todoRepository, never()).delete(any(Todo.class));
+        verify(commentRepository, never()).findByTodoIdWithUser(any());
+    }
+
+    @Test
+    void 할일삭제_실패_조회후_다른요청이_수정() {
+        // Given
+        AuthUser authUser = new AuthUser(1L, "test@example.com", UserRole.USER);
+        Todo todo = createTodoWithTimestamp("제목", "내용", "맑음", User.fromAuthUser(authUser));
+        ReflectionTestUtils.setField(todo, "version", 0L);
+        when(todoRepository.findById(1L)).thenReturn(Optional.of(todo));
+        when(todoRepository.softDeleteByIdAndVersion(eq(1L), eq(0L), any(LocalDateTime.class))).thenReturn(0);
+
+        // When & Then
+        assertThrows(PreconditionFailedException.class, () -> todoService.deleteTodo(authUser, 1L, 0L));
+        verifyNoInteractions(commentRepository);
+    }
+
+    @Test
+    void 할일삭제_실패_작성자가_아님() {
+        // Given
+        User writer = User.fromAuthUser(new AuthUser(1L, "writer@example.com", UserRole.USER));
+        AuthUser other = new AuthUser(2L, "other@example.com", UserRole.USER);
+        when(todoRepository.findById(1L)).thenReturn(Optional.of(createTodoWithTimestamp("제목", "내용", "맑음", writer)));
+
+        // When & Then
+        assertThrows(InvalidRequestException.class, () -> todoService.deleteTodo(other, 1L, null));
+        verifyNoInteractions(commentRepository);
+    }
+
+    @Test
+    void 내_일정_조회는_size_보다_하나_더_읽어_다음_cursor_를_정한다() {
+        // Given
+        AuthUser authUser = new AuthUser(1L, "test@example.com", UserRole.USER);
+        User user = User.fromAuthUser(authUser);
+        List<Todo> rows = List.of(todoWithId(30L, user), todoWithId(20L, user), todoWithId(10L, user));
+        when(todoRepository.findByUserIdAndIdLessThan(1L, Long.MAX_VALUE, Limit.of(3))).thenReturn(rows);
+
+        // When
+        CursorPage<TodoResponse> page = todoService.getMyTodos(authUser, null, 2);
+
+        // Then
+        assertEquals(List.of(30L, 20L), page.getContent().stream().map(TodoResponse::getId).toList());
+        assertEquals(20L, page.getNextCursor());
+    }
+
+    @Test
+    void 내_일정_마지막_페이지는_다음_cursor_가_없다() {
+        // Given
+        AuthUser authUser = new AuthUser(1L, "test@example.com", UserRole.USER);
+        when(todoRepository.findByUserIdAndIdLessThan(1L, 20L, Limit.of(3)))
+                .thenReturn(List.of(todoWithId(10L, User.fromAuthUser(authUser))));
+
+        // When
+        CursorPage<TodoResponse> page = todoService.getMyTodos(authUser, 20L, 2);
+
+        // Then
+        assertEquals(1, page.getContent().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void 잘못된_cursor_는_예외가_발생한다() {
+        AuthUser authUser = new AuthUser(1L, "test@example.com", UserRole.USER);
+
+        assertThrows(InvalidRequestException.class, () -> todoService.getMyTodos(authUser, 0L, 10));
+        assertThrows(InvalidRequestException.class, () -> todoService.getAssignedTodos(authUser, -1L, 10));
+        verifyNoInteractions(todoRepository, managerRepository);
+    }
+
+    @Test
+    void 담당_일정_조회는_담당자_인덱스에서_고른_일정만_읽는다() {
+        // Given
+        AuthUser authUser = new AuthUser(2L, "manager@example.com", UserRole.USER);
+        User writer = new User("writer@example.com", "password", UserRole.USER);
+        ReflectionTestUtils.setField(writer, "id", 1L);
+        when(managerRepository.findTodoIdsByUserIdAndTodoIdLessThan(2L, Long.MAX_VALUE, Limit.of(3))).thenReturn(List.of(30L, 20L, 10L));
+        when(todoRepository.findAllWithUserByIdIn(List.of(30L, 20L))).thenReturn(List.of(todoWithId(30L, writer), todoWithId(20L, writer)));
+
+        // When
+        CursorPage<TodoResponse> page = todoService.getAssignedTodos(authUser, null, 2);
+
+        // Then
+        assertEquals(List.of(30L, 20L), page.getContent().stream().map(TodoResponse::getId).toList());
+        assertEquals("writer@example.com", page.getContent().get(0).getUser().getEmail());
+        assertEquals(20L, page.getNextCursor());
+    }
+
+    @Test
+    void 담당_일정이_없으면_일정을_조회하지_않는다() {
+        // Given
+        AuthUser authUser = new AuthUser(2L, "manager@example.com", UserRole.USER);
+        when(managerRepository.findTodoIdsByUserIdAndTodoIdLessThan(2L, Long.MAX_VALUE, Limit.of(11))).thenReturn(List.of());
+
+        // When
+        CursorPage<TodoResponse> page = todoService.getAssignedTodos(authUser, null, 10);
+
+        // Then
+        assertTrue(page.getContent().isEmpty());
+        assertNull(page.getNextCursor());
+        verifyNoInteractions(todoRepository);
+    }
+
+    @Test
+    void 조건_검색은_가드를_통과한_뒤_최근_수정_순으로_조회한다() {
+        // Given
+        TodoSearchCondition condition = new TodoSearchCondition("Rainy", null, null, null, null);
+        User user = new User("test@example.com", "password", UserRole.USER);
+        Page<Todo> todos = new PageImpl<>(List.of(createTodoWithTimestamp("제목", "내용", "Rainy", user)));
+        when(todoRepository.findAll(ArgumentMatchers.<Specification<Todo>>any(), any(Pageable.class))).thenReturn(todos);
+
+        // When
+        Page<TodoResponse> result = todoService.searchTodos(condition, 2, 20);
+
+        // Then
+        assertEquals("Rainy", result.getContent().get(0).getWeather());
+        verify(todoSearchGuard).check(condition);
+        verify(todoRepository).findAll(ArgumentMatchers.<Specification<Todo>>any(),
+                eq(PageRequest.of(1, 20, Sort.by(Sort.Direction.DESC, "modifiedAt"))));
+    }
+
+    @Test
+    void 가드가_거절한_검색은_조회하지_않는다() {
+        // Given
+        TodoSearchCondition condition = new TodoSearchCondition(null, null, null, LocalDateTime.now().minusDays(1), null);
+        doThrow(new InvalidRequestException("거절")).when(todoSearchGuard).check(condition);
+
+        // When & Then
+        assertThrows(InvalidRequestException.class, () -> todoService.searchTodos(condition, 1, 10));
+        verifyNoInteractions(todoRepository);
+    }
+
+    private Todo todoWithId(long id, User user) {
+        Todo todo = createTodoWithTimestamp("제목 " + id, "내용", "맑음", user);
+        ReflectionTestUtils.setField(todo, "id", id);
+        return todo;
+    }
+
     // Timestamped 필드를 설정하는 헬퍼 메서드
     private void setTimestampedFields(Todo todo, LocalDateTime createdAt, LocalDateTime modifiedAt) {
         try {
@@ -0,0 +1,155 @@
+package org.example.expert.domain.Todo;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.example.expert.domain.todo.service.TodoService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GET /todos 스트리밍(JSON) 응답이 Page 를 직렬화한 응답(CBOR 경로)과 같은 내용인지 확인한다
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class TodoStreamingTest {
+
+    private static final int TODOS = 25;
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private TodoService todoService;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role) VALUES (900002, 'stream@example.com', 'pw', 'USER')");
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < TODOS; i++) {
+            Timestamp modifiedAt = Timestamp.valueOf(now.plusMinutes(i));
+            jdbcTemplate.update("INSERT INTO todos (title, contents, weather, user_id, created_at, modified_at, comment_count, manager_count) "
+                    + "VALUES (?, 'contents', 'Sunny', 900002, ?, ?, ?, 1)", "title " + i, modifiedAt, modifiedAt, i);
+        }
+        token = jwtUtil.createToken(900002L, "stream@example.com", UserRole.USER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DELETE FROM todos");
+        jdbcTemplate.execute("DELETE FROM users");
+    }
+
+    @Test
+    void 스트리밍_응답은_Page_직렬화와_같은_내용이다() throws Exception {
+        for (String query : new String[]{"?page=1&size=10", "?page=3&size=10", "?page=4&size=10", "?size=100"}) {
+            HttpResponse<byte[]> json = get("/todos" + query, "application/json");
+            HttpResponse<byte[]> cbor = get("/todos" + query, "application/cbor");
+
+            assertEquals(200, json.statusCode());
+            assertEquals(new CBORMapper().readTree(cbor.body()), new ObjectMapper().readTree(json.body()), query);
+        }
+    }
+
+    @Test
+    void Accept_가_없어도_최신순으로_스트리밍한다() throws Exception {
+        HttpResponse<byte[]> response = get("/todos?size=10", "*/*");
+
+        JsonNode body = new ObjectMapper().readTree(response.body());
+        assertEquals("title 24", body.get("content").get(0).get("title").asText());
+        assertEquals(24, body.get("content").get(0).get("commentCount").asInt());
+        assertEquals("stream@example.com", body.get("content").get(0).get("user").get("email").asText());
+        assertEquals(TODOS, body.get("page").get("totalElements").asInt());
+        assertEquals(3, body.get("page").get("totalPages").asInt());
+        // 스트리밍 응답은 길이를 미리 알 수 없다
+        assertTrue(response.headers().firstValue("Content-Length").isEmpty());
+    }
+
+    @Test
+    void 느린_클라이언트에게_쓰는_동안_커넥션을_잡지_않고_나눠_읽어도_행이_빠지거나_겹치지_않는다() throws Exception {
+        // given 여러 번 나눠 읽어야 하고, 같은 modified_at 이 많은 일정
+        Timestamp tied = Timestamp.valueOf(LocalDateTime.of(2023, 1, 1, 0, 0));
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 1_100; i++) {
+            rows.add(new Object[]{"tied " + i, tied, tied});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO todos (title, contents, weather, user_id, created_at, modified_at) "
+                + "VALUES (?, 'contents', 'Sunny', 900002, ?, ?)", rows);
+
+        // when 응답을 쓸 때마다 조금씩 멈추는 클라이언트
+        List<Boolean> connectionHeld = new ArrayList<>();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        OutputStream slowClient = new OutputStream() {
+            @Override
+            public void write(int b) {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                connectionHeld.add(TransactionSynchronizationManager.isActualTransactionActive()
+                        || !TransactionSynchronizationManager.getResourceMap().isEmpty());
+                sleep();
+                body.write(b, off, len);
+            }
+        };
+        todoService.writeTodos(PageRequest.of(0, 2_000), slowClient);
+
+        // then
+        assertTrue(connectionHeld.size() > 1, "응답을 나눠 쓰지 않았습니다.");
+        assertFalse(connectionHeld.contains(true), "응답을 쓰는 동안 커넥션을 잡고 있었습니다.");
+        JsonNode json = new ObjectMapper().readTree(body.toByteArray());
+        Set<Long> ids = new HashSet<>();
+        json.get("content").forEach(todo -> ids.add(todo.get("id").asLong()));
+        assertEquals(TODOS + 1_100, json.get("content").size());
+        assertEquals(TODOS + 1_100, ids.size());
+        assertEquals(TODOS + 1_100, json.get("page").get("totalElements").asInt());
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private HttpResponse<byte[]> get(String path, String accept) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", token)
+                .header("Accept", accept)
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
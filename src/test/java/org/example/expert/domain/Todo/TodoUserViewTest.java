@@ -0,0 +1,94 @@
+package org.example.expert.domain.Todo;
+
+import org.example.expert.domain.common.dto.CursorPage;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * /users/me/todos, /users/me/assigned 의 keyset 조회
+ */
+@DataJpaTest
+class TodoUserViewTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User writer;
+    private User manager;
+    private final List<Long> writerTodoIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(new User("writer@example.com", "password", UserRole.USER));
+        manager = userRepository.save(new User("manager@example.com", "password", UserRole.USER));
+        User other = userRepository.save(new User("other@example.com", "password", UserRole.USER));
+        for (int i = 0; i < 7; i++) {
+            Todo todo = todoRepository.save(new Todo("제목 " + i, "내용", "Sunny", writer));
+            todoRepository.save(new Todo("남의 일정 " + i, "내용", "Sunny", other));
+            writerTodoIds.add(0, todo.getId());
+            managerRepository.save(new Manager(manager, todo));
+        }
+        todoRepository.flush();
+    }
+
+    @Test
+    void 내_일정은_id_역순으로_cursor_를_따라_빠짐없이_조회된다() {
+        // when
+        List<Long> ids = new ArrayList<>();
+        Long cursor = Long.MAX_VALUE;
+        do {
+            List<Todo> rows = todoRepository.findByUserIdAndIdLessThan(writer.getId(), cursor, Limit.of(3 + 1));
+            CursorPage<Todo> page = CursorPage.of(rows, 3, Todo::getId);
+            page.getContent().forEach(todo -> ids.add(todo.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // then
+        assertEquals(writerTodoIds, ids);
+    }
+
+    @Test
+    void 담당_일정은_중복_담당자와_삭제된_일정을_제외한다() {
+        // given 같은 일정에 두 번 등록된 담당자, 소프트 삭제된 일정
+        Todo duplicated = todoRepository.findById(writerTodoIds.get(0)).orElseThrow();
+        managerRepository.save(new Manager(manager, duplicated));
+        todoRepository.softDeleteByIdAndVersion(writerTodoIds.get(1), 0L, LocalDateTime.now());
+
+        // when
+        List<Long> firstPage = managerRepository.findTodoIdsByUserIdAndTodoIdLessThan(manager.getId(), Long.MAX_VALUE, Limit.of(4));
+        List<Long> secondPage = managerRepository.findTodoIdsByUserIdAndTodoIdLessThan(manager.getId(), firstPage.get(2), Limit.of(4));
+
+        // then
+        assertEquals(List.of(writerTodoIds.get(0), writerTodoIds.get(2), writerTodoIds.get(3), writerTodoIds.get(4)), firstPage);
+        assertEquals(List.of(writerTodoIds.get(4), writerTodoIds.get(5), writerTodoIds.get(6)), secondPage);
+        assertEquals(List.of(writerTodoIds.get(0), writerTodoIds.get(2)),
+                todoRepository.findAllWithUserByIdIn(firstPage.subList(0, 2)).stream().map(Todo::getId).toList());
+    }
+
+    @Test
+    void 작성자는_자기_일정의_담당자로_조회되고_남의_일정은_없다() {
+        List<Long> ids = managerRepository.findTodoIdsByUserIdAndTodoIdLessThan(writer.getId(), Long.MAX_VALUE, Limit.of(10));
+
+        assertEquals(writerTodoIds, ids);
+    }
+}
@@ -0,0 +1,315 @@
+package org.example.expert.domain.Todo;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.client.WeatherClientProperties;
+import org.example.expert.client.WeatherSnapshotStore;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로컬 스텁 서버(JDK HttpServer)에 실제 HTTP 로 호출해 타임아웃, 커넥션 재사용, 서킷 브레이커, 벌크헤드를 확인한다
+ */
+class WeatherClientStubServerTest {
+
+    private enum Mode { OK, ERROR, SLOW, BLOCK, STREAM }
+
+    private final ExecutorService serverThreads = Executors.newCachedThreadPool();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final List<Integer> clientPorts = new CopyOnWriteArrayList<>();
+    private volatile Mode mode = Mode.OK;
+    private volatile String weather = "Sunny";
+    private final CountDownLatch unblock = new CountDownLatch(1);
+    private final CountDownLatch blocked = new CountDownLatch(1);
+
+    @TempDir
+    Path tempDir;
+
+    private HttpServer server;
+    private WeatherClientProperties properties;
+    private WeatherClient weatherClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(serverThreads);
+        server.createContext("/weather.json", exchange -> {
+            requests.incrementAndGet();
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            if (mode == Mode.STREAM) {
+                streamFeed(exchange);
+                return;
+            }
+            try {
+                if (mode == Mode.SLOW) {
+                    Thread.sleep(2_000);
+                } else if (mode == Mode.BLOCK) {
+                    blocked.countDown();
+                    unblock.await(5, TimeUnit.SECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = mode == Mode.ERROR
+                    ? "{}".getBytes(StandardCharsets.UTF_8)
+                    : ("[{\"date\":\"" + today() + "\",\"weather\":\"" + weather + "\"}]").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(mode == Mode.ERROR ? 503 : 200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            } catch (IOException ignored) {
+                // 클라이언트가 타임아웃으로 먼저 끊은 경우
+            }
+        });
+        server.start();
+
+        properties = new WeatherClientProperties();
+        properties.setBaseUrl("http://localhost:" + server.getAddress().getPort());
+        properties.setPath("/weather.json");
+        properties.setConnectTimeout(Duration.ofMillis(300));
+        properties.setReadTimeout(Duration.ofMillis(300));
+        properties.getCircuitBreaker().setSlidingWindowSize(4);
+        properties.getCircuitBreaker().setMinimumNumberOfCalls(4);
+        properties.getCircuitBreaker().setOpenDuration(Duration.ofMillis(200));
+        properties.getCircuitBreaker().setPermittedCallsInHalfOpenState(1);
+        properties.getBulkhead().setMaxConcurrentCalls(1);
+        weatherClient = new WeatherClient(new RestTemplateBuilder(), properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        unblock.countDown();
+        weatherClient.destroy();
+        server.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    @Test
+    void 정상_응답은_풀의_커넥션을_재사용한다() {
+        assertEquals("Sunny", weatherClient.getTodayWeather());
+        assertEquals("Sunny", weatherClient.getTodayWeather());
+        assertEquals("Sunny", weatherClient.getTodayWeather());
+
+        assertEquals(3, requests.get());
+        assertEquals(1, Set.copyOf(clientPorts).size(), "keep-alive 커넥션 하나로 처리해야 합니다: " + clientPorts);
+    }
+
+    @Test
+    void 응답이_read_timeout_보다_늦으면_기다리지_않고_실패한다() {
+        mode = Mode.SLOW;
+
+        long started = System.nanoTime();
+        assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        assertTrue(elapsedMillis < 1_500, "read timeout(300ms) 근처에서 실패해야 합니다: " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void 실패가_쌓이면_서킷이_열리고_업스트림을_호출하지_않고_fallback_을_돌려준다() {
+        mode = Mode.ERROR;
+        for (int i = 0; i < 4; i++) {
+            assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, weatherClient.getCircuitState());
+        assertEquals("Unknown", weatherClient.getTodayWeather());
+        assertEquals(4, requests.get());
+    }
+
+    @Test
+    void 업스트림이_실패해도_마지막으로_받은_오늘_날씨로_응답하고_실패는_서킷에_기록된다() {
+        weather = "Rainy";
+        assertEquals("Rainy", weatherClient.getTodayWeather());
+
+        // 성공 1건 + 실패 3건이면 실패율 75% 로 서킷이 열린다
+        mode = Mode.ERROR;
+        for (int i = 0; i < 3; i++) {
+            assertEquals("Rainy", weatherClient.getTodayWeather());
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, weatherClient.getCircuitState());
+        assertEquals("Rainy", weatherClient.getTodayWeather());
+        assertEquals(4, requests.get());
+    }
+
+    @Test
+    void 저장된_스냅샷으로_시작하면_업스트림이_죽어_있어도_오늘_날씨로_응답한다() throws Exception {
+        Path snapshot = tempDir.resolve("weather-snapshot.bin");
+        new WeatherSnapshotStore(snapshot).save(Map.of(today(), "Cloudy", "01-01", "Snowy"));
+        mode = Mode.ERROR;
+
+        rebuildClient(snapshot);
+
+        assertEquals("Cloudy", weatherClient.getTodayWeather());
+        assertEquals("Cloudy", weatherClient.getTodayWeatherAsync().get(2, TimeUnit.SECONDS));
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void 끝까지_받은_데이터셋을_스냅샷으로_남긴다() throws Exception {
+        Path snapshot = tempDir.resolve("data/weather-snapshot.bin");
+        rebuildClient(snapshot);
+
+        weatherClient.getTodayWeather();
+        assertEquals(Map.of(today(), "Sunny"), new WeatherSnapshotStore(snapshot).load());
+
+        // 비동기 조회는 오늘 원소로 먼저 응답하고, 나머지를 다 받은 뒤 스냅샷을 바꾼다
+        mode = Mode.STREAM;
+        assertEquals("Sunny", weatherClient.getTodayWeatherAsync().get(2, TimeUnit.SECONDS));
+        unblock.countDown();
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (new WeatherSnapshotStore(snapshot).load().size() != 1 + FEED_TAIL && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(1 + FEED_TAIL, new WeatherSnapshotStore(snapshot).load().size());
+    }
+
+    @Test
+    void 열린_시간이_지나면_시험_호출이_성공해_다시_닫힌다() throws InterruptedException {
+        mode = Mode.ERROR;
+        for (int i = 0; i < 4; i++) {
+            assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, weatherClient.getCircuitState());
+
+        mode = Mode.OK;
+        Thread.sleep(250);
+
+        assertEquals("Sunny", weatherClient.getTodayWeather());
+        assertEquals(CircuitBreaker.State.CLOSED, weatherClient.getCircuitState());
+    }
+
+    @Test
+    void 동시_호출은_벌크헤드에_막히지_않고_진행_중인_요청의_결과를_함께_받는다() throws Exception {
+        mode = Mode.BLOCK;
+        weatherClient.destroy();
+        properties.setReadTimeout(Duration.ofSeconds(5));
+        weatherClient = new WeatherClient(new RestTemplateBuilder(), properties, new SimpleMeterRegistry());
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> weatherClient.getTodayWeather());
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+
+        // 벌크헤드(maxConcurrentCalls=1)가 가득 찬 상태지만 같은 날짜 조회는 진행 중인 요청에 합류한다
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> weatherClient.getTodayWeather());
+        Thread.sleep(100);
+        assertFalse(second.isDone());
+        unblock.countDown();
+
+        assertEquals("Sunny", first.get(5, TimeUnit.SECONDS));
+        assertEquals("Sunny", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, requests.get());
+        assertEquals(CircuitBreaker.State.CLOSED, weatherClient.getCircuitState());
+    }
+
+    @Test
+    void 비동기_조회는_오늘_원소를_받는_즉시_완료되고_나머지_본문을_기다리지_않는다() throws Exception {
+        mode = Mode.STREAM;
+
+        String weather = weatherClient.getTodayWeatherAsync().get(2, TimeUnit.SECONDS);
+
+        // 스텁은 unblock 전까지 배열의 나머지를 보내지 않는다
+        assertEquals("Sunny", weather);
+        assertEquals(1, blocked.getCount());
+    }
+
+    @Test
+    void 비동기_조회_실패는_ServerException_으로_끝나고_서킷에_기록된다() {
+        mode = Mode.ERROR;
+        for (int i = 0; i < 4; i++) {
+            CompletableFuture<String> weather = weatherClient.getTodayWeatherAsync();
+            assertThrows(ServerException.class, () -> WeatherClient.await(weather));
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, weatherClient.getCircuitState());
+        assertEquals("Unknown", WeatherClient.await(weatherClient.getTodayWeatherAsync()));
+        assertEquals(4, requests.get());
+    }
+
+    @Test
+    void 비동기_조회도_read_timeout_을_지킨다() {
+        mode = Mode.SLOW;
+
+        long started = System.nanoTime();
+        assertThrows(ServerException.class, () -> WeatherClient.await(weatherClient.getTodayWeatherAsync()));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        assertTrue(elapsedMillis < 1_500, elapsedMillis + "ms");
+    }
+
+    @Test
+    void 날씨_피드를_원소_단위로_끝까지_읽는다() throws Exception {
+        mode = Mode.STREAM;
+        unblock.countDown();
+        List<String> dates = new CopyOnWriteArrayList<>();
+
+        weatherClient.readWeatherFeed(weatherDto -> dates.add(weatherDto.getDate())).get(2, TimeUnit.SECONDS);
+
+        assertEquals(1 + FEED_TAIL, dates.size());
+        assertEquals(today(), dates.get(0));
+    }
+
+    private static final int FEED_TAIL = 1_000;
+
+    private void rebuildClient(Path snapshotPath) throws IOException {
+        weatherClient.destroy();
+        properties.setSnapshotPath(snapshotPath);
+        weatherClient = new WeatherClient(new RestTemplateBuilder(), properties, new SimpleMeterRegistry());
+    }
+
+    /**
+     * 오늘 원소를 먼저 보내고, unblock 될 때까지 기다렸다가 나머지 원소를 chunked 로 보낸다
+     */
+    private void streamFeed(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(("[{\"date\":\"" + today() + "\",\"weather\":\"" + weather + "\"}").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            if (!unblock.await(5, TimeUnit.SECONDS)) {
+                return;
+            }
+            blocked.countDown();
+            for (int i = 0; i < FEED_TAIL; i++) {
+                out.write((",{\"date\":\"x-" + i + "\",\"weather\":\"Cloudy\"}").getBytes(StandardCharsets.UTF_8));
+            }
+            out.write("]".getBytes(StandardCharsets.UTF_8));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException ignored) {
+            // 클라이언트가 먼저 끊은 경우
+        }
+    }
+
+    private static String today() {
+        return LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+    }
+}
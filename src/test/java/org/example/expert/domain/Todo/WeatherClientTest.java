@@ -1,20 +1,31 @@
 package org.example.expert.domain.Todo;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.client.WeatherClientProperties;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
+import java.io.IOException;
 import java.net.URI;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -28,9 +39,10 @@ public class WeatherClientTest {
     @Mock
     private RestTemplateBuilder restTemplateBuilder;
 
-    @InjectMocks
     private WeatherClient weatherClient;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -38,7 +50,12 @@ public class WeatherClientTest {
         when(restTemplateBuilder.build()).thenReturn(restTemplate);
 
         // 생성자 주입 방식으로 WeatherClient 생성
-        weatherClient = new WeatherClient(restTemplateBuilder);
+        weatherClient = new WeatherClient(restTemplateBuilder, new WeatherClientProperties(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        weatherClient.destroy();
     }
 
     @Test
@@ -65,9 +82,113 @@ public class WeatherClientTest {
         // Act & Assert
         assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
     }
-}
 
+    @Test
+    void 동시에_조회하면_업스트림_요청_하나의_결과를_함께_받는다() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        when(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class))).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new ResponseEntity<>(new WeatherDto[]{new WeatherDto(today(), "Sunny")}, HttpStatus.OK);
+        });
+
+        // Act
+        List<CompletableFuture<String>> results = callConcurrently(8, release);
+
+        // Assert
+        for (CompletableFuture<String> result : results) {
+            assertEquals("Sunny", result.get(5, TimeUnit.SECONDS));
+        }
+        verify(restTemplate, times(1)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+        assertEquals(1, calls("leader"));
+        assertEquals(7, calls("coalesced"));
+    }
+
+    @Test
+    void 함께_기다린_호출도_업스트림_실패를_ServerException_으로_받는다() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        when(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class))).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new ResponseEntity<>(new WeatherDto[]{}, HttpStatus.OK);
+        });
 
+        // Act
+        List<CompletableFuture<String>> results = callConcurrently(4, release);
 
+        // Assert
+        for (CompletableFuture<String> result : results) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(ServerException.class, e.getCause());
+        }
+        verify(restTemplate, times(1)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+    }
 
+    @Test
+    void 먼저_요청한_호출이_Error_로_끝나도_함께_기다린_호출은_풀려난다() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        when(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class))).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw new StackOverflowError();
+        });
 
+        // Act
+        List<CompletableFuture<String>> results = callConcurrently(4, release);
+
+        // Assert
+        for (CompletableFuture<String> result : results) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(StackOverflowError.class, e.getCause());
+        }
+        assertEquals(3, calls("coalesced"));
+    }
+
+    @Test
+    void 요청이_끝나면_결과를_남기지_않고_다음_조회는_다시_요청한다() {
+        // Arrange
+        ResponseEntity<WeatherDto[]> responseEntity =
+                new ResponseEntity<>(new WeatherDto[]{new WeatherDto(today(), "Sunny")}, HttpStatus.OK);
+        when(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class))).thenReturn(responseEntity);
+
+        // Act
+        weatherClient.getTodayWeather();
+        weatherClient.getTodayWeather();
+
+        // Assert
+        verify(restTemplate, times(2)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+        assertEquals(0, calls("coalesced"));
+    }
+
+    /**
+     * 첫 호출이 업스트림 응답을 기다리는 동안 나머지 호출이 모두 합류한 뒤 응답을 풀어준다
+     */
+    private List<CompletableFuture<String>> callConcurrently(int callers, CountDownLatch release) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<CompletableFuture<String>> results = new ArrayList<>();
+            results.add(CompletableFuture.supplyAsync(weatherClient::getTodayWeather, executor));
+            verify(restTemplate, timeout(5_000)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+            for (int i = 1; i < callers; i++) {
+                results.add(CompletableFuture.supplyAsync(weatherClient::getTodayWeather, executor));
+            }
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (calls("coalesced") < callers - 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).handle((v, e) -> null).join();
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private double calls(String flight) {
+        return meterRegistry.counter("weather.client.calls", "flight", flight).count();
+    }
+
+    private static String today() {
+        return LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.expert.domain.Todo;
+
+import org.example.expert.client.WeatherFeedDecoder;
+import org.example.expert.client.dto.WeatherDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherFeedDecoderTest {
+
+    private static final String FEED = "[{\"date\":\"01-01\",\"weather\":\"맑음\"},"
+            + "{\"date\":\"01-02\",\"weather\":\"Rainy\",\"extra\":{\"wind\":[1,2]}},"
+            + "{\"weather\":\"Snowy\",\"date\":\"01-03\"}]";
+
+    @Test
+    void 한_바이트씩_나눠_받아도_원소를_순서대로_디코딩한다() throws IOException {
+        // Given
+        List<WeatherDto> decoded = new ArrayList<>();
+        WeatherFeedDecoder decoder = new WeatherFeedDecoder(decoded::add);
+
+        // When 멀티바이트 문자(맑음)와 토큰 중간에서 잘린 청크
+        for (byte b : FEED.getBytes(StandardCharsets.UTF_8)) {
+            decoder.feed(ByteBuffer.wrap(new byte[]{b}));
+        }
+        decoder.endOfInput();
+
+        // Then
+        assertEquals(3, decoded.size());
+        assertEquals("01-01", decoded.get(0).getDate());
+        assertEquals("맑음", decoded.get(0).getWeather());
+        assertEquals("Rainy", decoded.get(1).getWeather());
+        assertEquals("01-03", decoded.get(2).getDate());
+        assertEquals("Snowy", decoded.get(2).getWeather());
+    }
+
+    @Test
+    void 원소가_완성되는_즉시_handler_에_넘긴다() throws IOException {
+        // Given
+        List<WeatherDto> decoded = new ArrayList<>();
+        WeatherFeedDecoder decoder = new WeatherFeedDecoder(decoded::add);
+        int firstElementEnd = FEED.indexOf('}') + 1;
+
+        // When 첫 원소까지만 도착
+        decoder.feed(ByteBuffer.wrap(FEED.substring(0, firstElementEnd).getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        assertEquals(1, decoded.size());
+    }
+
+    @Test
+    void handler_가_false_를_돌려주면_나머지_입력은_디코딩하지_않는다() throws IOException {
+        // Given
+        List<WeatherDto> decoded = new ArrayList<>();
+        WeatherFeedDecoder decoder = new WeatherFeedDecoder(weatherDto -> {
+            decoded.add(weatherDto);
+            return !"01-02".equals(weatherDto.getDate());
+        });
+
+        // When 뒤에 잘못된 JSON 이 오더라도
+        decoder.feed(ByteBuffer.wrap(FEED.getBytes(StandardCharsets.UTF_8)));
+        decoder.feed(ByteBuffer.wrap("not json".getBytes(StandardCharsets.UTF_8)));
+        decoder.endOfInput();
+
+        // Then
+        assertTrue(decoder.isStopped());
+        assertEquals(2, decoded.size());
+    }
+
+    @Test
+    void 배열이_닫히기_전에_입력이_끝나면_예외가_발생한다() throws IOException {
+        WeatherFeedDecoder decoder = new WeatherFeedDecoder(weatherDto -> true);
+        decoder.feed(ByteBuffer.wrap("[{\"date\":\"01-01\"".getBytes(StandardCharsets.UTF_8)));
+
+        assertThrows(IOException.class, decoder::endOfInput);
+    }
+
+    @Test
+    void 배열이_아니면_예외가_발생한다() {
+        WeatherFeedDecoder decoder = new WeatherFeedDecoder(weatherDto -> true);
+
+        assertThrows(IOException.class,
+                () -> decoder.feed(ByteBuffer.wrap("{\"date\":\"01-01\"}".getBytes(StandardCharsets.UTF_8))));
+    }
+}
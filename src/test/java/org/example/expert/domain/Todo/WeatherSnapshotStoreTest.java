@@ -0,0 +1,120 @@
+package org.example.expert.domain.Todo;
+
+import org.example.expert.client.WeatherSnapshotStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherSnapshotStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void 저장한_데이터셋을_순서대로_다시_읽는다() throws IOException {
+        // Given
+        Path path = tempDir.resolve("nested/weather-snapshot.bin");
+        Map<String, String> dataset = new LinkedHashMap<>();
+        dataset.put("01-01", "맑음");
+        dataset.put("01-02", "Rainy");
+
+        // When
+        new WeatherSnapshotStore(path).save(dataset);
+        Map<String, String> loaded = new WeatherSnapshotStore(path).load();
+
+        // Then
+        assertEquals(dataset, loaded);
+        assertEquals("01-01", loaded.keySet().iterator().next());
+        assertEquals(0, tmpFiles(path.getParent()));
+    }
+
+    @Test
+    void 동시에_저장해도_둘_중_하나가_온전히_남는다() throws Exception {
+        // given 크기가 다른 두 데이터셋을 여러 스레드가 번갈아 저장한다
+        Path path = tempDir.resolve("weather-snapshot.bin");
+        Map<String, String> small = Map.of("01-01", "Sunny");
+        Map<String, String> large = new LinkedHashMap<>();
+        for (int i = 0; i < 365; i++) {
+            large.put(String.format("%03d", i), "Rainy");
+        }
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> saves = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                WeatherSnapshotStore store = new WeatherSnapshotStore(path);
+                Map<String, String> dataset = i % 2 == 0 ? small : large;
+                saves.add(executor.submit(() -> store.save(dataset)));
+            }
+            for (Future<?> save : saves) {
+                save.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        Map<String, String> loaded = new WeatherSnapshotStore(path).load();
+        assertTrue(loaded.equals(small) || loaded.equals(large), "섞인 스냅샷입니다. entries=" + loaded.size());
+        assertEquals(0, tmpFiles(tempDir));
+    }
+
+    @Test
+    void 다시_저장하면_이전_데이터셋을_교체한다() {
+        Path path = tempDir.resolve("weather-snapshot.bin");
+        WeatherSnapshotStore store = new WeatherSnapshotStore(path);
+
+        store.save(Map.of("01-01", "Sunny", "01-02", "Rainy"));
+        store.save(Map.of("01-03", "Snowy"));
+
+        assertEquals(Map.of("01-03", "Snowy"), store.load());
+    }
+
+    @Test
+    void 파일이_없으면_빈_데이터셋이다() {
+        assertTrue(new WeatherSnapshotStore(tempDir.resolve("missing.bin")).load().isEmpty());
+    }
+
+    @Test
+    void 형식이_다르거나_잘린_파일은_무시한다() throws IOException {
+        Path foreign = tempDir.resolve("foreign.bin");
+        Files.writeString(foreign, "[{\"date\":\"01-01\"}]");
+        Path truncated = tempDir.resolve("truncated.bin");
+        new WeatherSnapshotStore(truncated).save(Map.of("01-01", "Sunny"));
+        byte[] bytes = Files.readAllBytes(truncated);
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertTrue(new WeatherSnapshotStore(foreign).load().isEmpty());
+        assertTrue(new WeatherSnapshotStore(truncated).load().isEmpty());
+    }
+
+    @Test
+    void 경로가_없으면_저장하지_않는다() {
+        WeatherSnapshotStore store = new WeatherSnapshotStore(null);
+
+        store.save(Map.of("01-01", "Sunny"));
+
+        assertTrue(store.load().isEmpty());
+    }
+
+    private static long tmpFiles(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".tmp")).count();
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package org.example.expert.domain.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * /admin/auth/signups 가 행마다 가입 결과를 돌려주고, 가입한 행만 저장하는지 확인한다
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "bulk-signup.max-batch-size=10",
+        "bulk-signup.hash-threads=2"
+})
+class BulkSignupTest {
+
+    private static final long ADMIN_ID = 900051L;
+    private static final String EXISTING_EMAIL = "existing@example.com";
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @SpyBean
+    private UserRepository userRepository;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role) VALUES (?, 'bulk-admin@example.com', 'pw', 'ADMIN')", ADMIN_ID);
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role) VALUES (?, ?, 'pw', 'USER')", ADMIN_ID + 1, EXISTING_EMAIL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DELETE FROM users");
+    }
+
+    @Test
+    void 가입할_수_있는_행만_저장하고_나머지는_행마다_이유를_돌려준다() throws Exception {
+        // given
+        String body = """
+                {"users": [
+                  {"email": "a@example.com", "password": "password", "userRole": "USER"},
+                  {"email": "existing@example.com", "password": "password", "userRole": "USER"},
+                  {"email": "b@example.com", "password": "password", "userRole": "admin"},
+                  {"email": "a@example.com", "password": "password", "userRole": "USER"},
+                  {"email": "not-an-email", "password": "password", "userRole": "USER"},
+                  {"email": "c@example.com", "password": "password", "userRole": "OWNER"},
+                  {"email": "d@example.com", "password": "%s", "userRole": "USER"}
+                ]}
+                """.formatted("p".repeat(100));
+
+        // when
+        HttpResponse<String> response = post(body);
+
+        // then
+        assertEquals(200, response.statusCode(), response.body());
+        JsonNode json = objectMapper.readTree(response.body());
+        assertEquals(2, json.get("created").asInt());
+        assertEquals(5, json.get("failed").asInt());
+
+        JsonNode results = json.get("results");
+        assertEquals(7, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i, results.get(i).get("index").asInt());
+        }
+        assertCreated(results.get(0), "a@example.com", UserRole.USER);
+        assertEquals("이미 존재하는 이메일입니다.", results.get(1).get("error").asText());
+        assertCreated(results.get(2), "b@example.com", UserRole.ADMIN);
+        assertEquals("요청 안에서 중복된 이메일입니다.", results.get(3).get("error").asText());
+        assertTrue(results.get(4).get("error").asText().startsWith("email"));
+        assertEquals("유효 하지 않은 UserRole", results.get(5).get("error").asText());
+        assertEquals("사용할 수 없는 비밀번호입니다.", results.get(6).get("error").asText());
+
+        // 이미 가입된 이메일은 IN 쿼리 한 번으로 찾는다
+        verify(userRepository, times(1)).findEmailsByEmailIn(any());
+        verify(userRepository, never()).existsByEmail(any());
+        assertEquals(4, count());
+
+        // 저장된 비밀번호로 로그인할 수 있다
+        HttpResponse<String> signin = httpClient.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/auth/signin"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"a@example.com\",\"password\":\"password\"}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, signin.statusCode(), signin.body());
+    }
+
+    @Test
+    void 확인한_뒤에_다른_요청이_먼저_가입한_이메일은_그_행만_실패한다() throws Exception {
+        // given IN 쿼리 직후 다른 요청이 existing@example.com 으로 가입한 것과 같은 상황
+        doReturn(List.of()).doReturn(List.of(EXISTING_EMAIL)).when(userRepository).findEmailsByEmailIn(any());
+        String body = """
+                {"users": [
+                  {"email": "a@example.com", "password": "password", "userRole": "USER"},
+                  {"email": "existing@example.com", "password": "password", "userRole": "USER"}
+                ]}
+                """;
+
+        // when
+        HttpResponse<String> response = post(body);
+
+        // then 유니크 제약에 걸린 배치 대신 한 행씩 넣어 그 행만 실패로 남긴다
+        assertEquals(200, response.statusCode(), response.body());
+        JsonNode results = objectMapper.readTree(response.body()).get("results");
+        assertCreated(results.get(0), "a@example.com", UserRole.USER);
+        assertEquals("이미 존재하는 이메일입니다.", results.get(1).get("error").asText());
+        verify(userRepository, times(1)).findEmailsByEmailIn(any());
+        assertEquals(3, count());
+    }
+
+    @Test
+    void 대소문자만_다른_이메일도_같은_이메일로_본다() throws Exception {
+        // given 대소문자를 무시하는 collation(MySQL) 처럼 IN 쿼리가 저장된 그대로의 이메일을 돌려준다
+        doReturn(List.of("Existing@Example.com")).when(userRepository).findEmailsByEmailIn(any());
+        String body = """
+                {"users": [
+                  {"email": "A@Example.com", "password": "password", "userRole": "USER"},
+                  {"email": "a@example.com", "password": "password", "userRole": "USER"},
+                  {"email": "existing@example.com", "password": "password", "userRole": "USER"}
+                ]}
+                """;
+
+        // when
+        HttpResponse<String> response = post(body);
+
+        // then
+        assertEquals(200, response.statusCode(), response.body());
+        JsonNode results = objectMapper.readTree(response.body()).get("results");
+        assertCreated(results.get(0), "A@Example.com", UserRole.USER);
+        assertEquals("요청 안에서 중복된 이메일입니다.", results.get(1).get("error").asText());
+        assertEquals("이미 존재하는 이메일입니다.", results.get(2).get("error").asText());
+        assertEquals(3, count());
+    }
+
+    @Test
+    void 최대_행_수를_넘거나_빈_요청은_거절한다() throws Exception {
+        StringBuilder users = new StringBuilder();
+        for (int i = 0; i < 11; i++) {
+            users.append(i == 0 ? "" : ",")
+                    .append("{\"email\":\"u").append(i).append("@example.com\",\"password\":\"pw\",\"userRole\":\"USER\"}");
+        }
+
+        assertEquals(400, post("{\"users\": [" + users + "]}").statusCode());
+        assertEquals(400, post("{\"users\": []}").statusCode());
+        assertEquals(2, count());
+    }
+
+    @Test
+    void 관리자가_아니면_일괄_가입할_수_없다() throws Exception {
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/admin/auth/signups"))
+                .header("Content-Type", "application/json")
+                .header("Authorization", jwtUtil.createToken(ADMIN_ID + 1, EXISTING_EMAIL, UserRole.USER))
+                .POST(HttpRequest.BodyPublishers.ofString("{\"users\": []}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(403, response.statusCode());
+    }
+
+    private void assertCreated(JsonNode result, String email, UserRole role) {
+        assertTrue(result.get("error").isNull(), result.toString());
+        assertEquals(email, result.get("email").asText());
+        Claims claims = jwtUtil.extractClaims(jwtUtil.substringToken(result.get("bearerToken").asText()));
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, email);
+        assertEquals(String.valueOf(id), claims.getSubject());
+        assertEquals(role.name(), claims.get("role", String.class));
+    }
+
+    private HttpResponse<String> post(String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/admin/auth/signups"))
+                .header("Content-Type", "application/json")
+                .header("Authorization", jwtUtil.createToken(ADMIN_ID, "bulk-admin@example.com", UserRole.ADMIN))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class);
+    }
+}
@@ -0,0 +1,295 @@
+package org.example.expert.domain.comment.feed;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommentFeedHubTest {
+
+    private static final Pattern ID = Pattern.compile("id:(\\d+)");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CommentFeedHub hub;
+
+    @BeforeEach
+    void setUp() {
+        CommentFeedProperties properties = new CommentFeedProperties();
+        properties.setReplaySize(3);
+        properties.setDispatchThreads(2);
+        properties.setMaxPendingEvents(8);
+        properties.setWriterThreads(2);
+        properties.setHeartbeat(Duration.ofHours(1));
+        hub = new CommentFeedHub(properties, new ObjectMapper(), meterRegistry);
+        hub.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.stop();
+    }
+
+    @Test
+    void 구독자가_많아도_dispatch_스레드_몇_개로_모두에게_보낸다() {
+        // given 요청 스레드를 잡지 않는 구독자 1000 명
+        List<RecordingEmitter> emitters = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            RecordingEmitter emitter = new RecordingEmitter();
+            hub.subscribe(1L, null, emitter);
+            emitters.add(emitter);
+        }
+        awaitUntil(() -> hub.subscriberCount() == 1_000);
+
+        // when
+        hub.onCommentChanged(CommentChangedEvent.created(1L, comment(10L, "첫 댓글")));
+
+        // then
+        awaitUntil(() -> emitters.stream().allMatch(emitter -> emitter.frames.size() == 2));
+        for (RecordingEmitter emitter : emitters) {
+            assertTrue(emitter.frames.get(0).contains("event:" + CommentFeedHub.READY_EVENT));
+            assertTrue(emitter.frames.get(1).contains("event:comment.created"));
+            assertTrue(emitter.frames.get(1).contains("\"contents\":\"첫 댓글\""));
+        }
+        assertEquals(1_000.0, meterRegistry.get("comment.feed.subscribers").gauge().value());
+    }
+
+    @Test
+    void 다른_일정의_이벤트는_받지_않고_같은_일정의_이벤트는_커밋_순서대로_받는다() {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.subscribe(1L, null, emitter);
+        awaitUntil(() -> hub.subscriberCount() == 1);
+
+        // when
+        hub.onCommentChanged(CommentChangedEvent.created(2L, comment(1L, "다른 일정")));
+        for (int i = 0; i < 5; i++) {
+            hub.onCommentChanged(CommentChangedEvent.created(1L, comment(100L + i, "댓글 " + i)));
+        }
+        hub.onCommentChanged(CommentChangedEvent.updated(1L, comment(100L, "수정")));
+
+        // then
+        awaitUntil(() -> emitter.frames.size() == 7);
+        assertTrue(emitter.frames.stream().noneMatch(frame -> frame.contains("다른 일정")));
+        for (int i = 0; i < 5; i++) {
+            assertTrue(emitter.frames.get(i + 1).contains("댓글 " + i));
+        }
+        assertTrue(emitter.frames.get(6).contains("event:comment.updated"));
+        List<Long> ids = emitter.frames.stream().map(CommentFeedHubTest::eventId).toList();
+        for (int i = 1; i < ids.size(); i++) {
+            assertEquals(ids.get(i - 1) + 1, ids.get(i));
+        }
+    }
+
+    @Test
+    void Last_Event_ID_로_재연결하면_놓친_이벤트만_다시_보낸다() {
+        // given
+        RecordingEmitter first = new RecordingEmitter();
+        hub.subscribe(1L, null, first);
+        awaitUntil(() -> hub.subscriberCount() == 1);
+        hub.onCommentChanged(CommentChangedEvent.created(1L, comment(1L, "a")));
+        hub.onCommentChanged(CommentChangedEvent.created(1L, comment(2L, "b")));
+        hub.onCommentChanged(CommentChangedEvent.created(1L, comment(3L, "c")));
+        awaitUntil(() -> first.frames.size() == 4);
+
+        // when "a" 까지 받고 끊긴 클라이언트
+        RecordingEmitter resumed = new RecordingEmitter();
+        hub.subscribe(1L, Long.toString(eventId(first.frames.get(1))), resumed);
+
+        // then
+        awaitUntil(() -> resumed.frames.size() == 2);
+        assertTrue(resumed.frames.get(0).contains("\"contents\":\"b\""));
+        assertTrue(resumed.frames.get(1).contains("\"contents\":\"c\""));
+        assertEquals(0.0, meterRegistry.get("comment.feed.resets").counter().count());
+    }
+
+    @Test
+    void 이벤트가_오기_전에_끊겨도_ready_의_id_로_이어_받는다() {
+        // given
+        RecordingEmitter first = new RecordingEmitter();
+        hub.subscribe(1L, null, first);
+        awaitUntil(() -> first.frames.size() == 1);
+        long readyId = eventId(first.frames.get(0));
+
+        // when
+        hub.onCommentChanged(CommentChangedEvent.created(1L, comment(1L, "a")));
+        RecordingEmitter resumed = new RecordingEmitter();
+        hub.subscribe(1L, Long.toString(readyId), resumed);
+
+        // then
+        awaitUntil(() -> resumed.frames.size() == 1);
+        assertTrue(resumed.frames.get(0).contains("\"contents\":\"a\""));
+    }
+
+    @Test
+    void 남겨둔_범위를_벗어난_Last_Event_ID_면_reset_을_보낸다() {
+        // given replaySize=3 보다 많은 이벤트
+        RecordingEmitter first = new RecordingEmitter();
+        hub.subscribe(1L, null, first);
+        awaitUntil(() -> hub.subscriberCount() == 1);
+        for (int i = 0; i < 5; i++) {
+            hub.onCommentChanged(CommentChangedEvent.created(1L, comment(i, "댓글 " + i)));
+        }
+        awaitUntil(() -> first.frames.size() == 6);
+        long lastId = eventId(first.frames.get(5));
+
+        // when 첫 이벤트 id 로 재연결, 모르는 id 로 재연결
+        RecordingEmitter tooOld = new RecordingEmitter();
+        hub.subscribe(1L, Long.toString(eventId(first.frames.get(1))), tooOld);
+        RecordingEmitter unknown = new RecordingEmitter();
+        hub.subscribe(1L, "not-a-number", unknown);
+
+        // then 현재 위치를 id 로 담은 reset
+        awaitUntil(() -> tooOld.frames.size() == 1 && unknown.frames.size() == 1);
+        assertTrue(tooOld.frames.get(0).contains("event:" + CommentFeedHub.RESET_EVENT));
+        assertEquals(lastId, eventId(tooOld.frames.get(0)));
+        assertTrue(unknown.frames.get(0).contains("event:" + CommentFeedHub.RESET_EVENT));
+        assertEquals(2.0, meterRegistry.get("comment.feed.resets").counter().count());
+    }
+
+    @Test
+    void 보내기에_실패한_구독자는_목록에서_빠지고_나머지에게는_계속_보낸다() {
+        // given 먼저 구독한 연결이 끊겼고, 닫을 때도 예외가 난다 (오류로 끝난 비동기 요청)
+        RecordingEmitter broken = new RecordingEmitter();
+        RecordingEmitter alive = new RecordingEmitter();
+        hub.subscribe(1L, null, broken);
+        hub.subscribe(1L, null, alive);
+        awaitUntil(() -> hub.subscriberCount() == 2);
+
+        // when
+        broken.fail = true;
+        hub.onCommentChanged(CommentChangedEvent.created(1L, comment(1L, "a")));
+
+        // then
+        awaitUntil(() -> hub.subscriberCount() == 1);
+        awaitUntil(() -> alive.frames.size() == 2);
+    }
+
+    @Test
+    void 읽지_않는_구독자는_같은_lane_의_다른_구독자를_막지_않고_밀리면_끊긴다() {
+        // given 같은 일정에 구독한 두 연결 중 하나는 읽지 않아 소켓 쓰기가 막힌다
+        RecordingEmitter stalled = new RecordingEmitter();
+        RecordingEmitter alive = new RecordingEmitter();
+        hub.subscribe(1L, null, stalled);
+        hub.subscribe(1L, null, alive);
+        awaitUntil(() -> stalled.frames.size() == 1 && alive.frames.size() == 1);
+        stalled.stall();
+
+        try {
+            // when maxPendingEvents(8) 보다 많은 이벤트
+            // then 다른 구독자는 기다리지 않고 바로바로 받고, 밀린 구독자는 목록에서 빠진다
+            for (int i = 0; i < 12; i++) {
+                hub.onCommentChanged(CommentChangedEvent.created(1L, comment(i, "댓글 " + i)));
+                int expected = i + 2;
+                awaitUntil(() -> alive.frames.size() == expected);
+            }
+            awaitUntil(() -> hub.subscriberCount() == 1);
+            assertEquals(1.0, meterRegistry.get("comment.feed.dropped").counter().count());
+            assertFalse(stalled.completed);
+        } finally {
+            stalled.resume();
+        }
+
+        // 막혀 있던 쓰기가 끝나면 밀린 이벤트는 버리고 연결을 닫는다
+        awaitUntil(() -> stalled.completed);
+        assertEquals(2, stalled.frames.size());
+    }
+
+    @Test
+    void 멈추면_모든_연결을_닫는다() {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.subscribe(1L, null, emitter);
+        awaitUntil(() -> hub.subscriberCount() == 1);
+
+        // when
+        hub.stop();
+
+        // then
+        assertEquals(0, hub.subscriberCount());
+        assertFalse(hub.isRunning());
+    }
+
+    private static CommentResponse comment(long id, String contents) {
+        return new CommentResponse(id, contents, new UserResponse(1L, "user@example.com"), 0L);
+    }
+
+    private static long eventId(String frame) {
+        Matcher matcher = ID.matcher(frame);
+        assertTrue(matcher.find(), frame);
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("5초 안에 조건을 만족하지 못했습니다.");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 응답에 쓰지 않고 보낸 이벤트를 문자열로 모은다
+     * stall() 하면 resume() 까지 send 가 돌아오지 않는다 (읽지 않는 클라이언트에게 쓰다 막힌 소켓)
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> frames = new CopyOnWriteArrayList<>();
+        private final CountDownLatch resumed = new CountDownLatch(1);
+        private volatile boolean fail;
+        private volatile boolean stalled;
+        private volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (fail) {
+                throw new IOException("연결이 끊겼습니다.");
+            }
+            if (stalled) {
+                try {
+                    resumed.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            StringBuilder frame = new StringBuilder();
+            builder.build().forEach(data -> frame.append(data.getData()));
+            frames.add(frame.toString());
+        }
+
+        @Override
+        public void complete() {
+            if (fail) {
+                throw new IllegalStateException("이미 오류로 끝난 요청입니다.");
+            }
+            completed = true;
+            super.complete();
+        }
+
+        void stall() {
+            stalled = true;
+        }
+
+        void resume() {
+            resumed.countDown();
+        }
+    }
+}
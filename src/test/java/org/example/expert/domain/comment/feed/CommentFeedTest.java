@@ -0,0 +1,213 @@
+package org.example.expert.domain.comment.feed;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 댓글 저장/수정이 커밋되면 /todos/{todoId}/comments/events 구독자에게 전달되는지 확인한다
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "comment-ingest.enabled=true",
+        "comment-ingest.batch-size=7"
+})
+class CommentFeedTest {
+
+    private static final long MANAGER_ID = 900021L;
+    private static final String MANAGER_EMAIL = "feed@example.com";
+    private static final long TODO_ID = 900021L;
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role) VALUES (?, ?, 'pw', 'USER')", MANAGER_ID, MANAGER_EMAIL);
+        jdbcTemplate.update("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) VALUES (?, '제목', '내용', 'Sunny', ?, ?, ?)",
+                TODO_ID, MANAGER_ID, LocalDateTime.now(), LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO managers (user_id, todo_id) VALUES (?, ?)", MANAGER_ID, TODO_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DELETE FROM comments");
+        jdbcTemplate.execute("DELETE FROM managers");
+        jdbcTemplate.execute("DELETE FROM todos");
+        jdbcTemplate.execute("DELETE FROM users");
+    }
+
+    @Test
+    void 저장과_수정이_커밋되면_구독자에게_순서대로_보내고_재연결하면_놓친_이벤트를_다시_보낸다() throws Exception {
+        // given
+        Subscription subscription = subscribe(null);
+        Map<String, String> ready = subscription.nextEvent();
+        assertEquals(CommentFeedHub.READY_EVENT, ready.get("event"));
+
+        // when
+        HttpResponse<String> saved = send(request("/todos/" + TODO_ID + "/comments")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"contents\":\"첫 댓글\"}")));
+        long commentId = objectMapper.readTree(saved.body()).get("id").asLong();
+        send(request("/comments/" + commentId)
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"contents\":\"고친 댓글\"}")));
+
+        // then
+        Map<String, String> created = subscription.nextEvent();
+        assertEquals("comment.created", created.get("event"));
+        JsonNode createdComment = objectMapper.readTree(created.get("data"));
+        assertEquals(commentId, createdComment.get("id").asLong());
+        assertEquals("첫 댓글", createdComment.get("contents").asText());
+        assertEquals(MANAGER_EMAIL, createdComment.get("user").get("email").asText());
+
+        Map<String, String> updated = subscription.nextEvent();
+        assertEquals("comment.updated", updated.get("event"));
+        assertEquals("고친 댓글", objectMapper.readTree(updated.get("data")).get("contents").asText());
+        assertEquals(1L, objectMapper.readTree(updated.get("data")).get("version").asLong());
+        subscription.close();
+
+        // when ready 까지만 받고 끊겼던 클라이언트가 다시 붙으면
+        Subscription resumed = subscribe(ready.get("id"));
+
+        // then
+        assertEquals(created.get("id"), resumed.nextEvent().get("id"));
+        assertEquals(updated.get("id"), resumed.nextEvent().get("id"));
+        resumed.close();
+    }
+
+    @Test
+    void 이어서_보낼_수_없는_Last_Event_ID_면_reset_을_보낸다() throws Exception {
+        Subscription subscription = subscribe("1");
+
+        assertEquals(CommentFeedHub.RESET_EVENT, subscription.nextEvent().get("event"));
+        subscription.close();
+    }
+
+    @Test
+    void 비동기로_받은_댓글도_저장된_뒤에_보낸다() throws Exception {
+        // given
+        Subscription subscription = subscribe(null);
+        subscription.nextEvent();
+
+        // when
+        HttpResponse<String> accepted = send(request("/todos/" + TODO_ID + "/comments")
+                .header("Content-Type", "application/json")
+                .header("Prefer", "respond-async")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"contents\":\"나중에 저장\"}")));
+        assertEquals(202, accepted.statusCode());
+
+        // then 임시 id 가 아니라 저장된 댓글 id
+        Map<String, String> created = subscription.nextEvent();
+        assertEquals("comment.created", created.get("event"));
+        JsonNode comment = objectMapper.readTree(created.get("data"));
+        Long savedId = jdbcTemplate.queryForObject("SELECT id FROM comments WHERE todo_id = ?", Long.class, TODO_ID);
+        assertEquals(savedId, comment.get("id").asLong());
+        assertEquals("나중에 저장", comment.get("contents").asText());
+        subscription.close();
+    }
+
+    @Test
+    void 없는_일정은_구독할_수_없다() throws Exception {
+        HttpResponse<String> response = send(request("/todos/1/comments/events")
+                .header("Accept", "text/event-stream")
+                .GET());
+
+        assertEquals(400, response.statusCode());
+    }
+
+    private Subscription subscribe(String lastEventId) throws Exception {
+        HttpRequest.Builder builder = request("/todos/" + TODO_ID + "/comments/events")
+                .header("Accept", "text/event-stream");
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+        HttpResponse<Stream<String>> response = httpClient.send(builder.GET().build(), HttpResponse.BodyHandlers.ofLines());
+        assertEquals(200, response.statusCode());
+        return new Subscription(response.body());
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder builder) throws Exception {
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", jwtUtil.createToken(MANAGER_ID, MANAGER_EMAIL, UserRole.USER));
+    }
+
+    /**
+     * 응답 줄을 별도 스레드에서 읽어 빈 줄 단위로 이벤트를 꺼낸다
+     */
+    private static class Subscription {
+
+        private final Stream<String> body;
+        private final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+
+        private Subscription(Stream<String> body) {
+            this.body = body;
+            Thread reader = new Thread(() -> {
+                try {
+                    body.forEach(lines::add);
+                } catch (RuntimeException e) {
+                    // close() 로 끊은 경우
+                }
+            }, "sse-reader");
+            reader.setDaemon(true);
+            reader.start();
+        }
+
+        private Map<String, String> nextEvent() throws InterruptedException {
+            Map<String, String> fields = new HashMap<>();
+            while (true) {
+                String line = lines.poll(5, TimeUnit.SECONDS);
+                assertNotNull(line, "5초 안에 이벤트가 오지 않았습니다.");
+                if (line.isEmpty()) {
+                    if (!fields.isEmpty()) {
+                        return fields;
+                    }
+                    continue;
+                }
+                int colon = line.indexOf(':');
+                if (colon <= 0) {
+                    // 주석(keepalive)
+                    continue;
+                }
+                fields.merge(line.substring(0, colon), line.substring(colon + 1), (a, b) -> a + "\n" + b);
+            }
+        }
+
+        private void close() {
+            body.close();
+        }
+    }
+}
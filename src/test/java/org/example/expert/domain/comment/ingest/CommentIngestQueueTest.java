@@ -0,0 +1,124 @@
+package org.example.expert.domain.comment.ingest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class CommentIngestQueueTest {
+
+    private final CommentBatchWriter writer = mock(CommentBatchWriter.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+    private CommentIngestQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null && queue.isRunning()) {
+            queue.stop();
+        }
+    }
+
+    @Test
+    void 쌓인_댓글을_batchSize_만큼씩_받은_순서대로_쓴다() throws InterruptedException {
+        // given 첫 배치를 쓰는 동안 나머지가 쌓이도록 writer 를 잠시 막는다
+        CountDownLatch release = new CountDownLatch(1);
+        recordBatches(release);
+        queue = start(100, 3);
+
+        // when
+        queue.enqueue(comment("c0"));
+        verify(writer, timeout(1_000)).write(anyList());
+        for (int i = 1; i < 8; i++) {
+            queue.enqueue(comment("c" + i));
+        }
+        assertEquals(7, queue.depth());
+        release.countDown();
+        queue.stop();
+
+        // then
+        assertEquals(List.of(List.of("c0"), List.of("c1", "c2", "c3"), List.of("c4", "c5", "c6"), List.of("c7")), batches);
+        assertEquals(8.0, meterRegistry.get("comment.ingest.comments").tag("result", "written").counter().count());
+        assertEquals(0.0, meterRegistry.get("comment.ingest.queue.depth").gauge().value());
+    }
+
+    @Test
+    void 대기열이_가득_차면_ServiceUnavailableException_으로_거절한다() {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        recordBatches(release);
+        queue = start(2, 10);
+        queue.enqueue(comment("c0"));
+        verify(writer, timeout(1_000)).write(anyList());
+        queue.enqueue(comment("c1"));
+        queue.enqueue(comment("c2"));
+
+        // when & then
+        assertThrows(ServiceUnavailableException.class, () -> queue.enqueue(comment("c3")));
+        assertEquals(1.0, meterRegistry.get("comment.ingest.comments").tag("result", "rejected").counter().count());
+        release.countDown();
+    }
+
+    @Test
+    void writer_가_예외를_던져도_다음_배치를_계속_쓴다() {
+        // given
+        when(writer.write(anyList()))
+                .thenThrow(new IllegalStateException("boom"))
+                .thenReturn(1);
+        queue = start(10, 1);
+
+        // when
+        queue.enqueue(comment("c0"));
+        verify(writer, timeout(1_000)).write(anyList());
+        queue.enqueue(comment("c1"));
+        queue.stop();
+
+        // then
+        verify(writer, times(2)).write(anyList());
+        assertEquals(1.0, meterRegistry.get("comment.ingest.comments").tag("result", "dropped").counter().count());
+        assertEquals(1.0, meterRegistry.get("comment.ingest.comments").tag("result", "written").counter().count());
+    }
+
+    @Test
+    void 멈추면_더_받지_않는다() {
+        queue = start(10, 10);
+        queue.stop();
+
+        assertThrows(ServiceUnavailableException.class, () -> queue.enqueue(comment("c0")));
+    }
+
+    private void recordBatches(CountDownLatch release) {
+        when(writer.write(anyList())).thenAnswer(invocation -> {
+            List<PendingComment> batch = invocation.getArgument(0);
+            List<String> ids = new ArrayList<>();
+            batch.forEach(comment -> ids.add(comment.getIngestId()));
+            batches.add(ids);
+            release.await(5, TimeUnit.SECONDS);
+            return batch.size();
+        });
+    }
+
+    private CommentIngestQueue start(int capacity, int batchSize) {
+        CommentIngestProperties properties = new CommentIngestProperties();
+        properties.setCapacity(capacity);
+        properties.setBatchSize(batchSize);
+        CommentIngestQueue started = new CommentIngestQueue(writer, properties, meterRegistry);
+        started.start();
+        return started;
+    }
+
+    private static PendingComment comment(String ingestId) {
+        return new PendingComment(ingestId, 1L, 1L, "user@example.com", "내용", LocalDateTime.now());
+    }
+}
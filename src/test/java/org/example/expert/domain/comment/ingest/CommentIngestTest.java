@@ -0,0 +1,191 @@
+package org.example.expert.domain.comment.ingest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prefer: respond-async 댓글이 대기열을 거쳐 배치로 저장되는지 확인한다
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "comment-ingest.enabled=true",
+        "comment-ingest.batch-size=7"
+})
+class CommentIngestTest {
+
+    private static final long MANAGER_ID = 900011L;
+    private static final String MANAGER_EMAIL = "ingest@example.com";
+    private static final long OTHER_ID = 900012L;
+    private static final long TODO_ID = 900011L;
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private CommentIngestQueue commentIngestQueue;
+    @Autowired
+    private CommentBatchWriter commentBatchWriter;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role) VALUES (?, ?, 'pw', 'USER')", MANAGER_ID, MANAGER_EMAIL);
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role) VALUES (?, 'other@example.com', 'pw', 'USER')", OTHER_ID);
+        jdbcTemplate.update("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) VALUES (?, '제목', '내용', 'Sunny', ?, ?, ?)",
+                TODO_ID, MANAGER_ID, LocalDateTime.now(), LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO managers (user_id, todo_id) VALUES (?, ?)", MANAGER_ID, TODO_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DELETE FROM comments");
+        jdbcTemplate.execute("DELETE FROM managers");
+        jdbcTemplate.execute("DELETE FROM todos");
+        jdbcTemplate.execute("DELETE FROM users");
+    }
+
+    @Test
+    void respond_async_댓글은_202_로_응답하고_받은_순서대로_배치_저장된다() throws Exception {
+        // when
+        List<String> provisionalIds = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            HttpResponse<String> response = post(MANAGER_ID, "respond-async", "댓글 " + i);
+            assertEquals(202, response.statusCode(), response.body());
+            assertEquals("respond-async", response.headers().firstValue("Preference-Applied").orElse(null));
+            JsonNode body = objectMapper.readTree(response.body());
+            assertEquals("댓글 " + i, body.get("contents").asText());
+            provisionalIds.add(body.get("provisionalId").asText());
+        }
+        awaitWritten(50);
+
+        // then 같은 일정의 댓글 id 가 요청 순서를 따른다
+        List<String> contents = jdbcTemplate.queryForList(
+                "SELECT contents FROM comments WHERE todo_id = ? ORDER BY id", String.class, TODO_ID);
+        List<String> ingestIds = jdbcTemplate.queryForList(
+                "SELECT ingest_id FROM comments WHERE todo_id = ? ORDER BY id", String.class, TODO_ID);
+        for (int i = 0; i < 50; i++) {
+            assertEquals("댓글 " + i, contents.get(i));
+        }
+        assertEquals(provisionalIds, ingestIds);
+        assertEquals(50, jdbcTemplate.queryForObject("SELECT comment_count FROM todos WHERE id = ?", Integer.class, TODO_ID));
+        assertEquals(0, commentIngestQueue.depth());
+        assertEquals(0.0, meterRegistry.get("comment.ingest.queue.depth").gauge().value());
+        // 저장된 댓글은 기존 조회 API 로 보인다
+        HttpResponse<String> comments = httpClient.send(request(MANAGER_ID, "/todos/" + TODO_ID + "/comments").GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(50, objectMapper.readTree(comments.body()).size());
+    }
+
+    @Test
+    void 담당자가_아니면_대기열에_넣지_않고_바로_400_으로_거절한다() throws Exception {
+        HttpResponse<String> response = post(OTHER_ID, "respond-async", "댓글");
+
+        assertEquals(400, response.statusCode());
+        assertEquals(0, commentIngestQueue.depth());
+    }
+
+    @Test
+    void respond_async_가_아니면_동기로_저장한다() throws Exception {
+        HttpResponse<String> response = post(MANAGER_ID, "return=minimal", "댓글");
+
+        assertEquals(200, response.statusCode(), response.body());
+        assertTrue(objectMapper.readTree(response.body()).get("id").isNumber());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM comments WHERE ingest_id IS NULL", Integer.class));
+    }
+
+    @Test
+    void 배치가_실패하면_한_건씩_다시_써서_정상_댓글은_저장하고_중복은_건너뛴다() {
+        // given 없는 일정의 댓글과 이미 저장된 ingest_id(유니크 위반) 가 섞인 배치
+        LocalDateTime now = LocalDateTime.now();
+        commentBatchWriter.write(List.of(new PendingComment("already-written", TODO_ID, MANAGER_ID, MANAGER_EMAIL, "이미 저장됨", now)));
+        List<PendingComment> batch = List.of(
+                new PendingComment("ok-1", TODO_ID, MANAGER_ID, MANAGER_EMAIL, "첫 번째", now),
+                new PendingComment("missing-todo", 1L, MANAGER_ID, MANAGER_EMAIL, "없는 일정", now),
+                new PendingComment("already-written", TODO_ID, MANAGER_ID, MANAGER_EMAIL, "이미 저장됨", now),
+                new PendingComment("ok-2", TODO_ID, MANAGER_ID, MANAGER_EMAIL, "두 번째", now)
+        );
+
+        // when
+        int written = commentBatchWriter.write(batch);
+
+        // then
+        assertEquals(3, written);
+        assertEquals(List.of("이미 저장됨", "첫 번째", "두 번째"), jdbcTemplate.queryForList(
+                "SELECT contents FROM comments WHERE todo_id = ? ORDER BY id", String.class, TODO_ID));
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT comment_count FROM todos WHERE id = ?", Integer.class, TODO_ID));
+    }
+
+    @Test
+    void 대기열에_있는_동안_일정이_삭제되면_댓글을_넣지_않고_버린다() throws Exception {
+        // given 댓글을 받은 뒤 저장되기 전에 일정이 (댓글과 함께) 소프트 삭제됐다
+        double dropped = meterRegistry.get("comment.ingest.comments").tag("result", "dropped").counter().count();
+        jdbcTemplate.update("UPDATE todos SET deleted_at = ? WHERE id = ?", LocalDateTime.now(), TODO_ID);
+
+        // when
+        commentIngestQueue.enqueue(new PendingComment("after-delete", TODO_ID, MANAGER_ID, MANAGER_EMAIL, "삭제 뒤 저장", LocalDateTime.now()));
+
+        // then
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (meterRegistry.get("comment.ingest.comments").tag("result", "dropped").counter().count() < dropped + 1) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("대기열의 댓글을 버리지 않았습니다.");
+            }
+            Thread.sleep(20);
+        }
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM comments WHERE todo_id = ?", Integer.class, TODO_ID));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT comment_count FROM todos WHERE id = ?", Integer.class, TODO_ID));
+    }
+
+    private void awaitWritten(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM comments WHERE todo_id = ?", Integer.class, TODO_ID);
+            if (count != null && count >= expected) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        fail("대기열의 댓글이 저장되지 않았습니다.");
+    }
+
+    private HttpResponse<String> post(long userId, String prefer, String contents) throws Exception {
+        return httpClient.send(request(userId, "/todos/" + TODO_ID + "/comments")
+                .header("Content-Type", "application/json")
+                .header("Prefer", prefer)
+                .POST(HttpRequest.BodyPublishers.ofString("{\"contents\":\"" + contents + "\"}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder request(long userId, String path) {
+        String email = userId == MANAGER_ID ? MANAGER_EMAIL : "other@example.com";
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", jwtUtil.createToken(userId, email, UserRole.USER));
+    }
+}
@@ -2,6 +2,7 @@ package org.example.expert.domain.comment.service;
 
 import org.example.expert.domain.comment.controller.CommentAdminController;
 import org.example.expert.domain.comment.controller.CommentController;
+import org.example.expert.domain.comment.dto.CommentField;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
@@ -18,7 +19,9 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.ResponseEntity;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
@@ -136,6 +139,27 @@ class CommentControllerTest {
         verify(commentService, times(1)).saveComment(authUser, todoId, request);
     }
 
+    @Test
+    void updateComment_If_Match_버전을_서비스에_전달하고_새_ETag를_반환한다() {
+        // Given
+        AuthUser authUser = new AuthUser(1L, "user@example.com", UserRole.USER);
+        long commentId = 1L;
+        CommentSaveRequest request = new CommentSaveRequest("수정된 댓글");
+        UserResponse userResponse = new UserResponse(1L, "user@example.com");
+        CommentSaveResponse expectedResponse = new CommentSaveResponse(commentId, "수정된 댓글", userResponse, 4L);
+
+        when(commentService.updateComment(authUser, commentId, request, 3L)).thenReturn(expectedResponse);
+
+        // When
+        ResponseEntity<CommentSaveResponse> response = commentController.updateComment(authUser, commentId, "\"3\"", request);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"4\"", response.getHeaders().getETag());
+        assertEquals(expectedResponse, response.getBody());
+        verify(commentService, times(1)).updateComment(authUser, commentId, request, 3L);
+    }
+
     @Test
     void getComments_존재하지_않는_todoId로_요청시_빈_리스트를_반환한다() {
         // Given
@@ -151,4 +175,18 @@ class CommentControllerTest {
         verify(commentService, times(1)).getComments(nonExistentTodoId);
     }
 
+    @Test
+    void getCommentFields_고른_필드만_서비스에_전달한다() {
+        // Given
+        long todoId = 1L;
+        List<Map<String, Object>> expected = List.of(Map.of("id", 1L, "contents", "첫 번째 댓글"));
+        when(commentService.getComments(todoId, EnumSet.of(CommentField.ID, CommentField.CONTENTS))).thenReturn(expected);
+
+        // When
+        ResponseEntity<List<Map<String, Object>>> response = commentController.getCommentFields(todoId, "contents");
+
+        // Then
+        assertEquals(expected, response.getBody());
+        verify(commentService, never()).getComments(todoId);
+    }
 }
@@ -5,9 +5,14 @@ import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.feed.CommentChangedEvent;
+import org.example.expert.domain.comment.feed.CommentFeedHub;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.PreconditionFailedException;
+import org.example.expert.domain.common.outbox.DomainEventOutbox;
+import org.example.expert.domain.common.outbox.OutboxEventType;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
@@ -18,8 +23,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -28,6 +35,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -42,6 +50,15 @@ class CommentServiceTest {
 
     @Mock
     private TodoRepository todoRepository;
+
+    @Mock
+    private CommentFeedHub commentFeedHub;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private DomainEventOutbox domainEventOutbox;
     @InjectMocks
     private CommentService commentService;
     @InjectMocks
@@ -58,6 +75,7 @@ class CommentServiceTest {
         authUser = new AuthUser(1L, "test@example.com", UserRole.USER);
         user = User.fromAuthUser(authUser);
         todo = new Todo("Test Todo", "Test Title", "Test Content", user);
+        ReflectionTestUtils.setField(todo, "id", 1L);
         comment = new Comment("Test Comment", user, todo);
     }
 
@@ -100,6 +118,12 @@ class CommentServiceTest {
         assertNotNull(result);
         assertEquals(request.getContents(), result.getContents());
         assertEquals(authUser.getId(), result.getUser().getId());
+        verify(todoRepository).addCommentCount(todo.getId(), 1);
+        verify(domainEventOutbox).append(eq(OutboxEventType.COMMENT_CREATED), eq(todoId), any());
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof CommentChangedEvent changed
+                && changed.getType() == CommentChangedEvent.Type.CREATED
+                && changed.getTodoId() == todoId
+                && "contents".equals(changed.getComment().getContents())));
     }
     @Test
     public void comment_목록을_정상적으로_조회한다() {
@@ -145,18 +169,22 @@ class CommentServiceTest {
         // given
         long commentId = 1L;
 
+        given(commentRepository.softDeleteById(eq(commentId), any(LocalDateTime.class))).willReturn(1);
+
         // when
         commentAdminService.deleteComment(commentId);
 
         // then
-        verify(commentRepository).deleteById(commentId);
+        verify(commentRepository).softDeleteById(eq(commentId), any(LocalDateTime.class));
+        verify(commentRepository, never()).deleteById(anyLong());
+        verify(todoRepository).decrementCommentCountByCommentId(commentId);
     }
 
     @Test
     public void comment_삭제_시_예외가_발생하면_처리한다() {
         // given
         long commentId = 1L;
-        doThrow(new RuntimeException("Delete failed")).when(commentRepository).deleteById(commentId);
+        doThrow(new RuntimeException("Delete failed")).when(commentRepository).softDeleteById(eq(commentId), any(LocalDateTime.class));
 
         // when & then
         assertThrows(RuntimeException.class, () -> commentAdminService.deleteComment(commentId));
@@ -175,16 +203,14 @@ class CommentServiceTest {
     }
 
     @Test
-    public void comment_삭제_시_해당_comment가_존재하지_않으면_예외가_발생한다() {
+    public void comment_삭제_시_해당_comment가_존재하지_않으면_아무것도_하지_않는다() {
         // given
         long commentId = 1L;
-        doThrow(new EmptyResultDataAccessException(1)).when(commentRepository).deleteById(commentId);
+        given(commentRepository.softDeleteById(eq(commentId), any(LocalDateTime.class))).willReturn(0);
 
         // when & then
-        EmptyResultDataAccessException exception = assertThrows(EmptyResultDataAccessException.class, () ->
-                commentAdminService.deleteComment(commentId));
-
-        assertEquals("Incorrect result size: expected 1, actual 0", exception.getMessage());
+        assertDoesNotThrow(() -> commentAdminService.deleteComment(commentId));
+        verify(todoRepository, never()).decrementCommentCountByCommentId(anyLong());
     }
 
     @Test
@@ -194,7 +220,6 @@ class CommentServiceTest {
         CommentSaveRequest request = new CommentSaveRequest("Updated comment");
         Comment existingComment = new Comment("Original comment", user, todo);
         given(commentRepository.findById(commentId)).willReturn(Optional.of(existingComment));
-        given(commentRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
 
         // when
         CommentSaveResponse result = commentService.updateComment(authUser, commentId, request);
@@ -259,7 +284,6 @@ class CommentServiceTest {
         long commentId = 1L;
         CommentSaveRequest request = new CommentSaveRequest("Updated comment");
         when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
-        when(commentRepository.save(any(Comment.class))).thenReturn(comment);
 
         // when
         CommentSaveResponse response = commentService.updateComment(authUser, commentId, request);
@@ -268,7 +292,39 @@ class CommentServiceTest {
         assertNotNull(response);
         assertEquals("Updated comment", response.getContents());
         assertEquals(authUser.getId(), response.getUser().getId());
-        verify(commentRepository).save(any(Comment.class));
+        // 영속 엔티티는 변경 감지로 갱신되므로 save(merge) 를 다시 호출하지 않는다
+        verify(commentRepository, never()).save(any(Comment.class));
+        verify(commentRepository).flush();
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof CommentChangedEvent changed
+                && changed.getType() == CommentChangedEvent.Type.UPDATED
+                && changed.getTodoId() == 1L
+                && "Updated comment".equals(changed.getComment().getContents())));
+    }
+
+    @Test
+    void updateComment_If_Match_버전이_다르면_예외발생() {
+        // given
+        long commentId = 1L;
+        CommentSaveRequest request = new CommentSaveRequest("Updated comment");
+        ReflectionTestUtils.setField(comment, "version", 3L);
+        when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
+
+        // when & then
+        assertThrows(PreconditionFailedException.class, () ->
+                commentService.updateComment(authUser, commentId, request, 2L));
+        assertEquals("Test Comment", comment.getContents());
+        verify(commentRepository, never()).flush();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void 없는_할일의_댓글은_구독할_수_없다() {
+        // given
+        given(todoRepository.existsById(1L)).willReturn(false);
+
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> commentService.subscribeComments(1L, null));
+        verifyNoInteractions(commentFeedHub);
     }
 
     @Test
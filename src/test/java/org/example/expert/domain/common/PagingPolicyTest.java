@@ -0,0 +1,108 @@
+package org.example.expert.domain.common;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.paging.Paging;
+import org.example.expert.domain.common.paging.PagingPolicy;
+import org.example.expert.domain.common.paging.PagingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class PagingPolicyTest {
+
+    private final HikariDataSource dataSource = mock(HikariDataSource.class);
+    private final HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PagingPolicy pagingPolicy;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        given(dataSource.isWrapperFor(HikariDataSource.class)).willReturn(true);
+        given(dataSource.unwrap(HikariDataSource.class)).willReturn(dataSource);
+        given(dataSource.getMaximumPoolSize()).willReturn(10);
+        given(dataSource.getHikariPoolMXBean()).willReturn(pool);
+        pagingPolicy = new PagingPolicy(new PagingProperties(), dataSource, meterRegistry);
+    }
+
+    @Test
+    void page_나_size_가_1_미만이면_예외() {
+        assertThrows(InvalidRequestException.class, () -> pagingPolicy.resolve(0, 10));
+        assertThrows(InvalidRequestException.class, () -> pagingPolicy.resolve(-1, null));
+        assertThrows(InvalidRequestException.class, () -> pagingPolicy.resolve(1, 0));
+    }
+
+    @Test
+    void 최대값_이하의_size_는_그대로_쓴다() {
+        Paging paging = pagingPolicy.resolve(3, 100);
+
+        assertEquals(3, paging.getPage());
+        assertEquals(100, paging.getSize());
+        assertFalse(paging.isClamped());
+        assertTrue(paging.headers().isEmpty());
+        assertEquals(2, paging.toPageable().getPageNumber());
+    }
+
+    @Test
+    void 최대값을_넘는_size_는_줄이고_헤더와_메트릭에_남긴다() {
+        Paging paging = pagingPolicy.resolve(1, 1_000_000);
+
+        assertEquals(100, paging.getSize());
+        assertEquals(Paging.REASON_MAX_SIZE, paging.getClampReason());
+        assertEquals("100", paging.headers().getFirst(Paging.APPLIED_SIZE_HEADER));
+        assertEquals(Paging.REASON_MAX_SIZE, paging.headers().getFirst(Paging.CLAMP_REASON_HEADER));
+        assertEquals(1.0, meterRegistry.counter("paging.size.clamped", "reason", Paging.REASON_MAX_SIZE).count());
+    }
+
+    @Test
+    void 풀이_여유있으면_기본값() {
+        given(pool.getActiveConnections()).willReturn(7);
+
+        Paging paging = pagingPolicy.resolve(1, null);
+
+        assertEquals(10, paging.getSize());
+        assertFalse(paging.isClamped());
+    }
+
+    @Test
+    void 사용중인_커넥션이_임계치_이상이면_기본값을_줄인다() {
+        given(pool.getActiveConnections()).willReturn(8);
+
+        Paging paging = pagingPolicy.resolve(1, null);
+
+        assertEquals(5, paging.getSize());
+        assertEquals(Paging.REASON_POOL_SATURATED, paging.getClampReason());
+        assertEquals(1.0, meterRegistry.counter("paging.size.clamped", "reason", Paging.REASON_POOL_SATURATED).count());
+    }
+
+    @Test
+    void 커넥션을_기다리는_스레드가_있으면_기본값을_줄인다() {
+        given(pool.getThreadsAwaitingConnection()).willReturn(1);
+
+        assertEquals(5, pagingPolicy.resolve(1, null).getSize());
+    }
+
+    @Test
+    void 풀이_포화여도_명시한_size_는_줄이지_않는다() {
+        given(pool.getThreadsAwaitingConnection()).willReturn(3);
+
+        Paging paging = pagingPolicy.resolve(1, 50);
+
+        assertEquals(50, paging.getSize());
+        assertFalse(paging.isClamped());
+    }
+
+    @Test
+    void 풀이_아직_없으면_기본값() {
+        given(dataSource.getHikariPoolMXBean()).willReturn(null);
+
+        assertEquals(10, pagingPolicy.resolve(1, null).getSize());
+    }
+}
@@ -0,0 +1,213 @@
+package org.example.expert.domain.common;
+
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.comment.dto.CommentField;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.TodoField;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.repository.TodoSpecifications;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.seed.BulkDataSeeder;
+import org.example.expert.seed.SeedProperties;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 레포지토리 쿼리가 실제로 만드는 SQL 을 가로채 H2 EXPLAIN 으로 실행계획을 확인한다.
+ * 인덱스 없이 테이블 전체를 훑는 쿼리(tableScan)가 생기면 실패한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "org.example.expert.domain.common.QueryPlanTest$CapturingStatementInspector")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeAll
+    void seed() {
+        // 비어있는 테이블은 옵티마이저가 스캔을 고르므로 어느 정도 데이터를 채운 뒤 통계를 갱신한다
+        SeedProperties properties = new SeedProperties();
+        properties.setUsers(200);
+        properties.setTodos(2_000);
+        properties.setComments(10_000);
+        new BulkDataSeeder(jdbcTemplate, new PasswordEncoder(), properties).seed();
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterAll
+    void tearDown() {
+        jdbcTemplate.execute("DELETE FROM comments");
+        jdbcTemplate.execute("DELETE FROM managers");
+        jdbcTemplate.execute("DELETE FROM todos");
+        jdbcTemplate.execute("DELETE FROM users");
+    }
+
+    @BeforeEach
+    void clearCapturedSql() {
+        CapturingStatementInspector.SQL.clear();
+    }
+
+    @Test
+    void 댓글_목록_조회는_todo_id_인덱스를_사용한다() {
+        commentRepository.findByTodoIdWithUser(1L);
+        assertNoFullScan();
+    }
+
+    @Test
+    void 담당자_목록_조회는_todo_id_인덱스를_사용한다() {
+        managerRepository.findByTodoIdWithUser(1L);
+        assertNoFullScan();
+    }
+
+    @Test
+    void 일정_목록_조회는_modified_at_인덱스로_정렬한다() {
+        todoRepository.findAllByOrderByModifiedAtDesc(PageRequest.of(0, 10));
+        List<String> plans = assertNoFullScan();
+        assertTrue(plans.stream().anyMatch(plan -> plan.contains("IDX_TODOS_DELETED_AT_MODIFIED_AT")),
+                "deleted_at, modified_at 인덱스를 사용하지 않습니다: " + plans);
+    }
+
+    @Test
+    void 일정_필드_선택_조회는_고른_컬럼만_읽고_인덱스로_정렬한다() {
+        todoRepository.findAllFieldsByOrderByModifiedAtDesc(EnumSet.of(TodoField.ID, TodoField.TITLE), PageRequest.of(0, 10));
+        List<String> plans = assertNoFullScan();
+        assertTrue(plans.get(0).contains("IDX_TODOS_DELETED_AT_MODIFIED_AT"), plans.get(0));
+        String sql = CapturingStatementInspector.SQL.get(0).toLowerCase();
+        assertFalse(sql.contains("contents") || sql.contains("users"), sql);
+    }
+
+    @Test
+    void 댓글_필드_선택_조회는_고른_컬럼만_읽는다() {
+        commentRepository.findFieldsByTodoId(1L, EnumSet.of(CommentField.ID, CommentField.CONTENTS));
+        assertNoFullScan();
+        String sql = CapturingStatementInspector.SQL.get(0).toLowerCase();
+        assertFalse(sql.contains("users") || sql.contains("version"), sql);
+    }
+
+    @Test
+    void 내_일정_조회는_user_id_복합_인덱스로_정렬한다() {
+        todoRepository.findByUserIdAndIdLessThan(1L, Long.MAX_VALUE, Limit.of(11));
+        List<String> plans = assertNoFullScan();
+        assertTrue(plans.get(0).contains("IDX_TODOS_USER_ID_DELETED_AT_ID"), plans.get(0));
+    }
+
+    @Test
+    void 담당_일정_조회는_담당자_복합_인덱스와_일정_PK_만_사용한다() {
+        managerRepository.findTodoIdsByUserIdAndTodoIdLessThan(1L, Long.MAX_VALUE, Limit.of(11));
+        List<String> plans = assertNoFullScan();
+        assertTrue(plans.get(0).contains("IDX_MANAGERS_USER_ID_TODO_ID") && plans.get(0).contains("PRIMARY_KEY"), plans.get(0));
+        String sql = CapturingStatementInspector.SQL.get(0).toLowerCase();
+        assertFalse(sql.contains("title") || sql.contains("contents"), sql);
+    }
+
+    @Test
+    void 날씨_검색은_날씨_복합_인덱스로_거르고_정렬한다() {
+        TodoSearchCondition condition = new TodoSearchCondition("Sunny", LocalDateTime.now().minusDays(7), LocalDateTime.now(), null, null);
+        todoRepository.findAll(TodoSpecifications.of(condition), PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "modifiedAt")));
+        List<String> plans = assertNoFullScan();
+        assertTrue(plans.stream().allMatch(plan -> plan.contains("IDX_TODOS_DELETED_AT_WEATHER_MODIFIED_AT")), plans.toString());
+    }
+
+    @Test
+    void 수정일_기간_검색은_modified_at_인덱스를_사용한다() {
+        TodoSearchCondition condition = new TodoSearchCondition(null, LocalDateTime.now().minusDays(7), LocalDateTime.now(), null, null);
+        todoRepository.findAll(TodoSpecifications.of(condition), PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "modifiedAt")));
+        List<String> plans = assertNoFullScan();
+        assertTrue(plans.stream().allMatch(plan -> plan.contains("IDX_TODOS_DELETED_AT_MODIFIED_AT")), plans.toString());
+    }
+
+    @Test
+    void 이메일_조회는_유니크_인덱스를_사용한다() {
+        userRepository.findByEmail("seed-user-1@example.com");
+        userRepository.existsByEmail("seed-user-1@example.com");
+        assertNoFullScan();
+    }
+
+    @Test
+    void 소프트_삭제_정리_조회는_deleted_at_인덱스를_사용한다() {
+        commentRepository.findIdsDeletedBefore(LocalDateTime.now(), 1_000);
+        todoRepository.findIdsDeletedBefore(LocalDateTime.now(), 1_000);
+        List<String> plans = assertNoFullScan();
+        assertTrue(plans.stream().allMatch(plan -> plan.contains("_DELETED_AT")),
+                "deleted_at 인덱스를 사용하지 않습니다: " + plans);
+    }
+
+    private List<String> assertNoFullScan() {
+        List<String> sqls = new ArrayList<>(CapturingStatementInspector.SQL);
+        assertFalse(sqls.isEmpty(), "캡처된 SQL 이 없습니다.");
+        List<String> plans = new ArrayList<>();
+        for (String sql : sqls) {
+            String plan = explain(sql);
+            plans.add(plan);
+            // count(*) 전체 건수는 H2 가 메타데이터로 바로 응답하므로 스캔으로 보지 않는다
+            assertFalse(plan.contains(".tableScan") && !plan.contains("direct lookup"),
+                    "전체 스캔이 발생했습니다.\nSQL: " + sql + "\nPLAN: " + plan);
+        }
+        return plans;
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((java.sql.Connection con) -> {
+            try (PreparedStatement ps = con.prepareStatement("EXPLAIN " + sql)) {
+                int parameterCount = sql.length() - sql.replace("?", "").length();
+                for (int i = 1; i <= parameterCount; i++) {
+                    ps.setObject(i, 1);
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    StringBuilder plan = new StringBuilder();
+                    while (rs.next()) {
+                        plan.append(rs.getString(1));
+                    }
+                    return plan.toString();
+                }
+            }
+        });
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> SQL = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.trim().toLowerCase().startsWith("select")) {
+                SQL.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.expert.domain.common;
+
+import jakarta.persistence.Tuple;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.fields.SparseFields;
+import org.example.expert.domain.todo.dto.TodoField;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SparseFieldsTest {
+
+    @Test
+    void 요청하지_않아도_id_는_항상_포함된다() {
+        Set<TodoField> fields = SparseFields.parse("title, commentCount,", TodoField.class, TodoField.ID);
+
+        assertEquals(EnumSet.of(TodoField.ID, TodoField.TITLE, TodoField.COMMENT_COUNT), fields);
+    }
+
+    @Test
+    void 지원하지_않는_필드는_예외가_발생한다() {
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> SparseFields.parse("title,password", TodoField.class, TodoField.ID));
+
+        assertEquals("지원하지 않는 필드입니다: password", exception.getMessage());
+    }
+
+    @Test
+    void 고른_필드의_컬럼만_select_하고_같은_키로_변환한다() {
+        // given
+        Set<TodoField> fields = EnumSet.of(TodoField.ID, TodoField.TITLE, TodoField.USER);
+        Tuple tuple = mock(Tuple.class);
+        when(tuple.get("id")).thenReturn(1L);
+        when(tuple.get("title")).thenReturn("제목");
+        when(tuple.get("userId", Long.class)).thenReturn(2L);
+        when(tuple.get("userEmail", String.class)).thenReturn("a@a.com");
+
+        // when
+        String select = SparseFields.selectClause(fields);
+        Map<String, Object> row = SparseFields.toMap(tuple, fields);
+
+        // then
+        assertEquals("t.id AS id, t.title AS title, u.id AS userId, u.email AS userEmail", select);
+        assertEquals(List.of("id", "title", "user"), List.copyOf(row.keySet()));
+        UserResponse user = (UserResponse) row.get("user");
+        assertEquals(2L, user.getId());
+        assertEquals("a@a.com", user.getEmail());
+    }
+}
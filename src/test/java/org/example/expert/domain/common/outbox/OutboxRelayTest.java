@@ -0,0 +1,323 @@
+package org.example.expert.domain.common.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.service.UserAdminService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 변경과 같은 트랜잭션에서 기록한 이벤트를 relay 가 최소 한 번, 기록 순서대로 발행하는지 확인한다
+ */
+@SpringBootTest(properties = {
+        "outbox.relay-enabled=true",
+        "outbox.poll-interval=50ms",
+        "outbox.initial-backoff=20ms",
+        "outbox.max-backoff=200ms",
+        "outbox.max-retry-duration=1h",
+        "outbox.retention=1d",
+        "outbox.cleanup-interval=100ms"
+})
+class OutboxRelayTest {
+
+    private static final long OWNER_ID = 900031L;
+    private static final long MEMBER_ID = 900032L;
+    private static final long TODO_ID = 900033L;
+    private static final Set<Long> AGGREGATE_IDS = Set.of(OWNER_ID, MEMBER_ID, TODO_ID);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private DomainEventOutbox domainEventOutbox;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private ManagerService managerService;
+    @Autowired
+    private UserAdminService userAdminService;
+    @Autowired
+    private OutboxRelay outboxRelay;
+    @Autowired
+    private RecordingListener listener;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role) VALUES (?, 'owner@example.com', 'pw', 'USER')", OWNER_ID);
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role) VALUES (?, 'member@example.com', 'pw', 'USER')", MEMBER_ID);
+        jdbcTemplate.update("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) VALUES (?, '제목', '내용', 'Sunny', ?, ?, ?)",
+                TODO_ID, OWNER_ID, LocalDateTime.now(), LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO managers (user_id, todo_id) VALUES (?, ?)", OWNER_ID, TODO_ID);
+        listener.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        listener.reset();
+        jdbcTemplate.execute("DELETE FROM outbox_events");
+        jdbcTemplate.execute("DELETE FROM comments");
+        jdbcTemplate.execute("DELETE FROM managers");
+        jdbcTemplate.execute("DELETE FROM todos");
+        jdbcTemplate.execute("DELETE FROM users");
+    }
+
+    @Test
+    void 커밋된_변경의_이벤트를_기록한_순서대로_발행한다() throws Exception {
+        // when
+        AuthUser owner = new AuthUser(OWNER_ID, "owner@example.com", UserRole.USER);
+        commentService.saveComment(owner, TODO_ID, new CommentSaveRequest("댓글"));
+        managerService.saveManager(owner, TODO_ID, new ManagerSaveRequest(MEMBER_ID));
+        userAdminService.changeUserRole(MEMBER_ID, new UserRoleChangeRequest("ADMIN"));
+
+        // then
+        awaitUntil(() -> received().size() == 3);
+        List<OutboxEvent> events = received();
+        assertEquals(List.of("comment.created", "manager.assigned", "user.role-changed"),
+                events.stream().map(OutboxEvent::getEventType).toList());
+        assertEquals("todo", events.get(0).getAggregateType());
+        assertEquals(TODO_ID, events.get(0).getAggregateId());
+        JsonNode comment = objectMapper.readTree(events.get(0).getPayload());
+        assertEquals(TODO_ID, comment.get("todoId").asLong());
+        assertEquals(OWNER_ID, comment.get("userId").asLong());
+        assertTrue(comment.get("commentId").asLong() > 0);
+        assertEquals(MEMBER_ID, objectMapper.readTree(events.get(1).getPayload()).get("userId").asLong());
+        assertEquals("user", events.get(2).getAggregateType());
+        assertEquals("ADMIN", objectMapper.readTree(events.get(2).getPayload()).get("role").asText());
+
+        awaitUntil(() -> countPending() == 0);
+        assertTrue(meterRegistry.get("outbox.relay.delay").timer().count() >= 3);
+    }
+
+    @Test
+    void 롤백된_트랜잭션의_이벤트는_남지_않는다() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            domainEventOutbox.append(OutboxEventType.TODO_CREATED, TODO_ID, DomainEventOutbox.payload("todoId", TODO_ID));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE aggregate_id = ?", Integer.class, TODO_ID));
+    }
+
+    @Test
+    void 트랜잭션_밖에서는_기록할_수_없다() {
+        assertThrows(IllegalTransactionStateException.class, () ->
+                domainEventOutbox.append(OutboxEventType.TODO_CREATED, TODO_ID, DomainEventOutbox.payload("todoId", TODO_ID)));
+    }
+
+    @Test
+    void 발행에_실패하면_같은_이벤트부터_다시_발행해_순서를_지킨다() {
+        // given 첫 이벤트가 두 번 실패한다
+        listener.failFor(OWNER_ID, 2);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            domainEventOutbox.append(OutboxEventType.USER_ROLE_CHANGED, OWNER_ID, DomainEventOutbox.payload("userId", OWNER_ID));
+            domainEventOutbox.append(OutboxEventType.USER_ROLE_CHANGED, MEMBER_ID, DomainEventOutbox.payload("userId", MEMBER_ID));
+        });
+
+        // then 실패한 시도까지 포함해 A, A, A, B
+        awaitUntil(() -> received().size() == 4);
+        assertEquals(List.of(OWNER_ID, OWNER_ID, OWNER_ID, MEMBER_ID),
+                received().stream().map(OutboxEvent::getAggregateId).toList());
+        awaitUntil(() -> countPending() == 0);
+    }
+
+    @Test
+    void 구독자_장애가_길어져도_이벤트를_건너뛰지_않고_장애가_끝나면_순서대로_모두_발행한다() {
+        // given 구독자가 poll 주기(50ms)의 20배인 1초 동안 모두 실패한다
+        listener.failAll(true);
+        transactionTemplate.executeWithoutResult(status -> {
+            domainEventOutbox.append(OutboxEventType.USER_ROLE_CHANGED, OWNER_ID, DomainEventOutbox.payload("userId", OWNER_ID));
+            domainEventOutbox.append(OutboxEventType.USER_ROLE_CHANGED, MEMBER_ID, DomainEventOutbox.payload("userId", MEMBER_ID));
+            domainEventOutbox.append(OutboxEventType.TODO_CREATED, TODO_ID, DomainEventOutbox.payload("todoId", TODO_ID));
+        });
+        sleep(Duration.ofSeconds(1));
+
+        // then 장애 동안에는 맨 앞 이벤트만 backoff 간격으로 다시 시도한다
+        List<Long> duringOutage = received().stream().map(OutboxEvent::getAggregateId).toList();
+        assertTrue(duringOutage.size() > 3, duringOutage.toString());
+        assertTrue(duringOutage.size() < 20, "backoff 없이 poll 마다 시도했습니다. " + duringOutage.size());
+        assertTrue(duringOutage.stream().allMatch(id -> id == OWNER_ID), duringOutage.toString());
+
+        // when 구독자가 돌아온다
+        listener.failAll(false);
+
+        // then 하나도 건너뛰지 않고 기록한 순서대로 발행한다
+        awaitUntil(() -> countPending() == 0);
+        List<Long> delivered = received().stream().map(OutboxEvent::getAggregateId).skip(duringOutage.size()).toList();
+        assertEquals(List.of(OWNER_ID, MEMBER_ID, TODO_ID), delivered.subList(delivered.size() - 3, delivered.size()));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE abandoned_at IS NOT NULL", Integer.class));
+    }
+
+    @Test
+    void 처음_실패한_뒤_maxRetryDuration_동안_실패한_이벤트는_건너뛰고_테이블에_남긴다() {
+        // given 2시간 전부터 실패해 온 이벤트와 그 뒤의 이벤트
+        listener.failFor(OWNER_ID, Integer.MAX_VALUE);
+        jdbcTemplate.update("INSERT INTO outbox_events (event_type, aggregate_type, aggregate_id, payload, created_at, attempts, first_failed_at) VALUES ('user.role-changed', 'user', ?, '{}', ?, 30, ?)",
+                OWNER_ID, LocalDateTime.now().minusHours(2), LocalDateTime.now().minusHours(2));
+
+        // when
+        transactionTemplate.executeWithoutResult(status ->
+                domainEventOutbox.append(OutboxEventType.USER_ROLE_CHANGED, MEMBER_ID, DomainEventOutbox.payload("userId", MEMBER_ID)));
+
+        // then
+        awaitUntil(() -> received().stream().anyMatch(event -> event.getAggregateId() == MEMBER_ID));
+        assertEquals(1, received().stream().filter(event -> event.getAggregateId() == OWNER_ID).count());
+        assertEquals(31, jdbcTemplate.queryForObject(
+                "SELECT attempts FROM outbox_events WHERE aggregate_id = ? AND published_at IS NULL AND abandoned_at IS NOT NULL", Integer.class, OWNER_ID));
+    }
+
+    @Test
+    void 오래_발행되지_못한_이벤트가_있으면_지연으로_드러난다() {
+        // given relay 스레드를 멈추고 직접 돌린다, 1분 전에 기록됐고 발행에 실패하는 이벤트
+        outboxRelay.stop();
+        try {
+            listener.failFor(OWNER_ID, Integer.MAX_VALUE);
+            jdbcTemplate.update("INSERT INTO outbox_events (event_type, aggregate_type, aggregate_id, payload, created_at) VALUES ('user.role-changed', 'user', ?, '{}', ?)",
+                    OWNER_ID, LocalDateTime.now().minusMinutes(1));
+
+            // when
+            outboxRelay.relayPending();
+
+            // then
+            assertTrue(meterRegistry.get("outbox.relay.lag").gauge().value() >= 60);
+        } finally {
+            jdbcTemplate.update("DELETE FROM outbox_events");
+            outboxRelay.start();
+        }
+    }
+
+    @Test
+    void 발행하고_retention_이_지난_이벤트는_지운다() {
+        // given
+        jdbcTemplate.update("INSERT INTO outbox_events (event_type, aggregate_type, aggregate_id, payload, created_at, published_at) VALUES ('todo.created', 'todo', ?, '{}', ?, ?)",
+                TODO_ID, LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(2));
+        jdbcTemplate.update("INSERT INTO outbox_events (event_type, aggregate_type, aggregate_id, payload, created_at, published_at) VALUES ('todo.created', 'todo', ?, '{}', ?, ?)",
+                TODO_ID, LocalDateTime.now(), LocalDateTime.now());
+
+        // then
+        awaitUntil(() -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE aggregate_id = ?", Integer.class, TODO_ID) == 1);
+    }
+
+    // 다른 테스트가 남긴 이벤트는 빼고 본다
+    private List<OutboxEvent> received() {
+        return listener.events.stream()
+                .filter(event -> AGGREGATE_IDS.contains(event.getAggregateId()))
+                .toList();
+    }
+
+    private int countPending() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE published_at IS NULL AND aggregate_id IN (?, ?, ?)",
+                Integer.class, OWNER_ID, MEMBER_ID, TODO_ID);
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(e);
+        }
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("10초 안에 조건을 만족하지 못했습니다.");
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class RecordingListenerConfig {
+
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+    }
+
+    /**
+     * 받은 이벤트를 (실패한 시도까지) 모으고, 지정한 aggregate 의 이벤트는 정해진 횟수만큼 실패시킨다
+     * failAll 동안에는 모든 이벤트를 실패시킨다 (구독자 장애)
+     */
+    static class RecordingListener {
+
+        private final List<OutboxEvent> events = new CopyOnWriteArrayList<>();
+        private final AtomicInteger remainingFailures = new AtomicInteger();
+        private volatile long failingAggregateId;
+        private volatile boolean down;
+
+        @EventListener
+        public void on(OutboxEvent event) {
+            events.add(event);
+            if (down && AGGREGATE_IDS.contains(event.getAggregateId())) {
+                throw new IllegalStateException("구독자 장애");
+            }
+            if (event.getAggregateId() == failingAggregateId && remainingFailures.getAndDecrement() > 0) {
+                throw new IllegalStateException("구독자 장애");
+            }
+        }
+
+        void failFor(long aggregateId, int times) {
+            remainingFailures.set(times);
+            failingAggregateId = aggregateId;
+        }
+
+        void failAll(boolean down) {
+            this.down = down;
+        }
+
+        void reset() {
+            down = false;
+            failingAggregateId = 0;
+            remainingFailures.set(0);
+            events.clear();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.expert.domain.manager.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.expert.config.AuthUserArgumentResolver;
+import org.example.expert.config.AuthUserContext;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.manager.controller.ManagerController;
@@ -75,9 +76,7 @@ class ManagerControllerTest {
                         .header("Authorization", token)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request))
-                        .requestAttr("userId", 1L)
-                        .requestAttr("email", "test@example.com")
-                        .requestAttr("role", UserRole.ADMIN.name()))
+                        .requestAttr(AuthUserContext.ATTRIBUTE_NAME, authUser))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andReturn();
@@ -2,6 +2,8 @@ package org.example.expert.domain.manager.service;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.outbox.DomainEventOutbox;
+import org.example.expert.domain.common.outbox.OutboxEventType;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
@@ -29,6 +31,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -44,6 +47,8 @@ class ManagerServiceTest {
     private TodoRepository todoRepository;
     @Mock
     private JwtUtil jwtUtil;
+    @Mock
+    private DomainEventOutbox domainEventOutbox;
     @InjectMocks
     private ManagerService managerService;
 
@@ -133,6 +138,8 @@ class ManagerServiceTest {
         assertNotNull(response);
         assertEquals(managerUser.getId(), response.getUser().getId());
         assertEquals(managerUser.getEmail(), response.getUser().getEmail());
+        verify(todoRepository).addManagerCount(todo.getId(), 1);
+        verify(domainEventOutbox).append(eq(OutboxEventType.MANAGER_ASSIGNED), eq(todoId), any());
     }
 
     @Test
@@ -208,6 +215,8 @@ class ManagerServiceTest {
 
         // then
         verify(managerRepository).delete(manager);
+        verify(todoRepository).addManagerCount(todo.getId(), -1);
+        verify(domainEventOutbox).append(eq(OutboxEventType.MANAGER_REMOVED), eq(todoId), any());
     }
     @Test
     void deleteManager_할일을_찾을_수_없음() {
@@ -1,6 +1,8 @@
 package org.example.expert.domain.user.service;
 
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.outbox.DomainEventOutbox;
+import org.example.expert.domain.common.outbox.OutboxEventType;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
@@ -15,6 +17,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,6 +27,9 @@ class UserAdminServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private DomainEventOutbox domainEventOutbox;
+
     @InjectMocks
     private UserAdminService userAdminService;
 
@@ -45,6 +52,7 @@ class UserAdminServiceTest {
 
         assertEquals(UserRole.ADMIN, testUser.getUserRole());
         verify(userRepository, times(1)).findById(1L);
+        verify(domainEventOutbox).append(eq(OutboxEventType.USER_ROLE_CHANGED), eq(1L), any());
     }
 
     @Test
@@ -69,5 +77,6 @@ class UserAdminServiceTest {
 
         verify(userRepository, times(1)).findById(1L);
         assertEquals(UserRole.USER, testUser.getUserRole());
+        verifyNoInteractions(domainEventOutbox);
     }
 }
\ No newline at end of file
@@ -0,0 +1,248 @@
+package org.example.expert.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.comment.ingest.CommentBatchWriter;
+import org.example.expert.domain.comment.ingest.PendingComment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.outbox.DomainEventOutbox;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * /admin/exports/* 가 cursor 이후에 바뀐 행만 (modified_at, id) 순서로 내보내는지 확인한다
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "export.settle-time=1m")
+class ChangeExportTest {
+
+    private static final long ADMIN_ID = 900041L;
+    private static final long USER_ID = 900042L;
+    private static final LocalDateTime BASE = LocalDateTime.now().minusHours(1).truncatedTo(ChronoUnit.SECONDS);
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private JwtUtil jwtUtil;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private ExportProperties exportProperties;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private DomainEventOutbox domainEventOutbox;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role) VALUES (?, 'export-admin@example.com', 'pw', 'ADMIN')", ADMIN_ID);
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role) VALUES (?, 'export@example.com', 'pw', 'USER')", USER_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        exportProperties.setSettleTime(Duration.ofMinutes(1));
+        jdbcTemplate.execute("DELETE FROM outbox_events");
+        jdbcTemplate.execute("DELETE FROM comments");
+        jdbcTemplate.execute("DELETE FROM managers");
+        jdbcTemplate.execute("DELETE FROM todos");
+        jdbcTemplate.execute("DELETE FROM users");
+    }
+
+    @Test
+    void limit_단위로_나눠_modified_at_과_id_순서대로_한_번씩_내보낸다() throws Exception {
+        // given 같은 시각에 바뀐 행은 id 순서
+        insertTodo(900043L, BASE.plusMinutes(2));
+        insertTodo(900041L, BASE.plusMinutes(1));
+        insertTodo(900042L, BASE.plusMinutes(1));
+
+        // when
+        Export first = export("/admin/exports/todos?limit=2");
+        Export second = export("/admin/exports/todos?limit=2&cursor=" + first.nextCursor);
+        Export third = export("/admin/exports/todos?limit=2&cursor=" + second.nextCursor);
+
+        // then
+        assertEquals(List.of(900041L, 900042L), first.ids());
+        assertTrue(first.hasMore);
+        assertEquals(List.of(900043L), second.ids());
+        assertFalse(second.hasMore);
+        assertTrue(third.rows.isEmpty());
+
+        JsonNode row = first.rows.get(0);
+        assertEquals(USER_ID, row.get("userId").asLong());
+        assertEquals("제목 900041", row.get("title").asText());
+        assertEquals(0L, row.get("version").asLong());
+        assertTrue(row.get("deletedAt").isNull());
+        assertFalse(row.has("commentCount"));
+    }
+
+    @Test
+    void 마지막_cursor_이후에_수정되거나_삭제된_행만_내보낸다() throws Exception {
+        // given
+        insertTodo(900041L, BASE);
+        insertTodo(900042L, BASE);
+        insertComment(900041L, 900041L, BASE);
+        insertComment(900042L, 900041L, BASE);
+        // 마지막 행에서 멈춘 cursor (다 읽었다면 settle 시각까지 넘어가 과거 시각으로 고친 아래 행들을 건너뛴다)
+        String todoCursor = export("/admin/exports/todos?limit=2").nextCursor;
+        String commentCursor = export("/admin/exports/comments?limit=2").nextCursor;
+
+        // when 일정 하나는 수정, 다른 일정은 댓글과 함께 소프트 삭제
+        jdbcTemplate.update("UPDATE todos SET title = '수정', version = 1, modified_at = ? WHERE id = ?",
+                Timestamp.valueOf(BASE.plusMinutes(5)), 900042L);
+        LocalDateTime deletedAt = BASE.plusMinutes(10);
+        transactionTemplate.executeWithoutResult(status -> {
+            todoRepository.softDeleteByIdAndVersion(900041L, 0L, deletedAt);
+            commentRepository.softDeleteAllByTodoId(900041L, deletedAt);
+        });
+
+        // then
+        Export todos = export("/admin/exports/todos?cursor=" + todoCursor);
+        assertEquals(List.of(900042L, 900041L), todos.ids());
+        assertEquals("수정", todos.rows.get(0).get("title").asText());
+        assertEquals(deletedAt, LocalDateTime.parse(todos.rows.get(1).get("deletedAt").asText()));
+
+        Export comments = export("/admin/exports/comments?cursor=" + commentCursor);
+        assertEquals(List.of(900041L, 900042L), comments.ids());
+        assertEquals(900041L, comments.rows.get(0).get("todoId").asLong());
+        assertFalse(comments.rows.get(0).get("deletedAt").isNull());
+        assertEquals(1L, comments.rows.get(0).get("version").asLong());
+    }
+
+    @Test
+    void settle_time_보다_최근에_바뀐_행은_다음_내보내기로_미룬다() throws Exception {
+        // given
+        insertTodo(900041L, BASE);
+        insertTodo(900042L, LocalDateTime.now().minusSeconds(30));
+
+        // when settle-time(1m) 안에 바뀐 행은 빼고, 시간이 지난 뒤에는 그 cursor 부터 이어서 내보낸다
+        Export first = export("/admin/exports/todos");
+        exportProperties.setSettleTime(Duration.ZERO);
+        Export second = export("/admin/exports/todos?cursor=" + first.nextCursor);
+
+        // then
+        assertEquals(List.of(900041L), first.ids());
+        assertFalse(first.hasMore);
+        assertEquals(List.of(900042L), second.ids());
+    }
+
+    @Test
+    void 대기열에서_오래_기다린_댓글도_저장된_뒤의_내보내기에_나온다() throws Exception {
+        // given settle-time 보다 오래 전에 받은 댓글이 아직 대기열에 있다
+        insertTodo(900041L, BASE);
+        LocalDateTime acceptedAt = LocalDateTime.now().minusMinutes(10).truncatedTo(ChronoUnit.MICROS);
+        String cursor = export("/admin/exports/comments").nextCursor;
+        CommentBatchWriter writer = new CommentBatchWriter(jdbcTemplate, transactionTemplate, eventPublisher, domainEventOutbox);
+
+        // when 이제서야 배치가 저장된다
+        writer.write(List.of(new PendingComment("export-ingest-1", 900041L, USER_ID, "export@example.com", "늦은 댓글", acceptedAt)));
+        exportProperties.setSettleTime(Duration.ZERO);
+        Export comments = export("/admin/exports/comments?cursor=" + cursor);
+
+        // then 작성 시각은 받은 시각 그대로, 이미 받은 cursor 이후로 내보낸다
+        assertEquals(1, comments.rows.size());
+        JsonNode row = comments.rows.get(0);
+        assertEquals("늦은 댓글", row.get("contents").asText());
+        assertEquals(acceptedAt, LocalDateTime.parse(row.get("createdAt").asText()));
+        assertTrue(LocalDateTime.parse(row.get("modifiedAt").asText()).isAfter(LocalDateTime.now().minusMinutes(1)));
+    }
+
+    @Test
+    void 잘못된_cursor_나_다른_테이블의_cursor_는_거절한다() throws Exception {
+        insertTodo(900041L, BASE);
+        String todoCursor = export("/admin/exports/todos").nextCursor;
+
+        assertEquals(400, send("/admin/exports/todos?cursor=not-a-cursor", UserRole.ADMIN).statusCode());
+        assertEquals(400, send("/admin/exports/comments?cursor=" + todoCursor, UserRole.ADMIN).statusCode());
+        assertEquals(400, send("/admin/exports/todos?limit=0", UserRole.ADMIN).statusCode());
+    }
+
+    @Test
+    void 관리자가_아니면_내보낼_수_없다() throws Exception {
+        assertEquals(403, send("/admin/exports/todos", UserRole.USER).statusCode());
+    }
+
+    private void insertTodo(long id, LocalDateTime modifiedAt) {
+        jdbcTemplate.update("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) VALUES (?, ?, '내용', 'Sunny', ?, ?, ?)",
+                id, "제목 " + id, USER_ID, Timestamp.valueOf(BASE), Timestamp.valueOf(modifiedAt));
+    }
+
+    private void insertComment(long id, long todoId, LocalDateTime modifiedAt) {
+        jdbcTemplate.update("INSERT INTO comments (id, contents, user_id, todo_id, created_at, modified_at) VALUES (?, '댓글', ?, ?, ?, ?)",
+                id, USER_ID, todoId, Timestamp.valueOf(BASE), Timestamp.valueOf(modifiedAt));
+    }
+
+    private Export export(String path) throws Exception {
+        HttpResponse<String> response = send(path, UserRole.ADMIN);
+        assertEquals(200, response.statusCode(), response.body());
+        assertTrue(response.headers().firstValue("Content-Type").orElseThrow().startsWith("application/x-ndjson"));
+
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : response.body().split("\n")) {
+            if (!line.isEmpty()) {
+                rows.add(objectMapper.readTree(line));
+            }
+        }
+        return new Export(rows,
+                response.headers().firstValue(ChangeExportController.NEXT_CURSOR).orElseThrow(),
+                Boolean.parseBoolean(response.headers().firstValue(ChangeExportController.HAS_MORE).orElseThrow()));
+    }
+
+    private HttpResponse<String> send(String path, UserRole role) throws Exception {
+        long userId = role == UserRole.ADMIN ? ADMIN_ID : USER_ID;
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", jwtUtil.createToken(userId, "export@example.com", role))
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static class Export {
+
+        private final List<JsonNode> rows;
+        private final String nextCursor;
+        private final boolean hasMore;
+
+        private Export(List<JsonNode> rows, String nextCursor, boolean hasMore) {
+            this.rows = rows;
+            this.nextCursor = nextCursor;
+            this.hasMore = hasMore;
+        }
+
+        private List<Long> ids() {
+            return rows.stream().map(row -> row.get("id").asLong()).toList();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package org.example.expert.purge;
+
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SoftDeletePurgeJobTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 10, 3, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+
+    private final PurgeProperties properties = new PurgeProperties();
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        properties.setPauseBetweenBatches(Duration.ZERO);
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role) VALUES (1, 'purge@example.com', 'pw', 'USER')");
+        insertTodo(1L);
+        insertTodo(2L);
+    }
+
+    // 배치마다 커밋하므로 테스트 트랜잭션 롤백 대신 직접 정리한다
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DELETE FROM comments");
+        jdbcTemplate.execute("DELETE FROM managers");
+        jdbcTemplate.execute("DELETE FROM todos");
+        jdbcTemplate.execute("DELETE FROM users");
+    }
+
+    @Test
+    void 소프트_삭제된_일정과_댓글은_조회에서_제외된다() {
+        // given
+        insertComments(1L, 3, null);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            todoRepository.softDeleteByIdAndVersion(1L, 0L, NOW);
+            commentRepository.softDeleteAllByTodoId(1L, NOW);
+        });
+
+        // then
+        assertTrue(todoRepository.findById(1L).isEmpty());
+        assertTrue(todoRepository.findByIdWithUser(1L).isEmpty());
+        assertTrue(commentRepository.findByTodoIdWithUser(1L).isEmpty());
+        assertEquals(1, todoRepository.count());
+        // 행은 정리 배치가 돌기 전까지 남아 있다
+        assertEquals(3, count("comments"));
+        assertEquals(2, count("todos"));
+    }
+
+    @Test
+    void 보존_기간이_지난_행만_배치로_나눠_삭제한다() {
+        // given
+        properties.setBatchSize(2);
+        insertComments(2L, 5, NOW.minusDays(8));
+        insertComments(2L, 1, NOW.minusHours(1));
+        insertComments(2L, 4, null);
+        // 일정 1 은 댓글/담당자와 함께 삭제됨
+        insertComments(1L, 3, NOW.minusDays(8));
+        jdbcTemplate.update("UPDATE todos SET deleted_at = ? WHERE id = 1", Timestamp.valueOf(NOW.minusDays(8)));
+
+        // when
+        long purged = job().purge(NOW.minus(properties.getRetention()));
+
+        // then
+        assertEquals(5 + 3 + 1, purged);
+        assertEquals(1 + 4, count("comments"));
+        assertEquals(1, count("todos"));
+        assertEquals(1, count("managers"));
+    }
+
+    @Test
+    void 한_번의_실행은_최대_배치_수까지만_삭제한다() {
+        // given
+        properties.setBatchSize(2);
+        properties.setMaxBatchesPerRun(1);
+        insertComments(2L, 5, NOW.minusDays(8));
+
+        // when
+        long purged = job().purge(NOW);
+
+        // then
+        assertEquals(2, purged);
+        assertEquals(3, count("comments"));
+    }
+
+    private SoftDeletePurgeJob job() {
+        return new SoftDeletePurgeJob(commentRepository, managerRepository, todoRepository, transactionTemplate, properties);
+    }
+
+    private void insertTodo(long todoId) {
+        jdbcTemplate.update("INSERT INTO todos (id, title, contents, weather, user_id, version) VALUES (?, 't', 'c', 'Sunny', 1, 0)", todoId);
+        jdbcTemplate.update("INSERT INTO managers (user_id, todo_id) VALUES (1, ?)", todoId);
+    }
+
+    private void insertComments(long todoId, int count, LocalDateTime deletedAt) {
+        for (int i = 0; i < count; i++) {
+            jdbcTemplate.update("INSERT INTO comments (contents, user_id, todo_id, version, deleted_at) VALUES ('c', 1, ?, 0, ?)",
+                    todoId, deletedAt == null ? null : Timestamp.valueOf(deletedAt));
+        }
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
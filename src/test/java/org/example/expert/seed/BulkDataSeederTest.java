@@ -0,0 +1,110 @@
+package org.example.expert.seed;
+
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BulkDataSeederTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    // 시드는 배치마다 커밋하므로 테스트 트랜잭션 롤백 대신 직접 정리한다
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DELETE FROM comments");
+        jdbcTemplate.execute("DELETE FROM managers");
+        jdbcTemplate.execute("DELETE FROM todos");
+        jdbcTemplate.execute("DELETE FROM users");
+    }
+
+    @Test
+    void 설정한_수만큼_데이터가_생성된다() {
+        // given
+        SeedProperties properties = new SeedProperties();
+        properties.setUsers(20);
+        properties.setTodos(100);
+        properties.setExtraManagersPerTodo(2);
+        properties.setComments(1_000);
+        properties.setBatchSize(64);
+        BulkDataSeeder seeder = new BulkDataSeeder(jdbcTemplate, new PasswordEncoder(), properties);
+
+        // when
+        long rows = seeder.seed();
+
+        // then
+        assertEquals(20 + 100 + 300 + 1_000, rows);
+        assertEquals(20, count("users"));
+        assertEquals(100, count("todos"));
+        assertEquals(300, count("managers"));
+        assertEquals(1_000, count("comments"));
+        // 모든 일정의 작성자는 담당자로 등록되어 있어야 한다
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM todos t WHERE NOT EXISTS " +
+                        "(SELECT 1 FROM managers m WHERE m.todo_id = t.id AND m.user_id = t.user_id)", Long.class));
+        // 일정의 카운터는 실제 댓글/담당자 수와 같아야 한다
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM todos t WHERE " +
+                        "t.comment_count <> (SELECT COUNT(*) FROM comments c WHERE c.todo_id = t.id) OR " +
+                        "t.manager_count <> (SELECT COUNT(*) FROM managers m WHERE m.todo_id = t.id)", Long.class));
+    }
+
+    @Test
+    void 시드_이후에도_JPA_insert의_id가_충돌하지_않는다() {
+        // given
+        SeedProperties properties = new SeedProperties();
+        properties.setUsers(10);
+        properties.setTodos(0);
+        properties.setComments(0);
+        new BulkDataSeeder(jdbcTemplate, new PasswordEncoder(), properties).seed();
+
+        // when
+        User saved = userRepository.saveAndFlush(new User("after-seed@example.com", "password", UserRole.USER));
+
+        // then
+        assertEquals(11, count("users"));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE id = ?", Long.class, saved.getId()));
+    }
+
+    @Test
+    void Zipf_분포는_앞쪽_순위에_몰린다() {
+        // given
+        ZipfianGenerator generator = new ZipfianGenerator(1_000, 0.99);
+        SplittableRandom random = new SplittableRandom(1);
+        int hot = 0;
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            long rank = generator.next(random);
+            assertTrue(rank >= 0 && rank < 1_000);
+            if (rank < 10) {
+                hot++;
+            }
+        }
+
+        // then 상위 1% 항목이 전체의 20% 이상을 차지한다
+        assertTrue(hot > 2_000);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}